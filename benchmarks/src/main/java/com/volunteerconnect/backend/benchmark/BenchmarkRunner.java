@@ -0,0 +1,72 @@
+package com.volunteerconnect.backend.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Runs the benchmarks and writes the results as JSON to {@code results/<label>.json}, so runs on
+ * different commits can be compared side by side (e.g. with https://jmh.morethan.net).
+ *
+ * The label defaults to the short git commit id (suffixed with "-dirty" for uncommitted changes), or a timestamp
+ * outside a git checkout; override it with {@code -Dbench.label=...} and the directory with {@code -Dbench.results=...}.
+ * All regular JMH options are accepted, e.g. {@code java -jar target/benchmarks.jar EventResponse -p rosterSize=100}.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws Exception {
+        Path resultsDir = Path.of(System.getProperty("bench.results", "results"));
+        Files.createDirectories(resultsDir);
+        Path resultFile = resultsDir.resolve(label() + ".json");
+
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultFile.toString())
+                .build();
+        new Runner(options).run();
+        System.out.println("Results written to " + resultFile.toAbsolutePath());
+    }
+
+    private static String label() {
+        String label = System.getProperty("bench.label");
+        if (label != null && !label.isBlank()) {
+            return label;
+        }
+        String commit = git("rev-parse", "--short", "HEAD");
+        if (commit != null) {
+            String changes = git("status", "--porcelain", "--untracked-files=no");
+            return changes == null || changes.isEmpty() ? commit : commit + "-dirty";
+        }
+        return LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+    }
+
+    private static String git(String... args) {
+        String[] command = new String[args.length + 1];
+        command[0] = "git";
+        System.arraycopy(args, 0, command, 1, args.length);
+        try {
+            Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            String output;
+            try (InputStream in = process.getInputStream()) {
+                output = new String(in.readAllBytes(), StandardCharsets.UTF_8).trim();
+            }
+            return process.waitFor() == 0 ? output : null;
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.volunteerconnect.backend.benchmark;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.volunteerconnect.backend.dto.EventResponse;
+import com.volunteerconnect.backend.dto.json.EventResponseJsonWriter;
+import com.volunteerconnect.backend.model.Event;
+import com.volunteerconnect.backend.service.EventServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping and JSON serialization of a single event, by number of registered volunteers.
+ * The roster is embedded in every EventResponse, so its size dominates both costs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class EventResponseBenchmark {
+
+    @Param({"0", "10", "100", "1000"})
+    public int rosterSize;
+
+    private EventServiceImpl eventService;
+    private Event event;
+    private EventResponse response;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        eventService = Fixtures.eventService();
+        event = Fixtures.event(rosterSize);
+        response = eventService.convertToDto(event);
+        // Same defaults as the ObjectMapper Spring Boot configures for the controllers
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    @Benchmark
+    public EventResponse convertToDto() {
+        return eventService.convertToDto(event);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    /** Serialization into a discarding stream, i.e. without the cost of growing a byte array. */
+    @Benchmark
+    public void serializeToStream() throws Exception {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), response);
+    }
+
+    /** Same output as serializeToStream, written field by field by the converter the controllers use. */
+    @Benchmark
+    public void streamingWriterToStream() throws Exception {
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(OutputStream.nullOutputStream(), JsonEncoding.UTF8)) {
+            EventResponseJsonWriter.writeEvent(gen, response);
+        }
+    }
+
+    @Benchmark
+    public byte[] convertAndSerialize() throws Exception {
+        return objectMapper.writeValueAsBytes(eventService.convertToDto(event));
+    }
+}
@@ -0,0 +1,222 @@
+package com.volunteerconnect.backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.volunteerconnect.backend.config.tracing.Spans;
+import com.volunteerconnect.backend.dto.organization.OrganizationStatsResponse;
+import com.volunteerconnect.backend.dto.recommendation.RecommendedEventResponse;
+import com.volunteerconnect.backend.model.Event;
+import com.volunteerconnect.backend.model.EventRegistration;
+import com.volunteerconnect.backend.model.RegistrationStatus;
+import com.volunteerconnect.backend.model.Role;
+import com.volunteerconnect.backend.model.User;
+import com.volunteerconnect.backend.model.organization.Organization;
+import com.volunteerconnect.backend.repository.EventRegistrationRepository;
+import com.volunteerconnect.backend.repository.EventRepository;
+import com.volunteerconnect.backend.repository.UserRepository;
+import com.volunteerconnect.backend.repository.notification.OutboxNotificationRepository;
+import com.volunteerconnect.backend.repository.organization.OrganizationRepository;
+import com.volunteerconnect.backend.security.JwtService;
+import com.volunteerconnect.backend.service.EventServiceImpl;
+import com.volunteerconnect.backend.service.RegistrationMetrics;
+import com.volunteerconnect.backend.service.notification.NotificationOutbox;
+import com.volunteerconnect.backend.service.organization.OrganizationStatsService;
+import com.volunteerconnect.backend.service.recommendation.RecommendationService;
+import com.volunteerconnect.backend.service.stream.EventStreamService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.api.OpenTelemetry;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic test data and hand-wired services for the benchmarks (no Spring context, no database).
+ */
+final class Fixtures {
+
+    // Same key and expiry as application.properties
+    static final String JWT_SECRET = "F1q0rCsR9Or0ov8EHGDTPSKfeoY8/E+HSPXZq8WfF3s=";
+    static final long JWT_EXPIRATION_MS = 36_000_000L;
+
+    private static final LocalDateTime EVENT_DATE = LocalDateTime.of(2030, 6, 1, 9, 30);
+
+    private Fixtures() {
+    }
+
+    static JwtService jwtService() {
+        JwtService jwtService = new JwtService(Clock.systemUTC());
+        setField(jwtService, "SECRET_KEY", JWT_SECRET);
+        setField(jwtService, "JWT_EXPIRATION", JWT_EXPIRATION_MS);
+        return jwtService;
+    }
+
+    /**
+     * Only {@code convertToDto} is benchmarked, which touches no repository. The repositories throw if a path does
+     * reach them; the write-path hooks do nothing.
+     */
+    static EventServiceImpl eventService() {
+        return new EventServiceImpl(
+                unavailable(EventRepository.class),
+                unavailable(UserRepository.class),
+                unavailable(OrganizationRepository.class),
+                unavailable(EventRegistrationRepository.class),
+                new RegistrationMetrics(new SimpleMeterRegistry()),
+                new NoOpOrganizationStats(),
+                new NoOpRecommendations(),
+                new NoOpNotificationOutbox(),
+                new EventStreamService(unavailable(EventRepository.class), Duration.ofMinutes(30), 0, 0,
+                        new SimpleMeterRegistry()), // No subscribers, so eventChanged does nothing
+                new Spans(OpenTelemetry.noop()));
+    }
+
+    static User user(long id, Role role) {
+        return User.builder()
+                .id(id)
+                .username("user" + id)
+                .password("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z0qP6bQ0xWqYkZ6n7lF3bV6a")
+                .email("user" + id + "@example.org")
+                .firstName("First" + id)
+                .lastName("Last" + id)
+                .role(role)
+                .build();
+    }
+
+    static Event event(int rosterSize) {
+        Organization organization = Organization.builder()
+                .id(1L)
+                .name("Riverside Food Bank")
+                .contactEmail("contact@riverside.example.org")
+                .active(true)
+                .build();
+        List<User> roster = new ArrayList<>(rosterSize);
+        for (int i = 0; i < rosterSize; i++) {
+            roster.add(user(1_000L + i, Role.VOLUNTEER));
+        }
+        return Event.builder()
+                .id(42L)
+                .title("Saturday food sorting")
+                .description("Sort and pack donations for the weekend distribution. Gloves and aprons provided.")
+                .eventDate(EVENT_DATE)
+                .location("12 Harbour Road")
+                .capacity(Math.max(rosterSize, 1))
+                .requiredSkills("lifting,teamwork")
+                .active(true)
+                .organization(organization)
+                .organizer(user(1L, Role.ORGANIZER))
+                .registeredVolunteers(roster)
+                .build();
+    }
+
+    // A repository the benchmarked code is not expected to touch: fails loudly instead of with a NullPointerException
+    private static <T> T unavailable(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> type.getSimpleName() + " (unavailable)";
+                };
+            }
+            throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName()
+                    + " is not available in the benchmarks");
+        }));
+    }
+
+    private static final class NoOpOrganizationStats implements OrganizationStatsService {
+        @Override
+        public OrganizationStatsResponse getStats(Long organizationId) {
+            return OrganizationStatsResponse.builder().organizationId(organizationId).build();
+        }
+
+        @Override
+        public void organizationCreated(Long organizationId) {
+        }
+
+        @Override
+        public void eventCreated(Event event) {
+        }
+
+        @Override
+        public void eventUpdated(Event event, int previousCapacity, boolean previousActive, LocalDateTime previousEventDate) {
+        }
+
+        @Override
+        public void eventDeleting(Event event) {
+        }
+
+        @Override
+        public void registrationCreated(EventRegistration registration) {
+        }
+
+        @Override
+        public void registrationStatusChanged(EventRegistration registration, RegistrationStatus previousStatus) {
+        }
+
+        @Override
+        public int rebuild() {
+            return 0;
+        }
+
+        @Override
+        public int refreshUpcoming() {
+            return 0;
+        }
+    }
+
+    private static final class NoOpRecommendations implements RecommendationService {
+        @Override
+        public List<RecommendedEventResponse> getRecommendations(Long volunteerId, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public void eventSaved(Event event) {
+        }
+
+        @Override
+        public void eventDeleted(Long eventId) {
+        }
+
+        @Override
+        public void registrationCreated(EventRegistration registration) {
+        }
+
+        @Override
+        public void registrationStatusChanged(EventRegistration registration, RegistrationStatus previousStatus) {
+        }
+
+        @Override
+        public int refresh() {
+            return 0;
+        }
+    }
+
+    private static final class NoOpNotificationOutbox extends NotificationOutbox {
+        NoOpNotificationOutbox() {
+            super(unavailable(OutboxNotificationRepository.class), new ObjectMapper(), Clock.systemUTC());
+        }
+
+        @Override
+        public int eventChanged(Event event, LocalDateTime previousEventDate, String previousLocation) {
+            return 0;
+        }
+
+        @Override
+        public void registrationConfirmed(EventRegistration registration) {
+        }
+    }
+
+    private static void setField(Object target, String name, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot set " + name + " on " + target.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.volunteerconnect.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+/**
+ * Thin blocking HTTP client for the backend API. Every call is timed and recorded under an operation name;
+ * transport failures (timeouts, refused connections) are recorded with status 0.
+ * Meant to be called from virtual threads, so blocking is cheap.
+ */
+class ApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient http;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final String password;
+    private final LatencyStats stats;
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+
+    record Response(int status, String body) {
+
+        boolean ok() {
+            return status >= 200 && status < 300;
+        }
+    }
+
+    record Session(String token, long userId) {
+    }
+
+    ApiClient(String baseUrl, String password, LatencyStats stats) {
+        this.baseUrl = baseUrl;
+        this.password = password;
+        this.stats = stats;
+        this.http = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+    }
+
+    LatencyStats stats() {
+        return stats;
+    }
+
+    /** POST /api/auth/login, recorded as {@code operation}. Returns the session, or null if the login failed. */
+    Session login(String operation, String username) {
+        String body = json(Map.of("username", username, "password", password));
+        Response response = send(operation, request("/api/auth/login", null).POST(HttpRequest.BodyPublishers.ofString(body)));
+        if (!response.ok()) {
+            return null;
+        }
+        JsonNode json = parse(response.body());
+        return new Session(json.path("token").asText(), json.path("userId").asLong());
+    }
+
+    /**
+     * The cached session of a user, created the first time by logging in (recorded as "login (session)").
+     * Scenarios reuse a bounded set of sessions, so after warmup they measure their own endpoints rather than BCrypt.
+     */
+    Session session(String username) {
+        Session session = sessions.get(username);
+        if (session == null) {
+            session = login("login (session)", username);
+            if (session != null) {
+                sessions.put(username, session);
+            }
+        }
+        return session;
+    }
+
+    Response get(String operation, String path, Session session) {
+        return send(operation, request(path, session).GET());
+    }
+
+    Response post(String operation, String path, Session session, Object body) {
+        String json = body == null ? "" : json(body);
+        return send(operation, request(path, session).POST(HttpRequest.BodyPublishers.ofString(json)));
+    }
+
+    JsonNode parse(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unexpected response body: " + body, e);
+        }
+    }
+
+    private HttpRequest.Builder request(String path, Session session) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+        if (session != null) {
+            builder.header("Authorization", "Bearer " + session.token());
+        }
+        return builder;
+    }
+
+    private Response send(String operation, HttpRequest.Builder request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            stats.record(operation, System.nanoTime() - start, response.statusCode());
+            return new Response(response.statusCode(), response.body());
+        } catch (IOException e) {
+            stats.record(operation, System.nanoTime() - start, 0);
+            return new Response(0, "");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Response(0, "");
+        }
+    }
+
+    private String json(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
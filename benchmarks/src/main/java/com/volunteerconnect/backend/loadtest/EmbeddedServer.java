@@ -0,0 +1,36 @@
+package com.volunteerconnect.backend.loadtest;
+
+import com.volunteerconnect.backend.BackendApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * The backend running in the harness's JVM on a random port.
+ */
+final class EmbeddedServer implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+
+    private EmbeddedServer(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    /** Starts the backend with the given profiles and extra {@code --property=value} arguments. */
+    static EmbeddedServer start(String profiles, String... args) {
+        String[] all = new String[args.length + 2];
+        all[0] = "--spring.profiles.active=" + profiles;
+        all[1] = "--server.port=0";
+        System.arraycopy(args, 0, all, 2, args.length);
+        return new EmbeddedServer(SpringApplication.run(BackendApplication.class, all));
+    }
+
+    String url() {
+        return "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
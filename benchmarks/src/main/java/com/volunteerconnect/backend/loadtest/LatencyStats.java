@@ -0,0 +1,83 @@
+package com.volunteerconnect.backend.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms and status-code counts per operation, safe to record into from any number of threads.
+ */
+class LatencyStats {
+
+    private static final long MAX_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(2);
+
+    private final Map<String, Operation> operations = new ConcurrentHashMap<>();
+
+    void record(String operation, long latencyNanos, int status) {
+        operations.computeIfAbsent(operation, k -> new Operation()).record(latencyNanos, status);
+    }
+
+    void reset() {
+        operations.clear();
+    }
+
+    record Summary(long count, double throughput, double p50Ms, double p99Ms, double maxMs, String statuses) {
+    }
+
+    /** Summaries of everything recorded since the last call (or reset), by operation name. */
+    Map<String, Summary> drain(Duration elapsed) {
+        double seconds = elapsed.toNanos() / 1e9;
+        Map<String, Summary> summaries = new TreeMap<>();
+        operations.forEach((name, operation) -> {
+            Histogram histogram = operation.recorder.getIntervalHistogram();
+            summaries.put(name, new Summary(histogram.getTotalCount(), histogram.getTotalCount() / seconds,
+                    millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getMaxValue()), operation.statuses.toString()));
+        });
+        return summaries;
+    }
+
+    void print(PrintStream out, String title, Duration elapsed) {
+        double seconds = elapsed.toNanos() / 1e9;
+        out.println();
+        out.println("== " + title + " (" + String.format("%.1f", seconds) + " s)");
+        out.printf("%-28s %9s %9s %9s %9s %9s %9s %9s  %s%n",
+                "operation", "count", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "status codes");
+        new TreeMap<>(operations).forEach((name, operation) -> {
+            Histogram histogram = operation.recorder.getIntervalHistogram();
+            out.printf("%-28s %9d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f  %s%n",
+                    name,
+                    histogram.getTotalCount(),
+                    histogram.getTotalCount() / seconds,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()),
+                    operation.statuses);
+        });
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private static final class Operation {
+
+        private final Recorder recorder = new Recorder(MAX_TRACKABLE_NANOS, 3);
+        private final Map<Integer, LongAdder> statuses = new ConcurrentSkipListMap<>();
+
+        void record(long latencyNanos, int status) {
+            recorder.recordValue(Math.min(latencyNanos, MAX_TRACKABLE_NANOS));
+            statuses.computeIfAbsent(status, k -> new LongAdder()).increment();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.volunteerconnect.backend.loadtest;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs a scenario for a fixed time, every user action on its own virtual thread.
+ */
+final class LoadDriver {
+
+    /** Open loop: arrivals that find this many actions still in flight are dropped (and counted) instead of queued. */
+    private static final int MAX_IN_FLIGHT = 10_000;
+
+    private LoadDriver() {
+    }
+
+    /**
+     * {@code concurrency} virtual users, each starting its next action as soon as the previous one finished.
+     * Measures what the server sustains, but hides queueing delay: a slow response also delays the next request.
+     */
+    static void closedLoop(Scenario scenario, ApiClient client, int concurrency, Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        AtomicLong iterations = new AtomicLong();
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                users.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        scenario.iteration(client, iterations.getAndIncrement());
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Actions start at a fixed {@code ratePerSecond}, whether or not earlier ones have finished.
+     * Each action is additionally recorded as "{@code <scenario> (from schedule)}", measured from its scheduled
+     * start rather than its actual start, so delays caused by a backed-up client or server are not omitted.
+     */
+    static void openLoop(Scenario scenario, ApiClient client, int ratePerSecond, Duration duration) throws InterruptedException {
+        long intervalNanos = 1_000_000_000L / ratePerSecond;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        String operation = scenario.name() + " (from schedule)";
+        Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+        try (ExecutorService arrivals = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long scheduled = start + i * intervalNanos;
+                if (scheduled >= end) {
+                    break;
+                }
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                if (!inFlight.tryAcquire()) {
+                    client.stats().record(operation, System.nanoTime() - scheduled, -1);
+                    continue;
+                }
+                long iteration = i;
+                arrivals.submit(() -> {
+                    try {
+                        scenario.iteration(client, iteration);
+                        client.stats().record(operation, System.nanoTime() - scheduled, 200);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+    }
+}
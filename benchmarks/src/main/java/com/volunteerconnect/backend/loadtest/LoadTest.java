@@ -0,0 +1,71 @@
+package com.volunteerconnect.backend.loadtest;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Load-test harness: drives the scenarios in {@link Scenario} against a backend running with the
+ * {@code loadtest} profile and prints throughput and latency percentiles per operation.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.volunteerconnect.backend.loadtest.LoadTest --boot --scenario=browse --concurrency=100
+ * </pre>
+ * With {@code --boot} the backend runs in the same JVM on a random port; for numbers that are not skewed by the client sharing CPUs with the server, start it separately
+ * ({@code --spring.profiles.active=loadtest}) and pass {@code --url} instead.
+ * See {@link LoadTestOptions#USAGE} for all options.
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        if (List.of(args).contains("--help")) {
+            System.out.println(LoadTestOptions.USAGE);
+            return;
+        }
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        EmbeddedServer server = options.boot() ? EmbeddedServer.start("loadtest") : null;
+        String url = server != null ? server.url() : options.url();
+        try {
+            LatencyStats stats = new LatencyStats();
+            ApiClient client = new ApiClient(url, options.password(), stats);
+            System.out.printf("Load test against %s: %s, %s%n", url, options.scenarios(), describe(options));
+
+            for (String name : options.scenarios()) {
+                Scenario scenario = Scenario.byName(name, options);
+                long start = warmUpAndRun(scenario, client, options);
+                stats.print(System.out, scenario.name(), Duration.ofNanos(System.nanoTime() - start));
+                stats.reset();
+            }
+        } finally {
+            if (server != null) {
+                server.close();
+            }
+        }
+    }
+
+    static String describe(LoadTestOptions options) {
+        return options.mode() == LoadTestOptions.Mode.CLOSED
+                ? "closed loop, " + options.concurrency() + " virtual users"
+                : "open loop, " + options.rate() + " arrivals/s";
+    }
+
+    /** Prepares the scenario, runs the warmup, clears the stats and runs the measured part; returns its start time. */
+    static long warmUpAndRun(Scenario scenario, ApiClient client, LoadTestOptions options) throws InterruptedException {
+        scenario.prepare(client);
+        if (!options.warmup().isZero()) {
+            run(scenario, client, options, options.warmup());
+        }
+        client.stats().reset();
+        long start = System.nanoTime();
+        run(scenario, client, options, options.duration());
+        return start;
+    }
+
+    private static void run(Scenario scenario, ApiClient client, LoadTestOptions options, Duration duration)
+            throws InterruptedException {
+        switch (options.mode()) {
+            case CLOSED -> LoadDriver.closedLoop(scenario, client, options.concurrency(), duration);
+            case OPEN -> LoadDriver.openLoop(scenario, client, options.rate(), duration);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.volunteerconnect.backend.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command-line options of the load test, given as {@code --name=value} (flags as {@code --name}).
+ */
+record LoadTestOptions(
+        String url,
+        boolean boot,
+        List<String> scenarios,
+        Mode mode,
+        int concurrency,
+        int rate,
+        Duration duration,
+        Duration warmup,
+        String password,
+        int volunteers,
+        int organizers) {
+
+    enum Mode {
+        /** A fixed number of virtual users, each sending its next request as soon as the previous one completed. */
+        CLOSED,
+        /** Requests arrive at a fixed rate regardless of how fast the server answers. */
+        OPEN
+    }
+
+    static final String USAGE = """
+            Options (all optional):
+              --url=http://localhost:8080   server to test (ignored with --boot)
+              --boot                        start the backend in-process with the loadtest profile
+              --scenario=login,browse,register,dashboard   comma separated, or "all" (default)
+              --mode=closed|open            closed loop (default) or open loop
+              --concurrency=50              virtual users in closed-loop mode
+              --rate=200                    arrivals per second in open-loop mode
+              --duration=30s --warmup=10s   measured and discarded run time per scenario
+              --password=password --volunteers=2000 --organizers=20   must match the seed settings
+            """;
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument '" + arg + "'\n" + USAGE);
+            }
+            int eq = arg.indexOf('=');
+            values.put(eq < 0 ? arg.substring(2) : arg.substring(2, eq), eq < 0 ? "true" : arg.substring(eq + 1));
+        }
+        String scenarios = values.getOrDefault("scenario", "all");
+        return new LoadTestOptions(
+                values.getOrDefault("url", "http://localhost:8080"),
+                Boolean.parseBoolean(values.getOrDefault("boot", "false")),
+                scenarios.equals("all") ? List.of("login", "browse", "register", "dashboard")
+                        : Arrays.stream(scenarios.split(",")).map(String::trim).toList(),
+                Mode.valueOf(values.getOrDefault("mode", "closed").toUpperCase()),
+                Integer.parseInt(values.getOrDefault("concurrency", "50")),
+                Integer.parseInt(values.getOrDefault("rate", "200")),
+                duration(values.getOrDefault("duration", "30s")),
+                duration(values.getOrDefault("warmup", "10s")),
+                values.getOrDefault("password", "password"),
+                Integer.parseInt(values.getOrDefault("volunteers", "2000")),
+                Integer.parseInt(values.getOrDefault("organizers", "20")));
+    }
+
+    /** "30s", "2m", "500ms" */
+    private static Duration duration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        return Duration.parse("PT" + value.toUpperCase());
+    }
+}
@@ -0,0 +1,135 @@
+package com.volunteerconnect.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.volunteerconnect.backend.config.LoadTestDataSeeder;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * One kind of user behaviour. {@link #iteration} is a single user action (which may take several requests);
+ * drivers call it concurrently from many virtual threads with an increasing iteration number.
+ * Users are the ones created by LoadTestDataSeeder: {@code volunteer0..N} and {@code organizer0..N}.
+ */
+interface Scenario {
+
+    String name();
+
+    /** Runs once before the warmup, e.g. to look up ids. */
+    default void prepare(ApiClient client) {
+    }
+
+    void iteration(ApiClient client, long iteration);
+
+    static Scenario byName(String name, LoadTestOptions options) {
+        return switch (name) {
+            case "login" -> new LoginStorm(options.volunteers());
+            case "browse" -> new EventBrowsing(options.volunteers());
+            case "register" -> new RegistrationBurst(options.volunteers());
+            case "dashboard" -> new OrganizerDashboard(options.organizers());
+            default -> throw new IllegalArgumentException("Unknown scenario '" + name
+                    + "', expected one of login, browse, register, dashboard");
+        };
+    }
+
+    /** Many volunteers logging in at once (BCrypt check plus token generation per request). */
+    record LoginStorm(int volunteers) implements Scenario {
+
+        public String name() {
+            return "login";
+        }
+
+        public void iteration(ApiClient client, long iteration) {
+            client.login("login", "volunteer" + (iteration % volunteers));
+        }
+    }
+
+    /** Logged-in volunteers listing events and opening one of them. */
+    record EventBrowsing(int volunteers) implements Scenario {
+
+        public String name() {
+            return "browse";
+        }
+
+        public void iteration(ApiClient client, long iteration) {
+            // A bounded set of sessions, so steady-state browsing is measured rather than logins
+            ApiClient.Session session = client.session("volunteer" + (iteration % Math.min(volunteers, 200)));
+            if (session == null) {
+                return;
+            }
+            ApiClient.Response events = client.get("list events", "/api/events", session);
+            if (!events.ok()) {
+                return;
+            }
+            JsonNode list = client.parse(events.body());
+            if (list.isArray() && !list.isEmpty()) {
+                long id = list.get(ThreadLocalRandom.current().nextInt(list.size())).path("id").asLong();
+                client.get("event detail", "/api/events/" + id, session);
+            }
+        }
+    }
+
+    /**
+     * Every volunteer logs in and registers for the same hot event. Once it is full the API answers 400,
+     * and repeated attempts (more iterations than volunteers) answer 409.
+     */
+    final class RegistrationBurst implements Scenario {
+
+        private final int volunteers;
+        private long hotEventId;
+
+        RegistrationBurst(int volunteers) {
+            this.volunteers = volunteers;
+        }
+
+        public String name() {
+            return "register";
+        }
+
+        public void prepare(ApiClient client) {
+            ApiClient.Session session = client.session("organizer0");
+            if (session == null) {
+                throw new IllegalStateException("Cannot log in as organizer0; is the server running with the loadtest profile?");
+            }
+            ApiClient.Response events = client.get("list events (setup)", "/api/events", session);
+            for (JsonNode event : client.parse(events.body())) {
+                if (LoadTestDataSeeder.HOT_EVENT_TITLE.equals(event.path("title").asText())) {
+                    hotEventId = event.path("id").asLong();
+                    return;
+                }
+            }
+            throw new IllegalStateException("Seeded event '" + LoadTestDataSeeder.HOT_EVENT_TITLE + "' not found");
+        }
+
+        public void iteration(ApiClient client, long iteration) {
+            ApiClient.Session session = client.session("volunteer" + (iteration % volunteers));
+            if (session != null) {
+                client.post("register hot event", "/api/event-registrations", session, Map.of("eventId", hotEventId));
+            }
+        }
+    }
+
+    /** Organizers loading the first page of their events and the registrations of each. */
+    record OrganizerDashboard(int organizers) implements Scenario {
+
+        private static final int EVENTS_PER_DASHBOARD = 5;
+
+        public String name() {
+            return "dashboard";
+        }
+
+        public void iteration(ApiClient client, long iteration) {
+            ApiClient.Session session = client.session("organizer" + (iteration % organizers));
+            if (session == null) {
+                return;
+            }
+            ApiClient.Response events = client.get("dashboard events", "/api/events/mine?size=" + EVENTS_PER_DASHBOARD, session);
+            if (!events.ok()) {
+                return;
+            }
+            for (JsonNode event : client.parse(events.body()).path("content")) {
+                client.get("dashboard registrations", "/api/event-registrations/event/" + event.path("id").asLong(), session);
+            }
+        }
+    }
+}
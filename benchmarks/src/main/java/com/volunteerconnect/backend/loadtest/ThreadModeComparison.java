@@ -0,0 +1,66 @@
+package com.volunteerconnect.backend.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Runs the same scenarios against the backend on Tomcat's platform thread pool and on virtual threads
+ * ({@code vthreads} profile) and prints the results side by side.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.volunteerconnect.backend.loadtest.ThreadModeComparison --concurrency=400
+ * </pre>
+ * Defaults to the browse (event listing) and register scenarios with 400 virtual users, i.e. twice Tomcat's
+ * default of 200 worker threads. Accepts the same options as {@link LoadTest} ({@code --boot} is implied).
+ * Both servers run one after the other in this JVM, each with a fresh database.
+ */
+public class ThreadModeComparison {
+
+    private record ThreadMode(String name, String profiles, String virtualThreads) {
+    }
+
+    private static final List<ThreadMode> MODES = List.of(
+            new ThreadMode("platform", "loadtest", "false"),
+            new ThreadMode("virtual", "loadtest,vthreads", "true"));
+
+    public static void main(String[] args) throws Exception {
+        List<String> allArgs = new ArrayList<>(List.of("--scenario=browse,register", "--concurrency=400"));
+        allArgs.addAll(List.of(args)); // Later options win
+        LoadTestOptions options = LoadTestOptions.parse(allArgs.toArray(String[]::new));
+
+        Map<String, Map<String, LatencyStats.Summary>> results = new LinkedHashMap<>();
+        for (ThreadMode mode : MODES) {
+            try (EmbeddedServer server = EmbeddedServer.start(mode.profiles(),
+                    "--spring.threads.virtual.enabled=" + mode.virtualThreads(),
+                    "--spring.datasource.url=jdbc:h2:mem:" + mode.name() + ";DB_CLOSE_DELAY=-1")) {
+                LatencyStats stats = new LatencyStats();
+                ApiClient client = new ApiClient(server.url(), options.password(), stats);
+                System.out.printf("%n%s threads: %s, %s%n", mode.name(), options.scenarios(), LoadTest.describe(options));
+                for (String name : options.scenarios()) {
+                    Scenario scenario = Scenario.byName(name, options);
+                    long start = LoadTest.warmUpAndRun(scenario, client, options);
+                    Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+                    stats.drain(elapsed).forEach((operation, summary) ->
+                            results.computeIfAbsent(name + " / " + operation, k -> new LinkedHashMap<>())
+                                    .put(mode.name(), summary));
+                }
+            }
+        }
+        print(results);
+    }
+
+    private static void print(Map<String, Map<String, LatencyStats.Summary>> results) {
+        System.out.println();
+        System.out.printf("%-40s %-9s %9s %9s %9s %9s  %s%n",
+                "scenario / operation", "threads", "req/s", "p50 ms", "p99 ms", "max ms", "status codes");
+        for (String operation : new TreeSet<>(results.keySet())) {
+            results.get(operation).forEach((mode, s) ->
+                    System.out.printf("%-40s %-9s %9.1f %9.2f %9.2f %9.2f  %s%n",
+                            operation, mode, s.throughput(), s.p50Ms(), s.p99Ms(), s.maxMs(), s.statuses()));
+        }
+    }
+}
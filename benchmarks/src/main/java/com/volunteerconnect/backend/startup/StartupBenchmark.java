@@ -0,0 +1,173 @@
+package com.volunteerconnect.backend.startup;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * Measures time to first request of the packaged backend: from launching {@code java} until
+ * {@code GET /api/auth/availability} (a public endpoint that goes through the filter chain and a controller)
+ * answers 200. Each variant is started {@code --runs} times on in-memory H2 and reported as min/median/max.
+ *
+ * <pre>
+ * mvn -Pcds -DskipTests package                 # backend jar with AOT code, plus target/cds with the CDS archive
+ * java -cp target/benchmarks.jar com.volunteerconnect.backend.startup.StartupBenchmark --runs=5
+ * </pre>
+ * Variants whose build output is missing (no AOT code in the jar, no CDS archive) are skipped.
+ * Options: {@code --target=../target} (the backend's build directory), {@code --runs=5},
+ * {@code --variants=jar,lazy,aot,cds,cds+aot}.
+ */
+public class StartupBenchmark {
+
+    private static final String PROBE = "/api/auth/availability?username=startup-probe";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final String AOT_INITIALIZER =
+            "BOOT-INF/classes/com/volunteerconnect/backend/BackendApplication__ApplicationContextInitializer.class";
+
+    private static final List<String> APP_ARGS = List.of(
+            "--spring.datasource.url=jdbc:h2:mem:startup",
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect");
+
+    private record Variant(String name, Path jar, List<String> jvmArgs, List<String> appArgs) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got '" + arg + "'");
+            }
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        Path target = Path.of(options.getOrDefault("target", "../target")).toAbsolutePath().normalize();
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        List<String> selected = Arrays.asList(options.getOrDefault("variants", "jar,lazy,aot,cds,cds+aot").split(","));
+
+        List<Variant> variants = variants(target).stream().filter(v -> selected.contains(v.name())).toList();
+        String java = ProcessHandle.current().info().command().orElse("java");
+        HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+        // One discarded start so every variant finds the jars in the page cache
+        timeToFirstRequest(java, variants.get(0), http);
+
+        Map<String, long[]> results = new LinkedHashMap<>();
+        for (Variant variant : variants) {
+            long[] millis = new long[runs];
+            for (int i = 0; i < runs; i++) {
+                millis[i] = timeToFirstRequest(java, variant, http);
+                System.out.printf("%-8s run %d: %d ms%n", variant.name(), i + 1, millis[i]);
+            }
+            Arrays.sort(millis);
+            results.put(variant.name(), millis);
+        }
+
+        System.out.println();
+        System.out.printf("%-8s %9s %9s %9s   (time to first request, %d runs)%n", "variant", "min ms", "median ms", "max ms", runs);
+        results.forEach((name, millis) -> System.out.printf("%-8s %9d %9d %9d%n",
+                name, millis[0], millis[millis.length / 2], millis[millis.length - 1]));
+    }
+
+    private static List<Variant> variants(Path target) throws IOException {
+        Path jar;
+        try (Stream<Path> files = Files.list(target)) {
+            jar = files.filter(p -> p.getFileName().toString().matches("backend-.*\\.jar"))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("No backend jar in " + target + ", run mvn package first"));
+        }
+        boolean aot;
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            aot = jarFile.getEntry(AOT_INITIALIZER) != null;
+        }
+        Path cdsJar = target.resolve("cds").resolve(jar.getFileName());
+        Path archive = target.resolve("cds").resolve("application.jsa");
+        boolean cds = Files.exists(cdsJar) && Files.exists(archive);
+
+        List<Variant> variants = new ArrayList<>();
+        variants.add(new Variant("jar", jar, List.of(), APP_ARGS));
+        List<String> lazyArgs = new ArrayList<>(APP_ARGS);
+        lazyArgs.add("--spring.profiles.active=lazy");
+        variants.add(new Variant("lazy", jar, List.of(), lazyArgs));
+        if (aot) {
+            variants.add(new Variant("aot", jar, List.of("-Dspring.aot.enabled=true"), APP_ARGS));
+        }
+        if (cds) {
+            String sharedArchive = "-XX:SharedArchiveFile=" + archive;
+            variants.add(new Variant("cds", cdsJar, List.of(sharedArchive), APP_ARGS));
+            if (aot) {
+                variants.add(new Variant("cds+aot", cdsJar, List.of(sharedArchive, "-Dspring.aot.enabled=true"), APP_ARGS));
+            }
+        }
+        if (!aot) {
+            System.out.println("Skipping the aot variants: no AOT code in " + jar.getFileName() + " (build it with mvn -Pcds)");
+        }
+        if (!cds) {
+            System.out.println("Skipping the cds variants: no CDS archive in " + archive.getParent() + " (build it with mvn -Pcds)");
+        }
+        return variants;
+    }
+
+    private static long timeToFirstRequest(String java, Variant variant, HttpClient http) throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(variant.jvmArgs());
+        command.add("-jar");
+        command.add(variant.jar().toString());
+        command.addAll(variant.appArgs());
+        command.add("--server.port=" + port);
+
+        Path log = Files.createTempFile("startup-" + variant.name().replace('+', '-'), ".log");
+        // Once connected, wait for the answer: with lazy initialization the first request does part of the startup
+        HttpRequest probe = HttpRequest.newBuilder(URI.create("http://localhost:" + port + PROBE))
+                .timeout(STARTUP_TIMEOUT)
+                .build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        try {
+            while (true) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(variant.name() + " exited with " + process.exitValue() + ", see " + log);
+                }
+                if (System.nanoTime() - start > STARTUP_TIMEOUT.toNanos()) {
+                    throw new IllegalStateException(variant.name() + " did not answer within " + STARTUP_TIMEOUT + ", see " + log);
+                }
+                try {
+                    HttpResponse<Void> response = http.send(probe, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() == 200) {
+                        long millis = (System.nanoTime() - start) / 1_000_000;
+                        Files.delete(log);
+                        return millis;
+                    }
+                } catch (IOException e) {
+                    // Not listening yet (connection refused), or the connection dropped while starting
+                }
+                Thread.sleep(10);
+            }
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+}
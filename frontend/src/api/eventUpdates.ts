@@ -0,0 +1,96 @@
+// frontend/src/api/eventUpdates.ts
+import { useEffect, useRef } from 'react';
+import api from './axiosConfig';
+
+// One "counts" message from GET /api/events/stream
+export interface EventCountUpdate {
+  eventId: number;
+  capacity: number;
+  registeredCount: number;
+  active: boolean;
+  deleted: boolean; // The event is gone; only eventId is meaningful
+}
+
+const MAX_IDS_PER_STREAM = 200; // app.event-stream.max-ids-per-subscriber on the backend
+const MAX_RETRY_DELAY_MS = 30000;
+
+// Reads an SSE body and calls onUpdates for every "counts" event; resolves when the server closes the stream
+async function readStream(body: ReadableStream<Uint8Array>, onUpdates: (updates: EventCountUpdate[]) => void) {
+  const reader = body.pipeThrough(new TextDecoderStream()).getReader();
+  let buffer = '';
+  for (;;) {
+    const { value, done } = await reader.read();
+    if (done) {
+      return;
+    }
+    buffer += value;
+    let end;
+    while ((end = buffer.search(/\r?\n\r?\n/)) >= 0) {
+      const block = buffer.slice(0, end);
+      buffer = buffer.slice(end).replace(/^\r?\n\r?\n/, '');
+      let name = 'message';
+      const data: string[] = [];
+      for (const line of block.split(/\r?\n/)) {
+        if (line.startsWith('event:')) {
+          name = line.slice(6).trim();
+        } else if (line.startsWith('data:')) {
+          data.push(line.slice(5).replace(/^ /, ''));
+        } // Lines starting with ':' are heartbeats
+      }
+      if (name === 'counts' && data.length > 0) {
+        onUpdates(JSON.parse(data.join('\n')));
+      }
+    }
+  }
+}
+
+// Keeps a stream of capacity and registration count changes open for these events while the component is mounted.
+// EventSource can't send the Authorization header, so the stream is read with fetch. Reconnects with backoff; the
+// first message after (re)connecting carries the current numbers, so nothing missed in between is lost.
+export function useEventUpdates(eventIds: number[], onUpdates: (updates: EventCountUpdate[]) => void) {
+  const onUpdatesRef = useRef(onUpdates);
+  onUpdatesRef.current = onUpdates;
+  const key = eventIds.slice(0, MAX_IDS_PER_STREAM).join(',');
+
+  useEffect(() => {
+    const token = localStorage.getItem('jwtToken');
+    if (!key || !token) {
+      return;
+    }
+    const controller = new AbortController();
+    let retryDelay = 1000;
+    let retryTimer: ReturnType<typeof setTimeout> | undefined;
+
+    const connect = async () => {
+      try {
+        const response = await fetch(`${api.defaults.baseURL}/events/stream?ids=${key}`, {
+          headers: { Authorization: `Bearer ${token}`, Accept: 'text/event-stream' },
+          signal: controller.signal,
+        });
+        if (response.status === 401 || response.status === 403 || response.status === 400) {
+          return; // Retrying won't help
+        }
+        if (!response.ok || !response.body) {
+          throw new Error(`Event stream failed with status ${response.status}`);
+        }
+        retryDelay = 1000;
+        await readStream(response.body, (updates) => onUpdatesRef.current(updates));
+      } catch (err) {
+        if (controller.signal.aborted) {
+          return;
+        }
+        console.warn('Event stream interrupted, reconnecting:', err);
+      }
+      if (!controller.signal.aborted) {
+        retryTimer = setTimeout(connect, retryDelay);
+        retryDelay = Math.min(retryDelay * 2, MAX_RETRY_DELAY_MS);
+      }
+    };
+    connect();
+
+    return () => {
+      controller.abort();
+      clearTimeout(retryTimer);
+    };
+  }, [key]);
+}
@@ -1,6 +1,7 @@
 // frontend/src/pages/EventsPage.tsx
 import React, { useEffect, useState } from 'react';
 import api from '../api/axiosConfig'; // Your configured Axios instance
+import { useEventUpdates } from '../api/eventUpdates';
 import axios from 'axios'; // For axios.isAxiosError
 import { useNavigate } from 'react-router-dom';
 import moment from 'moment'; // For date comparisons
@@ -32,11 +33,19 @@ interface EventResponse {
   requiredSkills: string;
   organizer?: UserSummaryDto;
   organization?: OrganizationSummaryDto;
-  registeredVolunteers?: UserSummaryDto[]; // List of users registered for the event
+  registeredCount: number; // Number of registrations; the roster itself is paged via /events/{id}/volunteers
+  registeredVolunteers?: UserSummaryDto[]; // Only present with ?includeVolunteers=true
+}
+
+interface RegistrationPage {
+  content: { eventId: number }[];
+  size: number;
+  nextCursor: string | null;
 }
 
 const EventsPage: React.FC = () => {
   const [events, setEvents] = useState<EventResponse[]>([]);
+  const [registeredEventIds, setRegisteredEventIds] = useState<Set<number>>(new Set());
   const [loading, setLoading] = useState<boolean>(true);
   const [error, setError] = useState<string | null>(null);
   const [successMessage, setSuccessMessage] = useState<string | null>(null);
@@ -65,10 +74,41 @@ const EventsPage: React.FC = () => {
     }
   };
 
+  // The volunteer's own registrations, page by page, to mark the events they already signed up for
+  const fetchRegisteredEventIds = async () => {
+    const ids = new Set<number>();
+    let cursor: string | null = null;
+    do {
+      const response: { data: RegistrationPage } = await api.get<RegistrationPage>(
+        `/event-registrations/volunteer/${currentUserId}`,
+        { params: { size: 100, cursor: cursor ?? undefined } }
+      );
+      response.data.content.forEach((registration) => ids.add(registration.eventId));
+      cursor = response.data.nextCursor;
+    } while (cursor);
+    setRegisteredEventIds(ids);
+  };
+
   useEffect(() => {
     fetchEvents();
+    if (currentUserId && currentUserRole === 'VOLUNTEER') {
+      fetchRegisteredEventIds().catch((err) => console.error('Failed to fetch registrations:', err));
+    }
   }, []);
 
+  // Live capacity and registration counts for the listed events
+  useEventUpdates(events.map(event => event.id), (updates) => {
+    const byId = new Map(updates.map(update => [update.eventId, update]));
+    setEvents(prevEvents =>
+      prevEvents.filter(event => !byId.get(event.id)?.deleted).map(event => {
+        const update = byId.get(event.id);
+        return update
+          ? { ...event, capacity: update.capacity, registeredCount: update.registeredCount, active: update.active }
+          : event;
+      })
+    );
+  });
+
   const handleRegisterClick = async (eventId: number) => {
     if (!currentUserId || currentUserRole !== 'VOLUNTEER') {
       alert('You must be logged in as a VOLUNTEER to register for events.');
@@ -90,6 +130,7 @@ const EventsPage: React.FC = () => {
           event.id === eventId ? response.data : event // Replace the old event with the updated one
         )
       );
+      setRegisteredEventIds(prevIds => new Set(prevIds).add(eventId));
       setSuccessMessage('Successfully registered for the event!');
       setTimeout(() => setSuccessMessage(null), 5000); // Clear message after 5 seconds
 
@@ -123,10 +164,8 @@ const EventsPage: React.FC = () => {
           {events.map((event) => {
             const eventMoment = moment(event.eventDate);
             const isEventInPast = eventMoment.isBefore(moment());
-            const isEventFull = (event.registeredVolunteers?.length || 0) >= event.capacity;
-            const isRegistered = event.registeredVolunteers?.some(
-              (volunteer) => volunteer.id === Number(currentUserId)
-            );
+            const isEventFull = event.registeredCount >= event.capacity;
+            const isRegistered = registeredEventIds.has(event.id);
             const isOrganizerOfEvent = event.organizer?.id === Number(currentUserId);
 
             return (
@@ -142,7 +181,7 @@ const EventsPage: React.FC = () => {
                   <strong>Location:</strong> {event.location}
                 </p>
                 <p style={styles.eventDetail}>
-                  <strong>Capacity:</strong> {event.registeredVolunteers?.length || 0} / {event.capacity}
+                  <strong>Capacity:</strong> {event.registeredCount} / {event.capacity}
                   {isEventFull && <span style={styles.fullCapacity}> (Full)</span>}
                 </p>
                 {event.requiredSkills && (
@@ -0,0 +1,36 @@
+package com.volunteerconnect.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.List;
+
+/**
+ * In-process Caffeine caches for read-mostly data.
+ *
+ * An eviction must not happen before the change commits, or a concurrent read could put the old rows back into the
+ * cache. The caching advice therefore runs outside a method's own {@code @Transactional}, and evictions made inside
+ * a caller's transaction are deferred until that transaction commits. Each instance has its own caches: a change made
+ * through one instance reaches the others when their entries expire ({@code expireAfterWrite} in the cache spec).
+ */
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1) // Outside @Transactional: a cache hit opens no transaction
+public class CacheConfig {
+
+    public static final String ORGANIZATION_PAGES = "organizationPages";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${app.cache.spec:maximumSize=1000,expireAfterWrite=5m,recordStats}") String spec) {
+        CaffeineCacheManager caffeine = new CaffeineCacheManager();
+        caffeine.setCacheSpecification(spec);
+        caffeine.setCacheNames(List.of(ORGANIZATION_PAGES)); // No caches created on the fly from a misspelled name
+        caffeine.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(caffeine);
+    }
+}
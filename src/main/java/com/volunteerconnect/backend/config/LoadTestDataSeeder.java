@@ -0,0 +1,169 @@
+package com.volunteerconnect.backend.config;
+
+import com.volunteerconnect.backend.model.Event;
+import com.volunteerconnect.backend.model.EventRegistration;
+import com.volunteerconnect.backend.model.RegistrationStatus;
+import com.volunteerconnect.backend.model.Role;
+import com.volunteerconnect.backend.model.User;
+import com.volunteerconnect.backend.model.organization.Organization;
+import com.volunteerconnect.backend.repository.EventRegistrationRepository;
+import com.volunteerconnect.backend.repository.EventRepository;
+import com.volunteerconnect.backend.repository.UserRepository;
+import com.volunteerconnect.backend.repository.organization.OrganizationRepository;
+import com.volunteerconnect.backend.service.organization.OrganizationStatsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fills the in-memory database of the {@code loadtest} profile with a deterministic data set
+ * that the load-test harness (benchmarks module) relies on:
+ * <ul>
+ *   <li>users {@code organizer0..N} and {@code volunteer0..N}, all with the same password,</li>
+ *   <li>events spread over the organizations, each with a few registrations,</li>
+ *   <li>one "hot" event titled {@value #HOT_EVENT_TITLE} without registrations, for registration bursts.</li>
+ * </ul>
+ * Runs before ApplicationReadyEvent, so the availability filters are loaded with the seeded users.
+ */
+@Component
+@Profile("loadtest")
+@Slf4j
+public class LoadTestDataSeeder implements ApplicationRunner {
+
+    public static final String HOT_EVENT_TITLE = "Load test hot event";
+
+    private final UserRepository userRepository;
+    private final OrganizationRepository organizationRepository;
+    private final EventRepository eventRepository;
+    private final EventRegistrationRepository eventRegistrationRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final OrganizationStatsService organizationStatsService;
+
+    @Value("${app.loadtest.seed.organizations:10}")
+    private int organizations;
+    @Value("${app.loadtest.seed.organizers-per-organization:2}")
+    private int organizersPerOrganization;
+    @Value("${app.loadtest.seed.volunteers:2000}")
+    private int volunteers;
+    @Value("${app.loadtest.seed.events:200}")
+    private int events;
+    @Value("${app.loadtest.seed.registrations-per-event:20}")
+    private int registrationsPerEvent;
+    @Value("${app.loadtest.seed.hot-event-capacity:500}")
+    private int hotEventCapacity;
+    @Value("${app.loadtest.seed.password:password}")
+    private String password;
+
+    public LoadTestDataSeeder(UserRepository userRepository,
+                              OrganizationRepository organizationRepository,
+                              EventRepository eventRepository,
+                              EventRegistrationRepository eventRegistrationRepository,
+                              PasswordEncoder passwordEncoder,
+                              OrganizationStatsService organizationStatsService) {
+        this.userRepository = userRepository;
+        this.organizationRepository = organizationRepository;
+        this.eventRepository = eventRepository;
+        this.eventRegistrationRepository = eventRegistrationRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.organizationStatsService = organizationStatsService;
+    }
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        if (userRepository.count() > 0) {
+            log.info("Database already contains users, skipping load-test seed");
+            return;
+        }
+        long start = System.nanoTime();
+        // One hash for everyone: seeding thousands of users would otherwise spend minutes in BCrypt
+        String passwordHash = passwordEncoder.encode(password);
+
+        List<Organization> savedOrganizations = new ArrayList<>(organizations);
+        List<User> organizers = new ArrayList<>();
+        for (int o = 0; o < organizations; o++) {
+            Organization organization = organizationRepository.save(Organization.builder()
+                    .name("Organization " + o)
+                    .description("Seeded organization " + o)
+                    .contactEmail("contact" + o + "@loadtest.example.org")
+                    .active(true)
+                    .build());
+            savedOrganizations.add(organization);
+            for (int i = 0; i < organizersPerOrganization; i++) {
+                organizers.add(user("organizer" + organizers.size(), Role.ORGANIZER, passwordHash, organization));
+            }
+        }
+        organizers = userRepository.saveAll(organizers);
+
+        List<User> volunteerUsers = new ArrayList<>(volunteers);
+        for (int v = 0; v < volunteers; v++) {
+            volunteerUsers.add(user("volunteer" + v, Role.VOLUNTEER, passwordHash, null));
+        }
+        volunteerUsers = userRepository.saveAll(volunteerUsers);
+
+        LocalDateTime firstDate = LocalDateTime.now().plusDays(7).withNano(0);
+        List<EventRegistration> registrations = new ArrayList<>();
+        for (int e = 0; e < events; e++) {
+            User organizer = organizers.get(e % organizers.size());
+            Event event = eventRepository.save(Event.builder()
+                    .title("Event " + e)
+                    .description("Seeded event " + e + " with a description long enough to look like real content.")
+                    .eventDate(firstDate.plusHours(e))
+                    .location("Location " + (e % 25))
+                    .capacity(registrationsPerEvent * 2)
+                    .requiredSkills("teamwork")
+                    .active(true)
+                    .organization(organizer.getOrganization())
+                    .organizer(organizer)
+                    .build());
+            for (int r = 0; r < registrationsPerEvent && r < volunteerUsers.size(); r++) {
+                registrations.add(EventRegistration.builder()
+                        .event(event)
+                        .volunteer(volunteerUsers.get((e * registrationsPerEvent + r) % volunteerUsers.size()))
+                        .status(RegistrationStatus.CONFIRMED)
+                        .build());
+            }
+        }
+        eventRegistrationRepository.saveAll(registrations);
+
+        User hotOrganizer = organizers.get(0);
+        eventRepository.save(Event.builder()
+                .title(HOT_EVENT_TITLE)
+                .description("Every volunteer tries to register for this one.")
+                .eventDate(firstDate)
+                .location("Main square")
+                .capacity(hotEventCapacity)
+                .active(true)
+                .organization(hotOrganizer.getOrganization())
+                .organizer(hotOrganizer)
+                .build());
+
+        // The rows are inserted directly, bypassing the services that maintain the organization stats
+        organizationStatsService.rebuild();
+
+        log.info("Seeded {} organizations, {} organizers, {} volunteers, {} events and {} registrations in {} ms",
+                savedOrganizations.size(), organizers.size(), volunteerUsers.size(), events + 1, registrations.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static User user(String username, Role role, String passwordHash, Organization organization) {
+        return User.builder()
+                .username(username)
+                .email(username + "@loadtest.example.org")
+                .password(passwordHash)
+                .firstName(username)
+                .lastName("Loadtest")
+                .role(role)
+                .organization(organization)
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.volunteerconnect.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.volunteerconnect.backend.security.ratelimit.RateLimitFilter;
+import com.volunteerconnect.backend.security.ratelimit.RateLimitProperties;
+import com.volunteerconnect.backend.security.ratelimit.TokenBucketRateLimiter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+@ConditionalOnProperty(prefix = "app.rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig {
+
+    @Bean
+    public TokenBucketRateLimiter tokenBucketRateLimiter(RateLimitProperties properties) {
+        return new TokenBucketRateLimiter(properties.getMaxKeys(), properties.getStripes());
+    }
+
+    // Registered as a plain servlet filter ordered before Spring Security's chain,
+    // so rejected requests never reach authentication or the database
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(
+            RateLimitProperties properties,
+            TokenBucketRateLimiter limiter,
+            ObjectMapper objectMapper
+    ) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(
+                new RateLimitFilter(properties, limiter, objectMapper.getFactory()));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 10);
+        return registration;
+    }
+}
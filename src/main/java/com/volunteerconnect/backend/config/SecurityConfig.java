@@ -2,10 +2,16 @@ package com.volunteerconnect.backend.config;
 
 
 
+import com.volunteerconnect.backend.config.tracing.TraceIdResponseFilter;
+
 import com.volunteerconnect.backend.repository.UserRepository;
 
 import com.volunteerconnect.backend.security.JwtAuthenticationFilter;
 
+import jakarta.servlet.DispatcherType;
+
+import org.springframework.beans.factory.annotation.Value;
+
 import org.springframework.context.annotation.Bean;
 
 import org.springframework.context.annotation.Configuration;
@@ -16,6 +22,8 @@ import org.springframework.security.authentication.AuthenticationProvider;
 
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 
+import org.springframework.security.authorization.AuthorizationDecision;
+
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -124,6 +132,10 @@ public class SecurityConfig {
 
         configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type"));
 
+// Let the frontend read the trace id of a failed call (this source answers CORS for the whole filter chain)
+
+        configuration.setExposedHeaders(List.of(TraceIdResponseFilter.TRACE_ID_HEADER));
+
 // Allow credentials (like cookies or HTTP authentication headers - for JWT, it's Authorization header)
 
         configuration.setAllowCredentials(true);
@@ -156,7 +168,8 @@ public class SecurityConfig {
 
             JwtAuthenticationFilter jwtAuthenticationFilter,
 
-            CorsConfigurationSource corsConfigurationSource // Inject the CORS source
+            CorsConfigurationSource corsConfigurationSource, // Inject the CORS source
+            @Value("${management.server.port:-1}") int managementPort
 
     ) throws Exception {
 
@@ -174,8 +187,22 @@ public class SecurityConfig {
 
                 .authorizeHttpRequests(authorize -> authorize
 
+// Async dispatches (an SseEmitter completing or timing out) and error dispatches belong to a request that was
+// already authorized; JwtAuthenticationFilter does not run on them, so they would be denied on a committed response
+
+                                .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
+
                                 .requestMatchers("/api/auth/**").permitAll()
 
+// Health probes are open. Metrics describe the internals (latencies per endpoint, user activity, JVM), so the
+// Prometheus scrape endpoint is only answered on the management port, which is bound to the internal network
+// (management.server.*); other actuator endpoints stay authenticated
+
+                                .requestMatchers("/actuator/health/**").permitAll()
+
+                                .requestMatchers("/actuator/prometheus").access((authentication, context) ->
+                                        new AuthorizationDecision(context.getRequest().getLocalPort() == managementPort))
+
 // Ensure that all *other* paths are authenticated at the URL level
 
 // This acts as a fallback if method-level @PreAuthorize is missed
@@ -0,0 +1,100 @@
+package com.volunteerconnect.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Detects virtual threads that block while pinned to their carrier thread, using the JDK's own
+ * {@code jdk.VirtualThreadPinned} JFR event (emitted when a virtual thread parks inside a synchronized block or
+ * native frame for longer than the threshold). While pinned, the carrier cannot run other virtual threads, so
+ * pinning in JDBC driver or Hibernate code quietly brings back the old thread-pool ceiling.
+ *
+ * Every pinned interval is recorded in the {@code app.threads.virtual.pinned} timer, tagged with the first
+ * non-JDK class on the stack (e.g. the JDBC driver class holding the monitor). The first occurrence per location
+ * is also logged with its stack trace.
+ * Only active with {@code spring.threads.virtual.enabled=true}.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 12;
+
+    private final MeterRegistry registry;
+    private final Duration threshold;
+    private final Set<String> loggedLocations = ConcurrentHashMap.newKeySet();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry registry,
+                                       @Value("${app.threads.pinning.threshold:20ms}") Duration threshold) {
+        this.registry = registry;
+        this.threshold = threshold;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Monitoring virtual thread pinning longer than {} ms", threshold.toMillis());
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() != null ? event.getStackTrace().getFrames() : List.of();
+        String location = frames.stream()
+                .map(frame -> frame.getMethod().getType().getName())
+                .filter(type -> !isJdkClass(type))
+                .findFirst()
+                .orElse("jdk");
+
+        Timer.builder("app.threads.virtual.pinned")
+                .description("Time virtual threads spent blocked while pinned to their carrier thread")
+                .tag("location", location)
+                .register(registry)
+                .record(event.getDuration());
+
+        if (loggedLocations.add(location)) {
+            String stack = frames.stream()
+                    .limit(LOGGED_FRAMES)
+                    .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                            + "(line " + frame.getLineNumber() + ")")
+                    .collect(Collectors.joining("\n"));
+            log.atWarn()
+                    .addKeyValue("thread.pinned_ms", event.getDuration().toMillis())
+                    .addKeyValue("thread.pinned_location", location)
+                    .log("Virtual thread pinned for {} ms in {} (further occurrences are only counted):\n{}",
+                            event.getDuration().toMillis(), location, stack);
+        }
+    }
+
+    private static boolean isJdkClass(String type) {
+        return type.startsWith("java.") || type.startsWith("jdk.") || type.startsWith("sun.");
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
@@ -1,12 +1,36 @@
 package com.volunteerconnect.backend.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.volunteerconnect.backend.config.tracing.Spans;
+import com.volunteerconnect.backend.config.tracing.TracingJackson2HttpMessageConverter;
+import com.volunteerconnect.backend.dto.json.EventResponseHttpMessageConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    private final ObjectMapper objectMapper;
+    private final boolean eventListWriter;
+    private final boolean eventDetailWriter;
+    private final Spans spans;
+
+    public WebConfig(ObjectMapper objectMapper,
+                     @Value("${app.json.event-writer.list:true}") boolean eventListWriter,
+                     @Value("${app.json.event-writer.detail:true}") boolean eventDetailWriter,
+                     Spans spans) {
+        this.objectMapper = objectMapper;
+        this.eventListWriter = eventListWriter;
+        this.eventDetailWriter = eventDetailWriter;
+        this.spans = spans;
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/api/**") // Apply CORS to all paths under /api/
@@ -16,4 +40,14 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowCredentials(true) // Allow credentials (cookies, auth headers)
                 .maxAge(3600); // Cache preflight response for 1 hour
     }
-}
\ No newline at end of file
+
+    // The event converter goes ahead of the Jackson converter so event payloads skip its reflective bean serializer;
+    // the Jackson converter is swapped for one that traces its writes
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.replaceAll(converter -> converter.getClass() == MappingJackson2HttpMessageConverter.class
+                ? new TracingJackson2HttpMessageConverter(((MappingJackson2HttpMessageConverter) converter).getObjectMapper(), spans)
+                : converter);
+        converters.add(0, new EventResponseHttpMessageConverter(objectMapper.getFactory(), eventListWriter, eventDetailWriter, spans));
+    }
+}
@@ -0,0 +1,44 @@
+package com.volunteerconnect.backend.config.datasource;
+
+import net.ttddyy.dsproxy.listener.ChainListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Wraps the application's DataSource in a JDBC proxy when at least one {@link QueryExecutionListener} bean exists,
+ * so statement-level concerns (sampled SQL logging, per-request statement counting, ...) can observe every query
+ * with its execution time. With no listener beans the DataSource is left untouched and costs nothing.
+ */
+@Configuration
+public class DataSourceProxyConfig {
+
+    // Static so the post-processor is created before (and independently of) the beans it wraps
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(ObjectProvider<QueryExecutionListener> listeners) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                List<QueryExecutionListener> active = listeners.orderedStream().toList();
+                if (active.isEmpty()) {
+                    return bean;
+                }
+                ChainListener chain = new ChainListener();
+                active.forEach(chain::addListener);
+                return ProxyDataSourceBuilder.create(beanName, dataSource)
+                        .listener(chain)
+                        .build();
+            }
+        };
+    }
+}
@@ -0,0 +1,98 @@
+package com.volunteerconnect.backend.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured DataSource with a {@link ReadReplicaRoutingDataSource} over a primary pool
+ * ({@code spring.datasource.*}) and one pool per {@code app.read-replicas.instances[n]}. Only the outer DataSource is a
+ * bean, so {@link DataSourceProxyConfig} wraps it once and sees the statements of every pool.
+ */
+@Configuration
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+@ConditionalOnProperty(prefix = "app.read-replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig implements DisposableBean {
+
+    private ReadReplicaRoutingDataSource routingDataSource;
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties dataSourceProperties, ReadReplicaProperties properties,
+                                 Environment environment) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        if (primary.getPoolName() == null) {
+            primary.setPoolName("primary");
+        }
+
+        List<DataSource> replicas = new ArrayList<>();
+        for (ReadReplicaProperties.Replica instance : properties.getInstances()) {
+            HikariDataSource replica = new HikariDataSource();
+            primary.copyStateTo(replica);
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setJdbcUrl(instance.getUrl());
+            if (instance.getUsername() != null) {
+                replica.setUsername(instance.getUsername());
+            }
+            if (instance.getPassword() != null) {
+                replica.setPassword(instance.getPassword());
+            }
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+
+        routingDataSource = new ReadReplicaRoutingDataSource(primary, replicas,
+                properties.getMaxLag(), properties.getReadYourWritesWindow());
+        routingDataSource.startLagChecks(properties.getLagQuery(), properties.getLagCheckInterval());
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    // Spring keeps the JDBC connection for the whole EntityManager by default, and with open-in-view that is the whole
+    // request: a later transaction would reuse the first one's pool. Releasing it after every transaction lets each
+    // transaction be routed on its own.
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    // Takes the DataSource only so the routing DataSource exists before the meters are bound. Boot's pool metrics only
+    // reach the primary (the pool the DataSource unwraps to), so the replica pools get their hikaricp.* meters here.
+    @Bean
+    public MeterBinder readReplicaMetrics(DataSource dataSource) {
+        return registry -> routingDataSource.replicas().forEach(replica -> {
+            Gauge.builder("app.datasource.replica.lag", replica, ReadReplicaRoutingDataSource.Replica::lagSeconds)
+                    .description("Last measured replication lag (NaN while unreachable)")
+                    .baseUnit("seconds")
+                    .tag("replica", replica.name())
+                    .register(registry);
+            if (replica.dataSource() instanceof HikariDataSource pool && pool.getMetricRegistry() == null) {
+                pool.setMetricRegistry(registry);
+            }
+        });
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (routingDataSource != null) {
+            routingDataSource.close();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.volunteerconnect.backend.config.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binds the {@code app.read-replicas.*} settings.
+ * The primary is still configured through {@code spring.datasource.*}; replicas share its pool settings.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.read-replicas")
+public class ReadReplicaProperties {
+
+    private boolean enabled = false;
+
+    private List<Replica> instances = new ArrayList<>();
+
+    // Replicas further behind the primary than this are skipped until they catch up
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    // Returns the replica's lag in seconds (NULL counts as caught up). The default is for PostgreSQL streaming
+    // replication and reports 0 when everything received has been replayed, so an idle primary does not look like lag.
+    private String lagQuery = "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+
+    private Duration lagCheckInterval = Duration.ofSeconds(1);
+
+    // After a user's own committed write, that user's reads stay on the primary for this long
+    private Duration readYourWritesWindow = Duration.ofSeconds(10);
+
+    @Data
+    public static class Replica {
+        private String url;
+        private String username; // Defaults to spring.datasource.username
+        private String password; // Defaults to spring.datasource.password
+    }
+}
@@ -0,0 +1,200 @@
+package com.volunteerconnect.backend.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Sends {@code @Transactional(readOnly = true)} work to the read replicas (round robin) and everything else to the
+ * primary. A replica is skipped while its last measured lag exceeds the tolerance or it cannot be reached, and a user
+ * whose own write committed within the read-your-writes window keeps reading from the primary, so they never see
+ * their change disappear. With no usable replica, reads fall back to the primary.
+ *
+ * The read-only flag is only known once the transaction has started, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, which defers fetching the connection
+ * until the first statement.
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    // Expired read-your-writes entries are purged once this many users are tracked
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long maxLagNanos;
+    private final long readYourWritesNanos;
+    private final Map<String, Long> primaryReadsUntil = new ConcurrentHashMap<>(); // username -> System.nanoTime()
+    private final AtomicInteger next = new AtomicInteger();
+    private ScheduledExecutorService lagChecks;
+
+    static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile double lagSeconds = Double.NaN; // NaN until measured or while unreachable
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        String name() {
+            return name;
+        }
+
+        DataSource dataSource() {
+            return dataSource;
+        }
+
+        double lagSeconds() {
+            return lagSeconds;
+        }
+    }
+
+    public ReadReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration maxLag,
+                                        Duration readYourWritesWindow) {
+        this.primary = primary;
+        this.replicas = IntStream.range(0, replicas.size())
+                .mapToObj(i -> new Replica("replica-" + i, replicas.get(i)))
+                .toList();
+        this.maxLagNanos = maxLag.toNanos();
+        this.readYourWritesNanos = readYourWritesWindow.toNanos();
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        this.replicas.forEach(replica -> targets.put(replica.name, replica.dataSource));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    List<Replica> replicas() {
+        return replicas;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String username = currentUsername();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (username != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        rememberWrite(username);
+                    }
+                });
+            }
+            return PRIMARY;
+        }
+        if (username != null && wroteRecently(username)) {
+            return PRIMARY;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(replicas.size(), 1));
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (isUsable(replica)) {
+                return replica.name;
+            }
+        }
+        return PRIMARY;
+    }
+
+    private boolean isUsable(Replica replica) {
+        double lag = replica.lagSeconds;
+        return !Double.isNaN(lag) && lag * 1_000_000_000L <= maxLagNanos;
+    }
+
+    private static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    void rememberWrite(String username) {
+        long now = System.nanoTime();
+        primaryReadsUntil.put(username, now + readYourWritesNanos);
+        if (primaryReadsUntil.size() > PURGE_THRESHOLD) {
+            primaryReadsUntil.values().removeIf(until -> until - now < 0);
+        }
+    }
+
+    private boolean wroteRecently(String username) {
+        Long until = primaryReadsUntil.get(username);
+        return until != null && until - System.nanoTime() > 0;
+    }
+
+    /** Measures every replica's lag with the given query (one column, seconds). */
+    void checkLag(String lagQuery) {
+        for (Replica replica : replicas) {
+            boolean wasUsable = isUsable(replica);
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(5);
+                try (ResultSet rs = statement.executeQuery(lagQuery)) {
+                    double lag = rs.next() ? rs.getDouble(1) : 0;
+                    replica.lagSeconds = Math.max(lag, 0); // getDouble returns 0 for NULL
+                }
+            } catch (SQLException e) {
+                replica.lagSeconds = Double.NaN;
+                if (wasUsable) {
+                    log.warn("Read replica {} is unreachable, routing its reads elsewhere: {}", replica.name, e.getMessage());
+                }
+                continue;
+            }
+            if (wasUsable != isUsable(replica)) {
+                log.info("Read replica {} is {} ({} s behind the primary)", replica.name,
+                        wasUsable ? "lagging, routing its reads elsewhere" : "usable", replica.lagSeconds);
+            }
+        }
+    }
+
+    /** Checks the lag once right away, then every {@code interval} on a background thread. */
+    void startLagChecks(String lagQuery, Duration interval) {
+        checkLag(lagQuery);
+        lagChecks = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("replica-lag-check").daemon().factory());
+        lagChecks.scheduleWithFixedDelay(() -> checkLag(lagQuery),
+                interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (lagChecks != null) {
+            lagChecks.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
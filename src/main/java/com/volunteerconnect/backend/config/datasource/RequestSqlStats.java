@@ -0,0 +1,60 @@
+package com.volunteerconnect.backend.config.datasource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL statistics for the HTTP request currently being handled on this thread: number of statements,
+ * total database time and how often each statement shape ran.
+ *
+ * Hibernate always binds parameters, so the SQL text itself is the statement shape; the same shape running
+ * many times in one request is the signature of an N+1 lazy-load pattern.
+ * Instances are confined to the request thread and are not thread-safe.
+ */
+public final class RequestSqlStats {
+
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, int[]> shapes = new HashMap<>();
+    private int statements;
+    private long elapsedMs;
+
+    static RequestSqlStats start() {
+        RequestSqlStats stats = new RequestSqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /** Stats of the current request, or {@code null} outside of a tracked request (startup, scheduled jobs, ...). */
+    static RequestSqlStats current() {
+        return CURRENT.get();
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    void record(String sql, long elapsedMs) {
+        statements++;
+        this.elapsedMs += elapsedMs;
+        shapes.computeIfAbsent(sql, k -> new int[1])[0]++;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getElapsedMs() {
+        return elapsedMs;
+    }
+
+    /** Statement shapes that ran more than {@code threshold} times, most frequent first. */
+    public List<Map.Entry<String, Integer>> repeatedShapes(int threshold) {
+        return shapes.entrySet().stream()
+                .filter(e -> e.getValue()[0] > threshold)
+                .map(e -> Map.entry(e.getKey(), e.getValue()[0]))
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .toList();
+    }
+}
@@ -0,0 +1,36 @@
+package com.volunteerconnect.backend.config.datasource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds the SQL statistics headers right before a response body is written, i.e. after the controller
+ * (and the service and mapping code under it) has finished, but while headers can still be set.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(prefix = "app.sql-stats", name = "enabled", havingValue = "true")
+public class RequestSqlStatsAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats != null) {
+            response.getHeaders().set(RequestSqlStatsFilter.COUNT_HEADER, Integer.toString(stats.getStatements()));
+            response.getHeaders().set(RequestSqlStatsFilter.TIME_HEADER, Long.toString(stats.getElapsedMs()));
+        }
+        return body;
+    }
+}
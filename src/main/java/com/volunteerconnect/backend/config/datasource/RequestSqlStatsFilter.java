@@ -0,0 +1,100 @@
+package com.volunteerconnect.backend.config.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Tracks the SQL statements executed while handling each HTTP request (including the security filter chain).
+ *
+ * Per request it records {@code app.sql.statements} and {@code app.sql.time}, tagged with the matched URI pattern,
+ * adds {@code X-SQL-Count}/{@code X-SQL-Time-Ms} response headers, and logs a warning for every statement shape
+ * that ran more than {@code app.sql-stats.repeat-threshold} times (typically lazy loads inside a mapping loop).
+ * Meant for development and test environments; disabled in the prod profile.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.sql-stats", name = "enabled", havingValue = "true")
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@Slf4j
+public class RequestSqlStatsFilter extends OncePerRequestFilter {
+
+    static final String COUNT_HEADER = "X-SQL-Count";
+    static final String TIME_HEADER = "X-SQL-Time-Ms";
+
+    private final MeterRegistry registry;
+    private final int repeatThreshold;
+
+    public RequestSqlStatsFilter(MeterRegistry registry,
+                                 @Value("${app.sql-stats.repeat-threshold:5}") int repeatThreshold) {
+        this.registry = registry;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestSqlStats stats = RequestSqlStats.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestSqlStats.clear();
+            // Responses with a body got their headers from RequestSqlStatsAdvice before being written
+            if (!response.isCommitted()) {
+                writeHeaders(response, stats);
+            }
+            report(request, stats);
+        }
+    }
+
+    private static void writeHeaders(HttpServletResponse response, RequestSqlStats stats) {
+        response.setHeader(COUNT_HEADER, Integer.toString(stats.getStatements()));
+        response.setHeader(TIME_HEADER, Long.toString(stats.getElapsedMs()));
+    }
+
+    private void report(HttpServletRequest request, RequestSqlStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("app.sql.statements")
+                .description("SQL statements executed per HTTP request")
+                .tag("uri", uri)
+                .register(registry)
+                .record(stats.getStatements());
+        Timer.builder("app.sql.time")
+                .description("Database time per HTTP request")
+                .tag("uri", uri)
+                .register(registry)
+                .record(Duration.ofMillis(stats.getElapsedMs()));
+
+        for (Map.Entry<String, Integer> repeated : stats.repeatedShapes(repeatThreshold)) {
+            Counter.builder("app.sql.repeated")
+                    .description("Requests that ran the same statement more often than the repeat threshold")
+                    .tag("uri", uri)
+                    .register(registry)
+                    .increment();
+            log.atWarn()
+                    .addKeyValue("sql.repeat_count", repeated.getValue())
+                    .addKeyValue("sql.statements", stats.getStatements())
+                    .addKeyValue("http.route", uri)
+                    .log("Possible N+1: statement ran {} times in {} {}: {}",
+                            repeated.getValue(), request.getMethod(), uri, repeated.getKey());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.volunteerconnect.backend.config.datasource;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Feeds every executed statement into the {@link RequestSqlStats} of the current request, if any.
+ * A JDBC batch counts as one execution per distinct statement in it, matching the number of database round trips.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.sql-stats", name = "enabled", havingValue = "true")
+public class RequestSqlStatsListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats == null) {
+            return;
+        }
+        long elapsedMs = execInfo.getElapsedTime();
+        for (QueryInfo query : queryInfoList) {
+            stats.record(query.getQuery(), elapsedMs);
+            elapsedMs = 0; // The batch's elapsed time is reported once for all its statements
+        }
+    }
+}
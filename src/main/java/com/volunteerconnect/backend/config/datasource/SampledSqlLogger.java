@@ -0,0 +1,60 @@
+package com.volunteerconnect.backend.config.datasource;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Logs a random sample of executed SQL statements, plus every statement slower than the threshold,
+ * with elapsed time, batch size and outcome as structured fields.
+ * Replaces {@code spring.jpa.show-sql}, which prints every statement synchronously and without timings.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.sql-logging", name = "enabled", havingValue = "true")
+public class SampledSqlLogger implements QueryExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger("com.volunteerconnect.backend.sql");
+
+    private final double sampleRate;
+    private final long slowThresholdMs;
+
+    public SampledSqlLogger(@Value("${app.sql-logging.sample-rate:0.01}") double sampleRate,
+                            @Value("${app.sql-logging.slow-threshold-ms:250}") long slowThresholdMs) {
+        this.sampleRate = sampleRate;
+        this.slowThresholdMs = slowThresholdMs;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsedMs = execInfo.getElapsedTime();
+        boolean slow = elapsedMs >= slowThresholdMs;
+        if (!slow && (sampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            return;
+        }
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+        String sql = queryInfoList.size() == 1
+                ? queryInfoList.get(0).getQuery()
+                : queryInfoList.stream().map(QueryInfo::getQuery).toList().toString();
+        log.atLevel(slow ? Level.WARN : Level.INFO)
+                .addKeyValue("sql.elapsed_ms", elapsedMs)
+                .addKeyValue("sql.batch_size", execInfo.getBatchSize())
+                .addKeyValue("sql.success", execInfo.isSuccess())
+                .addKeyValue("sql.slow", slow)
+                .log("SQL {} ms: {}", elapsedMs, sql);
+    }
+}
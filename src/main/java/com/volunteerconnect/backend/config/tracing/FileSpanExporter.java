@@ -0,0 +1,171 @@
+package com.volunteerconnect.backend.config.tracing;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local stand-in for an OTLP collector: appends finished spans to a file, one JSON object per line
+ * ({@code traceId, spanId, parentSpanId, name, kind, start, durationMicros, status, attributes, events}), e.g. for
+ * {@code jq 'select(.traceId == "...")'} with the id from a response's {@code X-Trace-Id} header.
+ *
+ * Spans arrive in batches from the SDK's export thread, never from request threads. Once the file reaches
+ * {@code maxBytes} it is renamed to {@code <file>.1} (replacing the previous one) and a new file is started.
+ */
+@Slf4j
+public class FileSpanExporter implements SpanExporter {
+
+    private final Path file;
+    private final Path rolledFile;
+    private final long maxBytes;
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    private OutputStream out;
+    private long size;
+    private boolean shutdown;
+
+    public FileSpanExporter(Path file, long maxBytes) {
+        this.file = file.toAbsolutePath();
+        this.rolledFile = this.file.resolveSibling(this.file.getFileName() + ".1");
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        if (shutdown) {
+            return CompletableResultCode.ofFailure();
+        }
+        try {
+            if (out == null) {
+                open();
+            }
+            for (SpanData span : spans) {
+                byte[] line = toJsonLine(span);
+                out.write(line);
+                size += line.length;
+            }
+            out.flush();
+            if (size >= maxBytes) {
+                roll();
+            }
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            log.warn("Could not write {} spans to {}: {}", spans.size(), file, e.toString());
+            closeQuietly();
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    private void open() throws IOException {
+        Files.createDirectories(file.getParent());
+        out = new BufferedOutputStream(Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+        size = Files.size(file);
+    }
+
+    private void roll() throws IOException {
+        out.close();
+        out = null;
+        Files.move(file, rolledFile, StandardCopyOption.REPLACE_EXISTING);
+        open();
+    }
+
+    private byte[] toJsonLine(SpanData span) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(512);
+        try (JsonGenerator gen = jsonFactory.createGenerator(buffer, JsonEncoding.UTF8)) {
+            gen.writeStartObject();
+            gen.writeStringField("traceId", span.getTraceId());
+            gen.writeStringField("spanId", span.getSpanId());
+            if (span.getParentSpanContext().isValid()) {
+                gen.writeStringField("parentSpanId", span.getParentSpanId());
+            }
+            gen.writeStringField("name", span.getName());
+            gen.writeStringField("kind", span.getKind().name());
+            gen.writeStringField("start", Instant.ofEpochSecond(0, span.getStartEpochNanos()).toString());
+            gen.writeNumberField("durationMicros",
+                    TimeUnit.NANOSECONDS.toMicros(span.getEndEpochNanos() - span.getStartEpochNanos()));
+            if (span.getStatus().getStatusCode() != StatusCode.UNSET) {
+                gen.writeStringField("status", span.getStatus().getStatusCode().name());
+            }
+            writeAttributes(gen, "attributes", span.getAttributes());
+            if (!span.getEvents().isEmpty()) {
+                gen.writeArrayFieldStart("events");
+                for (EventData event : span.getEvents()) {
+                    gen.writeStartObject();
+                    gen.writeStringField("name", event.getName());
+                    writeAttributes(gen, "attributes", event.getAttributes());
+                    gen.writeEndObject();
+                }
+                gen.writeEndArray();
+            }
+            gen.writeEndObject();
+        }
+        buffer.write('\n');
+        return buffer.toByteArray();
+    }
+
+    private static void writeAttributes(JsonGenerator gen, String fieldName, Attributes attributes) throws IOException {
+        if (attributes.isEmpty()) {
+            return;
+        }
+        gen.writeObjectFieldStart(fieldName);
+        // Arrays are written in their toString form to keep the format flat
+        attributes.forEach((key, value) -> {
+            try {
+                gen.writeFieldName(key.getKey());
+                switch (value) {
+                    case Long number -> gen.writeNumber(number);
+                    case Double number -> gen.writeNumber(number);
+                    case Boolean bool -> gen.writeBoolean(bool);
+                    default -> gen.writeString(String.valueOf(value));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        gen.writeEndObject();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess(); // Every export is flushed
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        shutdown = true;
+        closeQuietly();
+        return CompletableResultCode.ofSuccess();
+    }
+
+    private void closeQuietly() {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.close();
+        } catch (IOException e) {
+            log.debug("Could not close {}", file, e);
+        }
+        out = null;
+    }
+}
@@ -0,0 +1,51 @@
+package com.volunteerconnect.backend.config.tracing;
+
+import com.volunteerconnect.backend.exception.DomainException;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs a piece of code in a child span of the current one (the HTTP request's, created by Spring's server
+ * observation). Exceptions are recorded on the span and rethrown unchanged; only unexpected ones mark it as failed,
+ * a {@link DomainException} ("event full", "not found", ...) is an ordinary outcome.
+ *
+ * When the request is not sampled, or tracing is disabled, the spans are no-op and cost an allocation or two.
+ */
+@Component
+public class Spans {
+
+    static final String INSTRUMENTATION_SCOPE = "com.volunteerconnect.backend";
+    private static final AttributeKey<String> OUTCOME = AttributeKey.stringKey("app.outcome");
+
+    @FunctionalInterface
+    public interface SpanBody<T, E extends Throwable> {
+        T run() throws E;
+    }
+
+    private final Tracer tracer;
+
+    public Spans(OpenTelemetry openTelemetry) {
+        this.tracer = openTelemetry.getTracer(INSTRUMENTATION_SCOPE);
+    }
+
+    public <T, E extends Throwable> T inSpan(String name, SpanBody<T, E> body) throws E {
+        Span span = tracer.spanBuilder(name).startSpan();
+        try (Scope ignored = span.makeCurrent()) {
+            return body.run();
+        } catch (DomainException e) {
+            span.setAttribute(OUTCOME, e.getClass().getSimpleName());
+            throw e;
+        } catch (Throwable e) {
+            span.recordException(e);
+            span.setStatus(StatusCode.ERROR);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
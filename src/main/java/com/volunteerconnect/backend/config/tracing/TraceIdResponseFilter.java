@@ -0,0 +1,41 @@
+package com.volunteerconnect.backend.config.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Returns the request's trace id as {@code X-Trace-Id}, so a slow or failed call seen by a client can be looked up
+ * in the exported spans and in the logs (which carry the same id). The id is set even when the trace is not sampled;
+ * {@code X-Trace-Sampled} tells whether its spans were recorded.
+ *
+ * Runs right after Spring's server observation filter, which starts the request span (continuing the caller's
+ * trace when the request has a W3C {@code traceparent} header).
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class TraceIdResponseFilter extends OncePerRequestFilter {
+
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+    static final String SAMPLED_HEADER = "X-Trace-Sampled";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SpanContext context = Span.current().getSpanContext();
+        if (context.isValid()) {
+            response.setHeader(TRACE_ID_HEADER, context.getTraceId());
+            response.setHeader(SAMPLED_HEADER, Boolean.toString(context.isSampled()));
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,57 @@
+package com.volunteerconnect.backend.config.tracing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One span per repository call, per call into a service ({@code @Timed("app.service")} classes) and per user lookup
+ * of the security layer, named {@code Type.method}, e.g. {@code EventRegistrationRepository.findByEvent}.
+ *
+ * Calls a class makes to its own methods are not proxied and get no span; see {@link Spans} for those.
+ */
+@Aspect
+@Component
+public class TracingAspect {
+
+    private static final String APP_PACKAGE = "com.volunteerconnect.backend.";
+
+    private final Spans spans;
+    private final Map<Class<?>, String> typeNames = new ConcurrentHashMap<>();
+
+    public TracingAspect(Spans spans) {
+        this.spans = spans;
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))"
+            + " || (@within(io.micrometer.core.annotation.Timed) && within(com.volunteerconnect.backend.service..*))"
+            + " || execution(* org.springframework.security.core.userdetails.UserDetailsService+.loadUserByUsername(..))")
+    public Object trace(ProceedingJoinPoint joinPoint) throws Throwable {
+        String name = typeName(joinPoint.getThis(), joinPoint.getSignature().getDeclaringType())
+                + "." + joinPoint.getSignature().getName();
+        return spans.inSpan(name, joinPoint::proceed);
+    }
+
+    // The application interface a repository proxy implements (the method itself is often declared by
+    // CrudRepository, and every repository's target is a SimpleJpaRepository), the class of a service, or the
+    // interface the method comes from for beans defined as lambdas (the UserDetailsService)
+    private String typeName(Object proxy, Class<?> declaringType) {
+        return typeNames.computeIfAbsent(proxy.getClass(), proxyClass -> {
+            if (!AopUtils.isJdkDynamicProxy(proxy)) {
+                return AopUtils.getTargetClass(proxy).getSimpleName();
+            }
+            return Arrays.stream(AopProxyUtils.proxiedUserInterfaces(proxy))
+                    .filter(type -> type.getName().startsWith(APP_PACKAGE))
+                    .findFirst()
+                    .map(Class::getSimpleName)
+                    .orElse(declaringType.getSimpleName());
+        });
+    }
+}
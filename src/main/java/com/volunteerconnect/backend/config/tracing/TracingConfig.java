@@ -0,0 +1,25 @@
+package com.volunteerconnect.backend.config.tracing;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+/**
+ * Tracing itself (tracer, sampling, W3C propagation, HTTP server and Spring Security spans) is Spring Boot's
+ * Micrometer-to-OpenTelemetry bridge, configured with {@code management.tracing.*}; Boot hands every
+ * {@code SpanExporter} bean the sampled spans through a batching processor. This adds the file exporter.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.tracing.file", name = "enabled", havingValue = "true")
+    public FileSpanExporter fileSpanExporter(@Value("${app.tracing.file.path:logs/spans.jsonl}") Path path,
+                                             @Value("${app.tracing.file.max-size:100MB}") DataSize maxSize) {
+        return new FileSpanExporter(path, maxSize.toBytes());
+    }
+}
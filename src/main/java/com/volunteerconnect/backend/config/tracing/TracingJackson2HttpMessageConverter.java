@@ -0,0 +1,32 @@
+package com.volunteerconnect.backend.config.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Spring's Jackson converter with each response body write traced as {@code json.serialize}, the same span the
+ * event payload converter records. WebConfig puts it in place of the auto-configured one.
+ */
+public class TracingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public static final String SERIALIZE_SPAN = "json.serialize";
+
+    private final Spans spans;
+
+    public TracingJackson2HttpMessageConverter(ObjectMapper objectMapper, Spans spans) {
+        super(objectMapper);
+        this.spans = spans;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        spans.inSpan(SERIALIZE_SPAN, () -> {
+            super.writeInternal(object, type, outputMessage);
+            return null;
+        });
+    }
+}
@@ -1,14 +1,17 @@
 package com.volunteerconnect.backend.controller;
 
+import com.volunteerconnect.backend.dto.AvailabilityResponse;
 import com.volunteerconnect.backend.dto.LoginRequest;
 import com.volunteerconnect.backend.dto.LoginResponse;
 import com.volunteerconnect.backend.dto.RegisterRequest;
 import com.volunteerconnect.backend.model.User;
 import com.volunteerconnect.backend.model.Role;
 import com.volunteerconnect.backend.service.AuthService;
+import com.volunteerconnect.backend.service.availability.AvailabilityService;
+import com.volunteerconnect.backend.security.AuthFailureLogger;
 import com.volunteerconnect.backend.security.JwtService;
-import com.volunteerconnect.backend.security.CustomUserDetails;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -22,24 +25,48 @@ import org.springframework.web.bind.annotation.*;
 
 @RestController
 @RequestMapping("/api/auth")
+@Slf4j
 public class AuthController {
 
     private final AuthService userService;
     private final AuthenticationManager authenticationManager;
     private final JwtService jwtService;
+    private final AvailabilityService availabilityService;
+    private final AuthFailureLogger authFailureLogger;
 
-    public AuthController(AuthService userService, AuthenticationManager authenticationManager, JwtService jwtService) {
+    public AuthController(AuthService userService, AuthenticationManager authenticationManager, JwtService jwtService,
+                          AvailabilityService availabilityService, AuthFailureLogger authFailureLogger) {
         this.userService = userService;
         this.authenticationManager = authenticationManager;
         this.jwtService = jwtService;
+        this.availabilityService = availabilityService;
+        this.authFailureLogger = authFailureLogger;
     }
 
-    @PostMapping("/register")
-    public ResponseEntity<String> register(@RequestBody RegisterRequest registerRequest) {
-        if (userService.findByUsername(registerRequest.getUsername()).isPresent()) {
-            return new ResponseEntity<>("Username is already taken!", HttpStatus.BAD_REQUEST);
+    /**
+     * Live "is it taken?" check for the signup form.
+     * Endpoint: GET /api/auth/availability?username=bob&email=bob@example.com (either parameter may be omitted)
+     */
+    @GetMapping("/availability")
+    public ResponseEntity<AvailabilityResponse> availability(@RequestParam(required = false) String username,
+                                                             @RequestParam(required = false) String email) {
+        boolean hasUsername = username != null && !username.isBlank();
+        boolean hasEmail = email != null && !email.isBlank();
+        if (!hasUsername && !hasEmail) {
+            return ResponseEntity.badRequest().build();
         }
 
+        AvailabilityResponse response = AvailabilityResponse.builder()
+                .username(hasUsername ? username : null)
+                .usernameAvailable(hasUsername ? availabilityService.isUsernameAvailable(username) : null)
+                .email(hasEmail ? email : null)
+                .emailAvailable(hasEmail ? availabilityService.isEmailAvailable(email) : null)
+                .build();
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/register")
+    public ResponseEntity<String> register(@RequestBody RegisterRequest registerRequest) {
         Role roleToAssign = Role.VOLUNTEER;
         String inputRole = registerRequest.getRole();
 
@@ -47,7 +74,7 @@ public class AuthController {
             try {
                 roleToAssign = Role.valueOf(inputRole.toUpperCase());
             } catch (IllegalArgumentException e) {
-                System.err.println("Invalid role specified during registration, defaulting to VOLUNTEER: " + inputRole);
+                log.warn("Invalid role specified during registration, defaulting to VOLUNTEER: {}", inputRole);
             }
         }
 
@@ -60,6 +87,7 @@ public class AuthController {
                 .role(roleToAssign)
                 .build();
 
+        // Single insert: a taken username or email surfaces as a DuplicateResourceException (409)
         userService.registerNewUser(newUser);
 
         return new ResponseEntity<>("User registered successfully!", HttpStatus.CREATED);
@@ -75,17 +103,13 @@ public class AuthController {
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
-            // Check if the principal is an instance of CustomUserDetails before casting
-            if (!(authentication.getPrincipal() instanceof CustomUserDetails)) {
-                System.err.println("Error: Principal is not CustomUserDetails. Actual type: " + authentication.getPrincipal().getClass().getName());
-                throw new IllegalStateException("Authentication principal is not of type CustomUserDetails.");
+            // The user details service returns the User entity itself
+            if (!(authentication.getPrincipal() instanceof User authenticatedUser)) {
+                log.error("Principal is not a User. Actual type: {}", authentication.getPrincipal().getClass().getName());
+                throw new IllegalStateException("Authentication principal is not of type User.");
             }
 
-            CustomUserDetails customUserDetails = (CustomUserDetails) authentication.getPrincipal();
-
-            User authenticatedUser = customUserDetails.getUser();
-
-            String token = jwtService.generateToken(customUserDetails);
+            String token = jwtService.generateToken((UserDetails) authenticatedUser);
 
             LoginResponse response = LoginResponse.builder()
                     .token(token)
@@ -100,14 +124,13 @@ public class AuthController {
             return new ResponseEntity<>(response, HttpStatus.OK);
 
         } catch (BadCredentialsException e) {
-            System.err.println("Bad credentials for user: " + loginRequest.getUsername());
+            authFailureLogger.failure(loginRequest.getUsername(), "bad_credentials");
             return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
         } catch (AuthenticationException e) {
-            System.err.println("Authentication error for user: " + loginRequest.getUsername() + ": " + e.getMessage());
+            authFailureLogger.failure(loginRequest.getUsername(), e.getClass().getSimpleName());
             return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
         } catch (Exception e) {
-            System.err.println("Unexpected error during login for user: " + loginRequest.getUsername() + ": " + e.getMessage());
-            e.printStackTrace();
+            log.error("Unexpected error during login", e);
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
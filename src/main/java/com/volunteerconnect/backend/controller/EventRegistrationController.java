@@ -1,11 +1,14 @@
 package com.volunteerconnect.backend.controller;
 
+import com.volunteerconnect.backend.dto.CursorPage;
 import com.volunteerconnect.backend.dto.EventRegistrationRequest;
 import com.volunteerconnect.backend.dto.EventRegistrationResponse;
+import com.volunteerconnect.backend.model.RegistrationStatus;
 import com.volunteerconnect.backend.model.User; // Import your User model for principal casting
 import com.volunteerconnect.backend.service.EventRegistrationService;
 import jakarta.validation.Valid; // For @Valid annotation
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -14,7 +17,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
 @RestController
 @RequestMapping("/api/event-registrations") // Base path for registration endpoints
@@ -67,28 +70,53 @@ public class EventRegistrationController {
     }
 
     /**
-     * Get all registrations for a specific event.
-     * Endpoint: GET /api/event-registrations/event/{eventId}
+     * Confirms a pending registration; the volunteer is notified in the background.
+     * Endpoint: PUT /api/event-registrations/{registrationId}/confirm
+     * Access: The organizer of the registration's event.
+     */
+    @PutMapping("/{registrationId}/confirm")
+    @PreAuthorize("hasRole('ORGANIZER')")
+    public ResponseEntity<EventRegistrationResponse> confirmRegistration(@PathVariable Long registrationId) {
+        return ResponseEntity.ok(eventRegistrationService.confirmRegistration(registrationId, getCurrentAuthenticatedUserId()));
+    }
+
+    /**
+     * Get the registrations for a specific event, newest first, one page at a time.
+     * Endpoint: GET /api/event-registrations/event/{eventId}?status=CONFIRMED&from=2025-01-01T00:00:00&to=...&size=20&cursor=...
+     * All parameters are optional; pass the response's nextCursor as cursor for the next page.
+     * includeArchived=true also returns registrations moved to the archive (past events, old cancellations).
      * Access: Organizers or Admins can view registrations for an event.
      */
     @GetMapping("/event/{eventId}")
     @PreAuthorize("hasAnyRole('ORGANIZER', 'ADMIN')")
-    public ResponseEntity<List<EventRegistrationResponse>> getRegistrationsForEvent(@PathVariable Long eventId) {
-        List<EventRegistrationResponse> registrations = eventRegistrationService.getRegistrationsForEvent(eventId);
-        return ResponseEntity.ok(registrations);
+    public ResponseEntity<CursorPage<EventRegistrationResponse>> getRegistrationsForEvent(
+            @PathVariable Long eventId,
+            @RequestParam(required = false) RegistrationStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(eventRegistrationService.getRegistrationsForEvent(eventId, status, from, to, includeArchived, cursor, size));
     }
 
     /**
-     * Get all events a specific volunteer has registered for.
-     * Endpoint: GET /api/event-registrations/volunteer/{volunteerId}
+     * Get the registrations a specific volunteer has made, newest first, one page at a time.
+     * Endpoint: GET /api/event-registrations/volunteer/{volunteerId} with the same parameters as above.
      * Access: An authenticated user can view their own registrations. Admin can view anyone's.
      * If fetching for others, ensure currentUserId matches volunteerId or current user is ADMIN.
      */
     @GetMapping("/volunteer/{volunteerId}")
     @PreAuthorize("hasAnyRole('ADMIN') or (#volunteerId == authentication.principal.id)") // Admin or owner
-    public ResponseEntity<List<EventRegistrationResponse>> getRegistrationsByVolunteer(@PathVariable Long volunteerId) {
-        List<EventRegistrationResponse> registrations = eventRegistrationService.getRegistrationsByVolunteer(volunteerId);
-        return ResponseEntity.ok(registrations);
+    public ResponseEntity<CursorPage<EventRegistrationResponse>> getRegistrationsByVolunteer(
+            @PathVariable Long volunteerId,
+            @RequestParam(required = false) RegistrationStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(eventRegistrationService.getRegistrationsByVolunteer(volunteerId, status, from, to, includeArchived, cursor, size));
     }
 
     /**
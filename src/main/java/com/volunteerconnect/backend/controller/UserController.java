@@ -1,22 +1,41 @@
 package com.volunteerconnect.backend.controller;
 
+import com.volunteerconnect.backend.dto.UserImportResponse;
 import com.volunteerconnect.backend.dto.UserProfileResponse;
 import com.volunteerconnect.backend.dto.UserProfileUpdateRequest;
 import com.volunteerconnect.backend.model.User; // Import your User model if you need to access its properties directly
+import com.volunteerconnect.backend.service.UserImportService;
 import com.volunteerconnect.backend.service.UserService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize; // For @PreAuthorize
 import org.springframework.security.core.Authentication; // To get the authenticated principal
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 @RestController
 @RequestMapping("/api/users") // Base path for user-related endpoints
 public class UserController {
 
     private final UserService userService;
+    private final UserImportService userImportService;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, UserImportService userImportService) {
         this.userService = userService;
+        this.userImportService = userImportService;
+    }
+
+    /**
+     * Imports users from a CSV file sent as the request body (Content-Type: text/csv), read as it arrives.
+     * Header row with username, email, password and optionally firstName, lastName, role (VOLUNTEER or ORGANIZER).
+     * Valid rows are imported even when others fail; the response lists every failed row with its line number.
+     * Example: curl -X POST -H "Content-Type: text/csv" --data-binary @volunteers.csv /api/users/import
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<UserImportResponse> importUsers(InputStream csv) throws IOException {
+        return ResponseEntity.ok(userImportService.importUsers(csv));
     }
 
     /**
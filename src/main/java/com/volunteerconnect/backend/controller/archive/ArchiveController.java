@@ -0,0 +1,53 @@
+package com.volunteerconnect.backend.controller.archive;
+
+import com.volunteerconnect.backend.dto.PageResponse;
+import com.volunteerconnect.backend.dto.archive.ArchivedEventResponse;
+import com.volunteerconnect.backend.exception.ArchiveRunInProgressException;
+import com.volunteerconnect.backend.service.archive.ArchiveJobs;
+import com.volunteerconnect.backend.service.archive.ArchiveService;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+// Archived events; archived registrations are read through /api/event-registrations with ?includeArchived=true
+@RestController
+@RequestMapping("/api/archive")
+public class ArchiveController {
+
+    private final ArchiveService archiveService;
+    private final ArchiveJobs archiveJobs;
+
+    public ArchiveController(ArchiveService archiveService, ArchiveJobs archiveJobs) {
+        this.archiveService = archiveService;
+        this.archiveJobs = archiveJobs;
+    }
+
+    // An organization's archived events: ?organizationId=1&page=0&size=20&sort=eventDate,desc (sortable by eventDate, title, id)
+    @GetMapping("/events")
+    @PreAuthorize("hasAnyRole('ORGANIZER', 'ADMIN')")
+    public ResponseEntity<PageResponse<ArchivedEventResponse>> getArchivedEvents(
+            @RequestParam Long organizationId,
+            @PageableDefault(size = 20, sort = "eventDate", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(archiveService.getArchivedEvents(organizationId, pageable));
+    }
+
+    @GetMapping("/events/{id}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ArchivedEventResponse> getArchivedEvent(@PathVariable Long id) {
+        return ResponseEntity.ok(archiveService.getArchivedEvent(id));
+    }
+
+    // Starts the archival now instead of waiting for app.archive.cron. It runs in the background like a scheduled run
+    // (202, the outcome is logged), or not at all while another run is in progress (409)
+    @PostMapping("/run")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> runArchival() {
+        if (!archiveJobs.start()) {
+            throw ArchiveRunInProgressException.INSTANCE;
+        }
+        return ResponseEntity.accepted().build();
+    }
+}
@@ -1,117 +1,82 @@
 package com.volunteerconnect.backend.controller.organization;
 
+import com.volunteerconnect.backend.dto.PageResponse;
 import com.volunteerconnect.backend.dto.organization.OrganizationRequest;
 import com.volunteerconnect.backend.dto.organization.OrganizationResponse;
-import com.volunteerconnect.backend.model.organization.Organization;
-import com.volunteerconnect.backend.repository.organization.OrganizationRepository;
-import org.springframework.beans.factory.annotation.Autowired;
+import com.volunteerconnect.backend.dto.organization.OrganizationStatsResponse;
+import com.volunteerconnect.backend.service.organization.OrganizationService;
+import com.volunteerconnect.backend.service.organization.OrganizationStatsService;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize; // Make sure this is imported
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.server.ResponseStatusException;
 
-import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/organizations")
 public class OrganizationController {
 
-    @Autowired
-    private OrganizationRepository organizationRepository;
+    private final OrganizationService organizationService;
+    private final OrganizationStatsService organizationStatsService;
 
-    // Helper method to convert Organization entity to OrganizationResponse DTO
-    private OrganizationResponse convertToDto(Organization organization) {
-        return OrganizationResponse.builder()
-                .id(organization.getId())
-                .name(organization.getName())
-                .description(organization.getDescription())
-                .address(organization.getAddress())
-                .contactEmail(organization.getContactEmail())
-                .phoneNumber(organization.getPhoneNumber())
-                .websiteUrl(organization.getWebsiteUrl())
-                .active(organization.isActive())
-                .build();
+    public OrganizationController(OrganizationService organizationService,
+                                  OrganizationStatsService organizationStatsService) {
+        this.organizationService = organizationService;
+        this.organizationStatsService = organizationStatsService;
     }
 
     // --- CREATE Operation ---
     @PostMapping
     @PreAuthorize("hasAnyRole('ORGANIZER', 'ADMIN')") // THIS IS THE CRITICAL ANNOTATION
     public ResponseEntity<OrganizationResponse> createOrganization(@RequestBody OrganizationRequest organizationRequest) {
-        // You might want to add checks for duplicate organization names
-        if (organizationRepository.findByName(organizationRequest.getName()).isPresent()) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "Organization with this name already exists.");
-        }
-
-        Organization organizationToSave = Organization.builder()
-                .name(organizationRequest.getName())
-                .description(organizationRequest.getDescription())
-                .address(organizationRequest.getAddress())
-                .contactEmail(organizationRequest.getContactEmail())
-                .phoneNumber(organizationRequest.getPhoneNumber())
-                .websiteUrl(organizationRequest.getWebsiteUrl())
-                .active(organizationRequest.isActive())
-                .build();
-
-        Organization savedOrganization = organizationRepository.save(organizationToSave);
-        return new ResponseEntity<>(convertToDto(savedOrganization), HttpStatus.CREATED);
+        return new ResponseEntity<>(organizationService.createOrganization(organizationRequest), HttpStatus.CREATED);
     }
 
     // --- READ Operations ---
+    // ?page=0&size=20&sort=name,asc (sortable by id, name, active; size is capped by spring.data.web.pageable.max-page-size)
     @GetMapping
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<List<OrganizationResponse>> getAllOrganizations() {
-        List<Organization> organizations = organizationRepository.findAll();
-        List<OrganizationResponse> organizationResponses = organizations.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(organizationResponses);
+    public ResponseEntity<PageResponse<OrganizationResponse>> getOrganizations(
+            @PageableDefault(size = 20, sort = "name", direction = Sort.Direction.ASC) Pageable pageable) {
+        return ResponseEntity.ok(organizationService.getOrganizations(pageable));
     }
 
     @GetMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<OrganizationResponse> getOrganizationById(@PathVariable Long id) {
-        Optional<Organization> organization = organizationRepository.findById(id);
-        return organization.map(this::convertToDto)
-                .map(ResponseEntity::ok)
-                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+        return ResponseEntity.ok(organizationService.getOrganizationById(id));
+    }
+
+    // Dashboard totals, maintained on every event/registration write: one primary-key read
+    @GetMapping("/{id}/stats")
+    @PreAuthorize("hasAnyRole('ORGANIZER', 'ADMIN')")
+    public ResponseEntity<OrganizationStatsResponse> getOrganizationStats(@PathVariable Long id) {
+        return ResponseEntity.ok(organizationStatsService.getStats(id));
+    }
+
+    // Recomputes all totals from the events and registrations (also runs nightly, see app.organization-stats.rebuild-cron)
+    @PostMapping("/stats/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Integer>> rebuildOrganizationStats() {
+        return ResponseEntity.ok(Map.of("organizations", organizationStatsService.rebuild()));
     }
 
     // --- UPDATE Operation ---
     @PutMapping("/{id}")
     @PreAuthorize("hasAnyRole('ORGANIZER', 'ADMIN')")
     public ResponseEntity<OrganizationResponse> updateOrganization(@PathVariable Long id, @RequestBody OrganizationRequest organizationRequest) {
-        Optional<Organization> optionalOrganization = organizationRepository.findById(id);
-
-        if (optionalOrganization.isPresent()) {
-            Organization existingOrganization = optionalOrganization.get();
-
-            existingOrganization.setName(organizationRequest.getName());
-            existingOrganization.setDescription(organizationRequest.getDescription());
-            existingOrganization.setAddress(organizationRequest.getAddress());
-            existingOrganization.setContactEmail(organizationRequest.getContactEmail());
-            existingOrganization.setPhoneNumber(organizationRequest.getPhoneNumber());
-            existingOrganization.setWebsiteUrl(organizationRequest.getWebsiteUrl());
-            existingOrganization.setActive(organizationRequest.isActive());
-
-            Organization updatedOrganization = organizationRepository.save(existingOrganization);
-            return ResponseEntity.ok(convertToDto(updatedOrganization));
-        } else {
-            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
-        }
+        return ResponseEntity.ok(organizationService.updateOrganization(id, organizationRequest));
     }
 
     // --- DELETE Operation ---
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<HttpStatus> deleteOrganization(@PathVariable Long id) {
-        if (organizationRepository.existsById(id)) {
-            organizationRepository.deleteById(id);
-            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
-        } else {
-            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
-        }
+        organizationService.deleteOrganization(id);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
-}
\ No newline at end of file
+}
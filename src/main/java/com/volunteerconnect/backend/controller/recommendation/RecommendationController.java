@@ -0,0 +1,46 @@
+package com.volunteerconnect.backend.controller.recommendation;
+
+import com.volunteerconnect.backend.dto.recommendation.RecommendedEventResponse;
+import com.volunteerconnect.backend.model.User;
+import com.volunteerconnect.backend.service.recommendation.RecommendationService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/recommendations")
+public class RecommendationController {
+
+    private final RecommendationService recommendationService;
+
+    public RecommendationController(RecommendationService recommendationService) {
+        this.recommendationService = recommendationService;
+    }
+
+    private Long getCurrentAuthenticatedUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not authenticated.");
+        }
+        if (authentication.getPrincipal() instanceof User user) {
+            return user.getId();
+        }
+        throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Could not determine authenticated user ID from principal.");
+    }
+
+    // The authenticated volunteer's feed, best first: ?limit=10 (at most app.recommendations.top-k)
+    @GetMapping("/me")
+    @PreAuthorize("hasRole('VOLUNTEER')")
+    public ResponseEntity<List<RecommendedEventResponse>> getMyRecommendations(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(recommendationService.getRecommendations(getCurrentAuthenticatedUserId(), limit));
+    }
+}
@@ -0,0 +1,17 @@
+package com.volunteerconnect.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityResponse {
+    private String username;
+    private Boolean usernameAvailable; // null when no username was asked for
+    private String email;
+    private Boolean emailAvailable;    // null when no email was asked for
+}
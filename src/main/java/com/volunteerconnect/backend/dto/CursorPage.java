@@ -0,0 +1,36 @@
+package com.volunteerconnect.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated listing. Pass {@code nextCursor} back as {@code ?cursor=} for the following page;
+ * it is {@code null} on the last page. There is no total count: counting every matching row is what keyset pagination
+ * avoids.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPage<T> {
+    private List<T> content;
+    private int size;
+    private String nextCursor;
+
+    /**
+     * @param rows     up to {@code size + 1} rows; the extra one only signals that another page exists
+     * @param cursorOf the encoded cursor ({@link KeysetCursor}, {@link IdCursor}) positioned at a row
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(List.copyOf(rows), size, null);
+        }
+        List<T> content = List.copyOf(rows.subList(0, size));
+        return new CursorPage<>(content, size, cursorOf.apply(content.get(size - 1)));
+    }
+}
@@ -1,12 +1,16 @@
 package com.volunteerconnect.backend.dto;
 
 import com.volunteerconnect.backend.model.RegistrationStatus; // Import the new enum
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Data // Generates getters, setters, toString, equals, and hashCode
 @Builder // Enables the .builder() pattern for easy object creation
+@NoArgsConstructor
+@AllArgsConstructor // Field order is the order of EventRegistrationRepository's "select new" projections
 public class EventRegistrationResponse {
     private Long id;
     private Long eventId;
@@ -1,5 +1,6 @@
 package com.volunteerconnect.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -31,5 +32,8 @@ public class EventResponse {
 
     private UserSummaryDto organizer;
     private OrganizationSummaryDto organization;
+    private long registeredCount; // Registrations that are not cancelled, whether or not the roster is embedded
+    // Only embedded on request (?includeVolunteers=true); otherwise page through GET /api/events/{id}/volunteers
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<UserSummaryDto> registeredVolunteers;
 }
\ No newline at end of file
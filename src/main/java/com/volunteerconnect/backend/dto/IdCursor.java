@@ -0,0 +1,32 @@
+package com.volunteerconnect.backend.dto;
+
+import com.volunteerconnect.backend.exception.BusinessRuleException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in a listing ordered by id ascending: the next page starts after this id. The id-only counterpart of
+ * {@link KeysetCursor}, for listings without a natural timestamp order. Clients see it as an opaque string.
+ */
+public final class IdCursor {
+
+    private IdCursor() {
+    }
+
+    public static String encode(long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Long.toString(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Decodes a cursor from a client; {@code null} or blank means the first page (0 precedes every generated id). */
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) { // Includes NumberFormatException
+            throw new BusinessRuleException("Invalid cursor.");
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.volunteerconnect.backend.dto;
+
+import com.volunteerconnect.backend.exception.BusinessRuleException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a listing ordered by (timestamp desc, id desc): the next page starts after the row with this timestamp
+ * and id. Unlike an offset it stays valid when rows are added or removed in front of it, and the database seeks
+ * straight to it through an index on (..., timestamp, id) instead of reading and discarding the skipped rows.
+ * Clients see it as an opaque string.
+ */
+public record KeysetCursor(LocalDateTime at, long id) {
+
+    // Sorts after every real row, so the first page needs no special query
+    public static final KeysetCursor START = new KeysetCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString((at + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Decodes a cursor from a client; {@code null} or blank means the first page. */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return START;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf('|');
+            return new KeysetCursor(LocalDateTime.parse(value.substring(0, separator)), Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BusinessRuleException("Invalid cursor.");
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.volunteerconnect.backend.dto;
+
+import com.volunteerconnect.backend.dto.organization.OrganizationSummaryDto;
+import com.volunteerconnect.backend.model.RegistrationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * One row of an organizer's "my events" page: the event's own columns and its registration counts, without the
+ * roster that {@link EventResponse} carries.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrganizerEventResponse {
+    private Long id;
+    private String title;
+    private LocalDateTime eventDate;
+    private String location;
+    private int capacity;
+    private boolean active;
+    private OrganizationSummaryDto organization;
+    private Map<RegistrationStatus, Long> registrationsByStatus; // Every status, 0 when there are none
+}
@@ -0,0 +1,29 @@
+package com.volunteerconnect.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserImportResponse {
+    private int rows;              // Data rows read (the header not included)
+    private int imported;
+    private int failed;
+    private List<RowError> errors; // One entry per failed row, in file order
+    private long durationMs;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long line;         // Line of the CSV file the row starts on (the header is line 1)
+        private String username;
+        private String message;
+    }
+}
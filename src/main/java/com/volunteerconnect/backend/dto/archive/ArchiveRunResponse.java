@@ -0,0 +1,18 @@
+package com.volunteerconnect.backend.dto.archive;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchiveRunResponse {
+    private int events;                  // Events moved to events_archive
+    private int registrations;           // Registrations moved with those events
+    private int cancelledRegistrations;  // Old cancelled registrations of live events moved on their own
+    private boolean complete;            // False when the run stopped at app.archive.max-run-time; the next run resumes
+    private long durationMs;
+}
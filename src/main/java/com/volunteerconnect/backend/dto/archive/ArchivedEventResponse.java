@@ -0,0 +1,33 @@
+package com.volunteerconnect.backend.dto.archive;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.volunteerconnect.backend.model.RegistrationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchivedEventResponse {
+    private Long id;
+    private String title;
+    private String description;
+    private LocalDateTime eventDate;
+    private String location;
+    private int capacity;
+    private boolean active;
+    private String requiredSkills;
+    private Long organizationId;
+    private Long organizerId;
+    private LocalDateTime archivedAt;
+
+    // Only on the single-event view; listings leave it out
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<RegistrationStatus, Long> registrationsByStatus;
+}
@@ -0,0 +1,107 @@
+package com.volunteerconnect.backend.dto.json;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.volunteerconnect.backend.config.tracing.Spans;
+import com.volunteerconnect.backend.config.tracing.TracingJackson2HttpMessageConverter;
+import com.volunteerconnect.backend.dto.EventResponse;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Writes {@code List<EventResponse>} (event listings) and {@code EventResponse} (event details and the responses of
+ * create/update/register) with {@link EventResponseJsonWriter}. Registered ahead of the Jackson converter, which
+ * still handles everything else, including any shape switched off here. Write-only: request bodies are never
+ * EventResponse.
+ *
+ * The generator buffers come from a shared pool instead of Jackson's default per-thread pool, which would allocate
+ * fresh buffers for every request on virtual threads.
+ */
+public class EventResponseHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    private final JsonFactory jsonFactory;
+    private final boolean lists;
+    private final boolean details;
+    private final Spans spans;
+
+    /**
+     * @param jsonFactory the application ObjectMapper's factory (its generator features are kept)
+     * @param lists       write {@code List<EventResponse>} bodies
+     * @param details     write single {@code EventResponse} bodies
+     * @param spans       traces each write as {@code json.serialize}
+     */
+    public EventResponseHttpMessageConverter(JsonFactory jsonFactory, boolean lists, boolean details, Spans spans) {
+        super(MediaType.APPLICATION_JSON);
+        this.spans = spans;
+        this.jsonFactory = jsonFactory.rebuild()
+                .recyclerPool(JsonRecyclerPools.sharedConcurrentDequePool())
+                .build();
+        this.lists = lists;
+        this.details = details;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return false; // Only the generic canWrite below applies
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        if (!canWrite(mediaType)) {
+            return false;
+        }
+        if (isEventList(type)) {
+            return lists;
+        }
+        return details && clazz == EventResponse.class;
+    }
+
+    private static boolean isEventList(Type type) {
+        return type instanceof ParameterizedType parameterized
+                && parameterized.getRawType() instanceof Class<?> raw
+                && List.class.isAssignableFrom(raw)
+                && parameterized.getActualTypeArguments()[0] == EventResponse.class;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage) throws IOException {
+        spans.inSpan(TracingJackson2HttpMessageConverter.SERIALIZE_SPAN, () -> {
+            // Not closing the servlet stream, like the Jackson converter
+            try (JsonGenerator gen = jsonFactory.createGenerator(StreamUtils.nonClosing(outputMessage.getBody()), JsonEncoding.UTF8)) {
+                if (body instanceof List<?> events) {
+                    EventResponseJsonWriter.writeEvents(gen, (List<EventResponse>) events);
+                } else {
+                    EventResponseJsonWriter.writeEvent(gen, (EventResponse) body);
+                }
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("EventResponse bodies are write-only", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("EventResponse bodies are write-only", inputMessage);
+    }
+}
@@ -0,0 +1,150 @@
+package com.volunteerconnect.backend.dto.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.volunteerconnect.backend.dto.EventResponse;
+import com.volunteerconnect.backend.dto.UserSummaryDto;
+import com.volunteerconnect.backend.dto.organization.OrganizationSummaryDto;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Writes {@link EventResponse} JSON straight to a {@link JsonGenerator}, field by field, producing the same document
+ * as Spring Boot's default ObjectMapper (same names, order, nulls and ISO dates). Jackson's bean serializer looks up
+ * a serializer per property and value through reflection-built metadata; here every field is a direct call, and the
+ * field names are pre-encoded once, which matters for event listings with large volunteer rosters.
+ *
+ * Keep in sync with EventResponse, UserSummaryDto and OrganizationSummaryDto: a new field is not written until it is
+ * added here (EventResponseJsonWriterTests compares the output with the ObjectMapper's).
+ */
+public final class EventResponseJsonWriter {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString TITLE = new SerializedString("title");
+    private static final SerializableString DESCRIPTION = new SerializedString("description");
+    private static final SerializableString EVENT_DATE = new SerializedString("eventDate");
+    private static final SerializableString LOCATION = new SerializedString("location");
+    private static final SerializableString CAPACITY = new SerializedString("capacity");
+    private static final SerializableString ACTIVE = new SerializedString("active");
+    private static final SerializableString REQUIRED_SKILLS = new SerializedString("requiredSkills");
+    private static final SerializableString ORGANIZER = new SerializedString("organizer");
+    private static final SerializableString ORGANIZATION = new SerializedString("organization");
+    private static final SerializableString REGISTERED_COUNT = new SerializedString("registeredCount");
+    private static final SerializableString REGISTERED_VOLUNTEERS = new SerializedString("registeredVolunteers");
+    private static final SerializableString USERNAME = new SerializedString("username");
+    private static final SerializableString EMAIL = new SerializedString("email");
+    private static final SerializableString FIRST_NAME = new SerializedString("firstName");
+    private static final SerializableString LAST_NAME = new SerializedString("lastName");
+    private static final SerializableString NAME = new SerializedString("name");
+    private static final SerializableString CONTACT_EMAIL = new SerializedString("contactEmail");
+
+    private EventResponseJsonWriter() {
+    }
+
+    public static void writeEvents(JsonGenerator gen, List<EventResponse> events) throws IOException {
+        if (events == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartArray();
+        for (EventResponse event : events) {
+            writeEvent(gen, event);
+        }
+        gen.writeEndArray();
+    }
+
+    public static void writeEvent(JsonGenerator gen, EventResponse event) throws IOException {
+        if (event == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject();
+        gen.writeFieldName(ID);
+        writeNumber(gen, event.getId());
+        gen.writeFieldName(TITLE);
+        gen.writeString(event.getTitle());
+        gen.writeFieldName(DESCRIPTION);
+        gen.writeString(event.getDescription());
+        gen.writeFieldName(EVENT_DATE);
+        writeDateTime(gen, event.getEventDate());
+        gen.writeFieldName(LOCATION);
+        gen.writeString(event.getLocation());
+        gen.writeFieldName(CAPACITY);
+        gen.writeNumber(event.getCapacity());
+        gen.writeFieldName(ACTIVE);
+        gen.writeBoolean(event.isActive());
+        gen.writeFieldName(REQUIRED_SKILLS);
+        gen.writeString(event.getRequiredSkills());
+        gen.writeFieldName(ORGANIZER);
+        writeUser(gen, event.getOrganizer());
+        gen.writeFieldName(ORGANIZATION);
+        writeOrganization(gen, event.getOrganization());
+        gen.writeFieldName(REGISTERED_COUNT);
+        gen.writeNumber(event.getRegisteredCount());
+        List<UserSummaryDto> volunteers = event.getRegisteredVolunteers();
+        if (volunteers != null) { // @JsonInclude(NON_NULL): no roster, no field
+            gen.writeFieldName(REGISTERED_VOLUNTEERS);
+            gen.writeStartArray();
+            for (UserSummaryDto volunteer : volunteers) {
+                writeUser(gen, volunteer);
+            }
+            gen.writeEndArray();
+        }
+        gen.writeEndObject();
+    }
+
+    private static void writeUser(JsonGenerator gen, UserSummaryDto user) throws IOException {
+        if (user == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject();
+        gen.writeFieldName(ID);
+        writeNumber(gen, user.getId());
+        gen.writeFieldName(USERNAME);
+        gen.writeString(user.getUsername());
+        gen.writeFieldName(EMAIL);
+        gen.writeString(user.getEmail());
+        gen.writeFieldName(FIRST_NAME);
+        gen.writeString(user.getFirstName());
+        gen.writeFieldName(LAST_NAME);
+        gen.writeString(user.getLastName());
+        gen.writeEndObject();
+    }
+
+    private static void writeOrganization(JsonGenerator gen, OrganizationSummaryDto organization) throws IOException {
+        if (organization == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject();
+        gen.writeFieldName(ID);
+        writeNumber(gen, organization.getId());
+        gen.writeFieldName(NAME);
+        gen.writeString(organization.getName());
+        gen.writeFieldName(CONTACT_EMAIL);
+        gen.writeString(organization.getContactEmail());
+        gen.writeEndObject();
+    }
+
+    private static void writeNumber(JsonGenerator gen, Long value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.longValue());
+        }
+    }
+
+    // Matches jackson-datatype-jsr310 with WRITE_DATES_AS_TIMESTAMPS disabled (Spring Boot's default)
+    private static void writeDateTime(JsonGenerator gen, LocalDateTime value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.volunteerconnect.backend.dto.organization;
+
+import com.volunteerconnect.backend.model.RegistrationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrganizationStatsResponse {
+    private Long organizationId;
+    private long eventsHosted;
+    private long upcomingEvents;
+    private Map<RegistrationStatus, Long> registrationsByStatus;
+    private long uniqueVolunteers;
+    private long totalCapacity;
+    private Double averageFillRate;  // Pending and confirmed registrations per seat over all events; null without capacity
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,24 @@
+package com.volunteerconnect.backend.dto.recommendation;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecommendedEventResponse {
+    private Long id;
+    private String title;
+    private LocalDateTime eventDate;
+    private String location;
+    private Long organizationId;
+    private String organizationName;
+    private List<String> matchedSkills;  // Required skills of the event the volunteer has registered with before
+    private int organizationHistory;     // The volunteer's active registrations with the event's organization
+}
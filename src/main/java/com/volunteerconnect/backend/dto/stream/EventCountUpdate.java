@@ -0,0 +1,19 @@
+package com.volunteerconnect.backend.dto.stream;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One event's live numbers, as pushed by GET /api/events/stream
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventCountUpdate {
+    private Long eventId;
+    private int capacity;
+    private long registeredCount; // Same count as EventResponse.registeredCount
+    private boolean active;
+    private boolean deleted; // The event is gone (only eventId is set); no further updates for it follow
+}
@@ -0,0 +1,12 @@
+// src/main/java/com/volunteerconnect/backend/exception/AlreadyRegisteredException.java
+package com.volunteerconnect.backend.exception;
+
+public class AlreadyRegisteredException extends DuplicateResourceException { // Returned as a 409
+
+    // Constant message, so one immutable instance serves every rejected registration
+    public static final AlreadyRegisteredException INSTANCE = new AlreadyRegisteredException();
+
+    private AlreadyRegisteredException() {
+        super("Volunteer is already registered for this event.");
+    }
+}
@@ -0,0 +1,13 @@
+// src/main/java/com/volunteerconnect/backend/exception/ArchiveRunInProgressException.java
+package com.volunteerconnect.backend.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class ArchiveRunInProgressException extends DomainException { // Returned as a 409
+
+    public static final ArchiveRunInProgressException INSTANCE = new ArchiveRunInProgressException();
+
+    private ArchiveRunInProgressException() {
+        super(HttpStatus.CONFLICT, "An archive run is already in progress.");
+    }
+}
@@ -0,0 +1,10 @@
+// src/main/java/com/volunteerconnect/backend/exception/BusinessRuleException.java
+package com.volunteerconnect.backend.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class BusinessRuleException extends DomainException { // Returned as a 400
+    public BusinessRuleException(String message) {
+        super(HttpStatus.BAD_REQUEST, message);
+    }
+}
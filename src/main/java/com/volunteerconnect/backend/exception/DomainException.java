@@ -0,0 +1,23 @@
+// src/main/java/com/volunteerconnect/backend/exception/DomainException.java
+package com.volunteerconnect.backend.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Base class for expected business outcomes ("not found", "already registered", "event full", ...).
+ *
+ * These are control flow, not bugs, so they skip stack-trace capture and suppression tracking, which is most
+ * of the cost of throwing. Because they are immutable, outcomes with a constant message can be thrown from a
+ * shared instance. {@link GlobalExceptionHandler} turns every subclass into an {@code ErrorResponse}.
+ */
+@Getter
+public abstract class DomainException extends RuntimeException {
+
+    private final HttpStatus status;
+
+    protected DomainException(HttpStatus status, String message) {
+        super(message, null, false, false); // no suppression, no stack trace
+        this.status = status;
+    }
+}
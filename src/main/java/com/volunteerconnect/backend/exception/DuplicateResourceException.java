@@ -0,0 +1,10 @@
+// src/main/java/com/volunteerconnect/backend/exception/DuplicateResourceException.java
+package com.volunteerconnect.backend.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class DuplicateResourceException extends DomainException { // Returned as a 409
+    public DuplicateResourceException(String message) {
+        super(HttpStatus.CONFLICT, message);
+    }
+}
@@ -0,0 +1,14 @@
+// src/main/java/com/volunteerconnect/backend/exception/EventFullException.java
+package com.volunteerconnect.backend.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class EventFullException extends DomainException { // Returned as a 400
+
+    // Constant message, so one immutable instance serves every rejected registration
+    public static final EventFullException INSTANCE = new EventFullException();
+
+    private EventFullException() {
+        super(HttpStatus.BAD_REQUEST, "Event is already at full capacity.");
+    }
+}
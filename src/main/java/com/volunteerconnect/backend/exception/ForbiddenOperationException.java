@@ -0,0 +1,10 @@
+// src/main/java/com/volunteerconnect/backend/exception/ForbiddenOperationException.java
+package com.volunteerconnect.backend.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class ForbiddenOperationException extends DomainException { // Returned as a 403
+    public ForbiddenOperationException(String message) {
+        super(HttpStatus.FORBIDDEN, message);
+    }
+}
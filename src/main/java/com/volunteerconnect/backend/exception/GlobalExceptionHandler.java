@@ -0,0 +1,36 @@
+// src/main/java/com/volunteerconnect/backend/exception/GlobalExceptionHandler.java
+package com.volunteerconnect.backend.exception;
+
+import com.volunteerconnect.backend.dto.ErrorResponse;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * The single place where domain outcomes become HTTP responses.
+ * Controllers and services just throw; nothing catches and re-wraps along the way.
+ */
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    static final String RETRY_AFTER_SECONDS = "1";
+
+    @ExceptionHandler(DomainException.class)
+    public ResponseEntity<ErrorResponse> handleDomainException(DomainException e) {
+        return ResponseEntity.status(e.getStatus()).body(new ErrorResponse(e.getMessage()));
+    }
+
+    // No database connection within spring.datasource.hikari.connection-timeout (pool exhausted, database down): the
+    // request was shed rather than failed, so the client is told to come back shortly. Counted by Hikari as
+    // hikaricp.connections.timeout
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<ErrorResponse> handleDatabaseUnavailable(RuntimeException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(new ErrorResponse("The service is busy, please retry shortly."));
+    }
+}
@@ -2,11 +2,9 @@
 package com.volunteerconnect.backend.exception;
 
 import org.springframework.http.HttpStatus;
-import org.springframework.web.bind.annotation.ResponseStatus;
 
-@ResponseStatus(HttpStatus.NOT_FOUND) // This makes Spring return a 404
-public class ResourceNotFoundException extends RuntimeException {
+public class ResourceNotFoundException extends DomainException { // Returned as a 404
     public ResourceNotFoundException(String message) {
-        super(message);
+        super(HttpStatus.NOT_FOUND, message);
     }
-}
\ No newline at end of file
+}
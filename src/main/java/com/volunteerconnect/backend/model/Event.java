@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLJoinTableRestriction;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -84,6 +85,7 @@ public class Event {
             joinColumns = @JoinColumn(name = "event_id"), // Column in event_registrations that links to 'event'
             inverseJoinColumns = @JoinColumn(name = "volunteer_id") // Column in event_registrations that links to 'user' (volunteer)
     )
+    @SQLJoinTableRestriction("status <> 'CANCELLED'") // Cancelled registrations are not part of the roster (or registeredCount)
     @Builder.Default
     private List<User> registeredVolunteers = new ArrayList<>(); // Use List if order matters, otherwise Set
     // --- END NEW REGISTERED VOLUNTEERS ---
@@ -0,0 +1,61 @@
+package com.volunteerconnect.backend.model.archive;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * An event moved out of {@code events} by the archival job (see ArchiveService), with its original id. Rows are
+ * written by INSERT ... SELECT statements in ArchivedEventRepository and never changed afterwards.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Immutable
+@Table(name = "events_archive")
+public class ArchivedEvent {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(nullable = false)
+    private LocalDateTime eventDate;
+
+    @Column(nullable = false)
+    private String location;
+
+    private int capacity;
+
+    private String requiredSkills;
+
+    private boolean active;
+
+    // Plain ids: archived rows keep no foreign keys to the live tables
+    @Column(nullable = false)
+    private Long organizationId;
+
+    @Column(nullable = false)
+    private Long organizerId;
+
+    private LocalDateTime createdDate;
+    private LocalDateTime updatedDate;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
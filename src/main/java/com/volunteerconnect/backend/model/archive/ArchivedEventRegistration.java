@@ -0,0 +1,53 @@
+package com.volunteerconnect.backend.model.archive;
+
+import com.volunteerconnect.backend.model.RegistrationStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * A registration moved out of {@code event_registrations}, either with its archived event or on its own as an old
+ * cancellation. The event's title and organization are copied in, since the event can be in either table.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Immutable
+@Table(name = "event_registrations_archive")
+public class ArchivedEventRegistration {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long eventId;
+
+    @Column(nullable = false)
+    private String eventTitle;
+
+    @Column(nullable = false)
+    private Long organizationId;
+
+    @Column(nullable = false)
+    private Long volunteerId;
+
+    private LocalDateTime registrationDate;
+
+    @Enumerated(EnumType.STRING)
+    private RegistrationStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
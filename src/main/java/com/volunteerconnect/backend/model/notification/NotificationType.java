@@ -0,0 +1,7 @@
+package com.volunteerconnect.backend.model.notification;
+
+// One message template per type: classpath:notifications/<TYPE>.txt
+public enum NotificationType {
+    EVENT_CHANGED,          // The date, time or location of an event the volunteer registered for changed
+    REGISTRATION_CONFIRMED  // The organizer confirmed the volunteer's registration
+}
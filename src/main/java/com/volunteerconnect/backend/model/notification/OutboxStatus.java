@@ -0,0 +1,7 @@
+package com.volunteerconnect.backend.model.notification;
+
+public enum OutboxStatus {
+    PENDING, // Waiting to be sent, or to be retried
+    SENT,
+    FAILED   // Gave up after app.notifications.max-attempts
+}
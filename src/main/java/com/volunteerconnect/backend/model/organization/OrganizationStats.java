@@ -0,0 +1,40 @@
+package com.volunteerconnect.backend.model.organization;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Dashboard totals of one organization, kept up to date by the event and registration write paths
+ * (see OrganizationStatsService). Only read through JPA; all changes are atomic UPDATE statements in
+ * OrganizationStatsRepository, so concurrent writes never overwrite each other's increments.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "organization_stats")
+public class OrganizationStats {
+
+    @Id
+    private Long organizationId;
+
+    private long eventsHosted;
+    private long upcomingEvents;   // Active events whose date has not passed yet
+    private long totalCapacity;    // Sum of all event capacities
+
+    private long pendingRegistrations;
+    private long confirmedRegistrations;
+    private long cancelledRegistrations;
+    private long rejectedRegistrations;
+
+    private long uniqueVolunteers; // Volunteers with a pending or confirmed registration for any of the events
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -1,11 +1,22 @@
 package com.volunteerconnect.backend.repository;
 
+import com.volunteerconnect.backend.dto.EventRegistrationResponse;
+import com.volunteerconnect.backend.dto.UserSummaryDto;
 import com.volunteerconnect.backend.model.Event;
 import com.volunteerconnect.backend.model.EventRegistration;
+import com.volunteerconnect.backend.model.RegistrationStatus;
 import com.volunteerconnect.backend.model.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,4 +31,133 @@ public interface EventRegistrationRepository extends JpaRepository<EventRegistra
 
     // Optional: Methods to find all registrations by a specific volunteer
     List<EventRegistration> findByVolunteer(User volunteer);
-}
\ No newline at end of file
+
+    // --- Registration histories: one query per page, rows built directly as DTOs (no entities, no lazy loading) ---
+    // Keyset pagination in (registrationDate desc, id desc) order: rows strictly after the cursor (beforeDate, beforeId).
+    // Filters are always bound (all statuses, open date range) so the statement text never changes.
+
+    String REGISTRATION_RESPONSE = "select new com.volunteerconnect.backend.dto.EventRegistrationResponse("
+            + "r.id, e.id, e.title, v.id, v.username, r.registrationDate, r.status) "
+            + "from EventRegistration r join r.event e join r.volunteer v ";
+    String HISTORY_PAGE = "and r.status in :statuses and r.registrationDate >= :from and r.registrationDate < :to "
+            + "and (r.registrationDate < :beforeDate or (r.registrationDate = :beforeDate and r.id < :beforeId)) "
+            + "order by r.registrationDate desc, r.id desc";
+
+    @Query(REGISTRATION_RESPONSE + "where r.volunteer.id = :volunteerId " + HISTORY_PAGE)
+    List<EventRegistrationResponse> findPageByVolunteer(@Param("volunteerId") Long volunteerId,
+                                                        @Param("statuses") Collection<RegistrationStatus> statuses,
+                                                        @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                                        @Param("beforeDate") LocalDateTime beforeDate,
+                                                        @Param("beforeId") long beforeId, Limit limit);
+
+    @Query(REGISTRATION_RESPONSE + "where r.event.id = :eventId " + HISTORY_PAGE)
+    List<EventRegistrationResponse> findPageByEvent(@Param("eventId") Long eventId,
+                                                    @Param("statuses") Collection<RegistrationStatus> statuses,
+                                                    @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                                    @Param("beforeDate") LocalDateTime beforeDate,
+                                                    @Param("beforeId") long beforeId, Limit limit);
+
+    // --- Event rosters ---
+
+    // Roster sizes, in place of loading Event.registeredVolunteers. A cancelled registration gives its place back, so
+    // these (like every capacity check and registeredCount) count only registrations that are not CANCELLED
+    @Query("select count(r) from EventRegistration r where r.event.id = :eventId "
+            + "and r.status <> com.volunteerconnect.backend.model.RegistrationStatus.CANCELLED")
+    long countActiveByEventId(@Param("eventId") Long eventId);
+
+    @Query("select r.event.id as eventId, count(r) as registrations from EventRegistration r "
+            + "where r.status <> com.volunteerconnect.backend.model.RegistrationStatus.CANCELLED group by r.event.id")
+    List<EventCount> countPerEvent();
+
+    // One roster page in volunteer id order: a range scan of uk_event_registrations_event_volunteer from the cursor
+    @Query("select new com.volunteerconnect.backend.dto.UserSummaryDto(v.id, v.username, v.email, v.firstName, v.lastName) "
+            + "from EventRegistration r join r.volunteer v "
+            + "where r.event.id = :eventId and r.status in :statuses and r.volunteer.id > :afterVolunteerId "
+            + "order by r.volunteer.id")
+    List<UserSummaryDto> findVolunteerPage(@Param("eventId") Long eventId,
+                                           @Param("statuses") Collection<RegistrationStatus> statuses,
+                                           @Param("afterVolunteerId") long afterVolunteerId, Limit limit);
+
+    interface EventCount {
+        Long getEventId();
+
+        long getRegistrations();
+    }
+
+    // Registration counts of a page of events in one grouped query (served from idx_event_registrations_event_status)
+    @Query("select r.event.id as eventId, r.status as status, count(r) as registrations from EventRegistration r "
+            + "where r.event.id in :eventIds group by r.event.id, r.status")
+    List<EventStatusCount> countByStatusForEvents(@Param("eventIds") Collection<Long> eventIds);
+
+    interface EventStatusCount {
+        Long getEventId();
+
+        RegistrationStatus getStatus();
+
+        long getRegistrations();
+    }
+
+    // --- Organization stats (OrganizationStatsService) ---
+
+    // Does the volunteer hold another registration in one of these statuses for an event of the organization?
+    @Query("select case when count(r) > 0 then true else false end from EventRegistration r "
+            + "where r.volunteer.id = :volunteerId and r.event.organization.id = :organizationId "
+            + "and r.status in :statuses and r.id <> :excludedRegistrationId")
+    boolean existsOtherForOrganization(@Param("volunteerId") Long volunteerId,
+                                       @Param("organizationId") Long organizationId,
+                                       @Param("statuses") Collection<RegistrationStatus> statuses,
+                                       @Param("excludedRegistrationId") Long excludedRegistrationId);
+
+    @Query("select r.status as status, count(r) as registrations from EventRegistration r "
+            + "where r.event.id = :eventId group by r.status")
+    List<StatusCount> countByStatusForEvent(@Param("eventId") Long eventId);
+
+    // Volunteers in one of these statuses for the event who hold no such registration for another event of its
+    // organization, live or archived
+    @Query("select count(distinct r.volunteer.id) from EventRegistration r "
+            + "where r.event.id = :eventId and r.status in :statuses and not exists ("
+            + "  select 1 from EventRegistration other where other.volunteer = r.volunteer "
+            + "  and other.event.organization.id = r.event.organization.id and other.event.id <> :eventId "
+            + "  and other.status in :statuses) "
+            + "and not exists (select 1 from ArchivedEventRegistration a where a.volunteerId = r.volunteer.id "
+            + "  and a.organizationId = r.event.organization.id and a.status in :statuses)")
+    long countVolunteersOnlyAtEvent(@Param("eventId") Long eventId,
+                                    @Param("statuses") Collection<RegistrationStatus> statuses);
+
+    interface StatusCount {
+        RegistrationStatus getStatus();
+
+        long getRegistrations();
+    }
+
+    // --- Recommendations (RecommendationService) ---
+
+    // Every event the volunteer has registered for, in any status, with what the feed scores on
+    @Query("select e.id as eventId, r.status as status, e.requiredSkills as requiredSkills, "
+            + "e.organization.id as organizationId from EventRegistration r join r.event e where r.volunteer.id = :volunteerId")
+    List<VolunteerHistoryRow> findHistoryOfVolunteer(@Param("volunteerId") Long volunteerId);
+
+    interface VolunteerHistoryRow {
+        Long getEventId();
+
+        RegistrationStatus getStatus();
+
+        String getRequiredSkills();
+
+        Long getOrganizationId();
+    }
+
+    // --- Archival (ArchiveService) ---
+
+    // The oldest registrations in this status before the cutoff (idx_event_registrations_status_date), locked until
+    // the chunk commits
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r.id from EventRegistration r where r.status = :status and r.registrationDate < :cutoff "
+            + "order by r.registrationDate, r.id")
+    List<Long> lockIdsByStatusBefore(@Param("status") RegistrationStatus status,
+                                     @Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    @Modifying
+    @Query("delete from EventRegistration r where r.event.id in :eventIds")
+    int deleteByEventIds(@Param("eventIds") Collection<Long> eventIds);
+}
@@ -1,13 +1,99 @@
 package com.volunteerconnect.backend.repository;
 
 import com.volunteerconnect.backend.model.Event; // Import your Event entity
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository; // Spring Data JPA's core repository interface
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository; // Marks this as a Spring repository component
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 @Repository // Tells Spring this is a data repository
 public interface EventRepository extends JpaRepository<Event, Long> {
     // JpaRepository provides methods like save(), findById(), findAll(), delete() automatically.
     // You can add custom query methods here if needed, e.g.,
     // Optional<Event> findByTitle(String title);
     // List<Event> findByLocation(String location);
-}
\ No newline at end of file
+
+    // An organizer's events as flat rows (no entities, no rosters); sortable by the Event properties selected here
+    @Query(value = "select e.id as id, e.title as title, e.eventDate as eventDate, e.location as location, "
+            + "e.capacity as capacity, e.active as active, o.id as organizationId, o.name as organizationName "
+            + "from Event e join e.organization o where e.organizer.id = :organizerId",
+            countQuery = "select count(e) from Event e where e.organizer.id = :organizerId")
+    Page<OrganizerEventRow> findOrganizerEvents(@Param("organizerId") Long organizerId, Pageable pageable);
+
+    interface OrganizerEventRow {
+        Long getId();
+
+        String getTitle();
+
+        LocalDateTime getEventDate();
+
+        String getLocation();
+
+        int getCapacity();
+
+        boolean isActive();
+
+        Long getOrganizationId();
+
+        String getOrganizationName();
+    }
+
+    // Recommendation candidates (RecommendationService): every active event still to come, as flat rows
+    @Query("select e.id as id, e.title as title, e.eventDate as eventDate, e.location as location, "
+            + "e.requiredSkills as requiredSkills, e.createdDate as createdDate, "
+            + "o.id as organizationId, o.name as organizationName "
+            + "from Event e join e.organization o where e.active = true and e.eventDate > :now")
+    List<CandidateRow> findRecommendationCandidates(@Param("now") LocalDateTime now);
+
+    interface CandidateRow {
+        Long getId();
+
+        String getTitle();
+
+        LocalDateTime getEventDate();
+
+        String getLocation();
+
+        String getRequiredSkills();
+
+        LocalDateTime getCreatedDate();
+
+        Long getOrganizationId();
+
+        String getOrganizationName();
+    }
+
+    // Live updates (EventStreamService): capacity and registration count (not CANCELLED, as in
+    // EventRegistrationRepository.countActiveByEventId) of many events in one grouped query
+    @Query("select e.id as id, e.capacity as capacity, e.active as active, count(r) as registeredCount "
+            + "from Event e left join EventRegistration r on r.event = e "
+            + "and r.status <> com.volunteerconnect.backend.model.RegistrationStatus.CANCELLED "
+            + "where e.id in :ids group by e.id, e.capacity, e.active")
+    List<LiveCountRow> findLiveCounts(@Param("ids") Collection<Long> ids);
+
+    interface LiveCountRow {
+        Long getId();
+
+        int getCapacity();
+
+        boolean isActive();
+
+        long getRegisteredCount();
+    }
+
+    // Archival (ArchiveService): the oldest events before the cutoff, locked until the chunk commits. A registration
+    // for one of them waits on the lock (its foreign key check) and then fails, instead of slipping in between the
+    // copy to the archive and the delete.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e.id from Event e where e.eventDate < :cutoff order by e.eventDate, e.id")
+    List<Long> lockIdsOfEventsBefore(@Param("cutoff") LocalDateTime cutoff, Limit limit);
+}
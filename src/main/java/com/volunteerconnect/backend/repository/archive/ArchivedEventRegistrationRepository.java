@@ -0,0 +1,67 @@
+package com.volunteerconnect.backend.repository.archive;
+
+import com.volunteerconnect.backend.dto.EventRegistrationResponse;
+import com.volunteerconnect.backend.model.RegistrationStatus;
+import com.volunteerconnect.backend.model.archive.ArchivedEventRegistration;
+import com.volunteerconnect.backend.repository.EventRegistrationRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArchivedEventRegistrationRepository extends JpaRepository<ArchivedEventRegistration, Long> {
+
+    // --- Archival (ArchiveService): copies live registrations; the caller deletes them in the same transaction ---
+
+    String COPY_REGISTRATIONS = "INSERT INTO event_registrations_archive (id, event_id, event_title, organization_id, "
+            + "volunteer_id, registration_date, status, archived_at) "
+            + "SELECT r.id, r.event_id, e.title, e.organization_id, r.volunteer_id, r.registration_date, r.status, :now "
+            + "FROM event_registrations r JOIN events e ON e.id = r.event_id ";
+
+    @Modifying
+    @Query(value = COPY_REGISTRATIONS + "WHERE r.event_id IN (:eventIds)", nativeQuery = true)
+    int copyFromRegistrationsOfEvents(@Param("eventIds") Collection<Long> eventIds, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = COPY_REGISTRATIONS + "WHERE r.id IN (:registrationIds)", nativeQuery = true)
+    int copyFromRegistrations(@Param("registrationIds") Collection<Long> registrationIds, @Param("now") LocalDateTime now);
+
+    // --- Registration histories, in the same keyset order as EventRegistrationRepository, so pages can be merged ---
+
+    String REGISTRATION_RESPONSE = "select new com.volunteerconnect.backend.dto.EventRegistrationResponse("
+            + "a.id, a.eventId, a.eventTitle, v.id, v.username, a.registrationDate, a.status) "
+            + "from ArchivedEventRegistration a join User v on v.id = a.volunteerId ";
+    String HISTORY_PAGE = "and a.status in :statuses and a.registrationDate >= :from and a.registrationDate < :to "
+            + "and (a.registrationDate < :beforeDate or (a.registrationDate = :beforeDate and a.id < :beforeId)) "
+            + "order by a.registrationDate desc, a.id desc";
+
+    @Query(REGISTRATION_RESPONSE + "where a.volunteerId = :volunteerId " + HISTORY_PAGE)
+    List<EventRegistrationResponse> findPageByVolunteer(@Param("volunteerId") Long volunteerId,
+                                                        @Param("statuses") Collection<RegistrationStatus> statuses,
+                                                        @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                                        @Param("beforeDate") LocalDateTime beforeDate,
+                                                        @Param("beforeId") long beforeId, Limit limit);
+
+    @Query(REGISTRATION_RESPONSE + "where a.eventId = :eventId " + HISTORY_PAGE)
+    List<EventRegistrationResponse> findPageByEvent(@Param("eventId") Long eventId,
+                                                    @Param("statuses") Collection<RegistrationStatus> statuses,
+                                                    @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                                    @Param("beforeDate") LocalDateTime beforeDate,
+                                                    @Param("beforeId") long beforeId, Limit limit);
+
+    @Query("select a.status as status, count(a) as registrations from ArchivedEventRegistration a "
+            + "where a.eventId = :eventId group by a.status")
+    List<EventRegistrationRepository.StatusCount> countByStatusForEvent(@Param("eventId") Long eventId);
+
+    // --- Organization stats: archived registrations still count towards an organization's totals ---
+
+    boolean existsByVolunteerIdAndOrganizationIdAndStatusIn(Long volunteerId, Long organizationId,
+                                                            Collection<RegistrationStatus> statuses);
+}
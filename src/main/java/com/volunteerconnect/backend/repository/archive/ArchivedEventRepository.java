@@ -0,0 +1,28 @@
+package com.volunteerconnect.backend.repository.archive;
+
+import com.volunteerconnect.backend.model.archive.ArchivedEvent;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Repository
+public interface ArchivedEventRepository extends JpaRepository<ArchivedEvent, Long> {
+
+    Page<ArchivedEvent> findByOrganizationId(Long organizationId, Pageable pageable);
+
+    // Archival (ArchiveService): copies live events as they are; the caller deletes them in the same transaction
+    @Modifying
+    @Query(value = "INSERT INTO events_archive (id, title, description, event_date, location, capacity, required_skills, "
+            + "active, organization_id, organizer_id, created_date, updated_date, archived_at) "
+            + "SELECT e.id, e.title, e.description, e.event_date, e.location, e.capacity, e.required_skills, "
+            + "e.active, e.organization_id, e.organizer_id, e.created_date, e.updated_date, :now "
+            + "FROM events e WHERE e.id IN (:eventIds)", nativeQuery = true)
+    int copyFromEvents(@Param("eventIds") Collection<Long> eventIds, @Param("now") LocalDateTime now);
+}
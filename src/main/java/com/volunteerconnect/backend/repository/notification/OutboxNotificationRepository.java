@@ -0,0 +1,75 @@
+package com.volunteerconnect.backend.repository.notification;
+
+import com.volunteerconnect.backend.model.notification.OutboxNotification;
+import com.volunteerconnect.backend.model.notification.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxNotificationRepository extends JpaRepository<OutboxNotification, Long> {
+
+    // --- Writing (NotificationOutbox) ---
+
+    // One row per volunteer with a registration in one of these statuses, in a single statement whatever the roster
+    @Modifying
+    @Query(value = "INSERT INTO notification_outbox (type, recipient_id, recipient_email, recipient_name, event_id, "
+            + "params, status, attempts, next_attempt_at, created_at) "
+            + "SELECT :type, v.id, v.email, COALESCE(v.first_name, v.username), r.event_id, :params, 'PENDING', 0, :now, :now "
+            + "FROM event_registrations r JOIN users v ON v.id = r.volunteer_id "
+            + "WHERE r.event_id = :eventId AND r.status IN (:statuses)", nativeQuery = true)
+    int insertForRegistrants(@Param("type") String type, @Param("eventId") Long eventId,
+                             @Param("statuses") Collection<String> statuses, @Param("params") String params,
+                             @Param("now") LocalDateTime now);
+
+    // --- Dispatching (NotificationDispatcher) ---
+
+    // Due rows, oldest first, locked until the claim commits. Rows another dispatcher has locked are skipped
+    // (lock timeout -2 is Hibernate's SKIP LOCKED), so concurrent dispatchers claim disjoint batches without waiting.
+    // Rows claimed maxAttempts times already are left to failExhausted.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select n from OutboxNotification n where n.status = :status and n.nextAttemptAt <= :now "
+            + "and n.attempts < :maxAttempts order by n.nextAttemptAt, n.id")
+    List<OutboxNotification> lockDue(@Param("status") OutboxStatus status, @Param("now") LocalDateTime now,
+                                     @Param("maxAttempts") int maxAttempts, Limit limit);
+
+    // Due rows whose every attempt was claimed without an outcome being recorded (the dispatcher died mid-batch)
+    @Modifying
+    @Query("update OutboxNotification n set n.status = com.volunteerconnect.backend.model.notification.OutboxStatus.FAILED, "
+            + "n.lastError = :error where n.status = com.volunteerconnect.backend.model.notification.OutboxStatus.PENDING "
+            + "and n.nextAttemptAt <= :now and n.attempts >= :maxAttempts")
+    int failExhausted(@Param("maxAttempts") int maxAttempts, @Param("now") LocalDateTime now, @Param("error") String error);
+
+    @Modifying
+    @Query("update OutboxNotification n set n.attempts = n.attempts + 1, n.nextAttemptAt = :claimedUntil "
+            + "where n.id in :ids")
+    int claim(@Param("ids") Collection<Long> ids, @Param("claimedUntil") LocalDateTime claimedUntil);
+
+    @Modifying
+    @Query("update OutboxNotification n set n.status = com.volunteerconnect.backend.model.notification.OutboxStatus.SENT, "
+            + "n.sentAt = :now, n.lastError = null where n.id in :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update OutboxNotification n set n.status = :status, n.nextAttemptAt = :nextAttemptAt, n.lastError = :error "
+            + "where n.id = :id")
+    int markFailed(@Param("id") Long id, @Param("status") OutboxStatus status,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("error") String error);
+
+    @Modifying
+    @Query("delete from OutboxNotification n where n.status = com.volunteerconnect.backend.model.notification.OutboxStatus.SENT "
+            + "and n.sentAt < :cutoff")
+    int deleteSentBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,99 @@
+package com.volunteerconnect.backend.repository.organization;
+
+import com.volunteerconnect.backend.model.organization.OrganizationStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OrganizationStatsRepository extends JpaRepository<OrganizationStats, Long> {
+
+    // Increments are applied by the database (x = x + delta), so concurrent writers never lose each other's changes.
+    // Both return the number of rows changed: 0 means the organization has no stats row yet.
+    @Modifying
+    @Transactional
+    @Query("update OrganizationStats s set s.eventsHosted = s.eventsHosted + :events, "
+            + "s.upcomingEvents = s.upcomingEvents + :upcoming, s.totalCapacity = s.totalCapacity + :capacity, "
+            + "s.updatedAt = :now where s.organizationId = :organizationId")
+    int adjustEvents(@Param("organizationId") Long organizationId, @Param("events") long events,
+                     @Param("upcoming") long upcoming, @Param("capacity") long capacity,
+                     @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("update OrganizationStats s set s.pendingRegistrations = s.pendingRegistrations + :pending, "
+            + "s.confirmedRegistrations = s.confirmedRegistrations + :confirmed, "
+            + "s.cancelledRegistrations = s.cancelledRegistrations + :cancelled, "
+            + "s.rejectedRegistrations = s.rejectedRegistrations + :rejected, "
+            + "s.uniqueVolunteers = s.uniqueVolunteers + :volunteers, "
+            + "s.updatedAt = :now where s.organizationId = :organizationId")
+    int adjustRegistrations(@Param("organizationId") Long organizationId, @Param("pending") long pending,
+                            @Param("confirmed") long confirmed, @Param("cancelled") long cancelled,
+                            @Param("rejected") long rejected, @Param("volunteers") long volunteers,
+                            @Param("now") LocalDateTime now);
+
+    // --- Rebuild (OrganizationStatsJobs); each statement runs in its own short transaction ---
+
+    @Query("select s.organizationId from OrganizationStats s order by s.organizationId")
+    List<Long> findAllOrganizationIds();
+
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO organization_stats (organization_id, updated_at) "
+            + "SELECT o.id, :now FROM organizations o "
+            + "WHERE NOT EXISTS (SELECT 1 FROM organization_stats s WHERE s.organization_id = o.id)", nativeQuery = true)
+    int insertMissing(@Param("now") LocalDateTime now);
+
+    // The aggregates of the backfill in V3__organization_stats.sql, plus the archive tables (V6): archived events and
+    // registrations still count towards an organization's totals. Archived events are past, so never upcoming.
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE organization_stats SET "
+            + "events_hosted = (SELECT COUNT(*) FROM events e WHERE e.organization_id = :organizationId) "
+            + "  + (SELECT COUNT(*) FROM events_archive e WHERE e.organization_id = :organizationId), "
+            + "upcoming_events = (SELECT COUNT(*) FROM events e WHERE e.organization_id = :organizationId "
+            + "  AND e.active = TRUE AND e.event_date > :now), "
+            + "total_capacity = (SELECT COALESCE(SUM(e.capacity), 0) FROM events e WHERE e.organization_id = :organizationId) "
+            + "  + (SELECT COALESCE(SUM(e.capacity), 0) FROM events_archive e WHERE e.organization_id = :organizationId), "
+            + "pending_registrations = (SELECT COUNT(*) FROM event_registrations r JOIN events e ON e.id = r.event_id "
+            + "  WHERE e.organization_id = :organizationId AND r.status = 'PENDING') "
+            + "  + (SELECT COUNT(*) FROM event_registrations_archive a WHERE a.organization_id = :organizationId "
+            + "  AND a.status = 'PENDING'), "
+            + "confirmed_registrations = (SELECT COUNT(*) FROM event_registrations r JOIN events e ON e.id = r.event_id "
+            + "  WHERE e.organization_id = :organizationId AND r.status = 'CONFIRMED') "
+            + "  + (SELECT COUNT(*) FROM event_registrations_archive a WHERE a.organization_id = :organizationId "
+            + "  AND a.status = 'CONFIRMED'), "
+            + "cancelled_registrations = (SELECT COUNT(*) FROM event_registrations r JOIN events e ON e.id = r.event_id "
+            + "  WHERE e.organization_id = :organizationId AND r.status = 'CANCELLED') "
+            + "  + (SELECT COUNT(*) FROM event_registrations_archive a WHERE a.organization_id = :organizationId "
+            + "  AND a.status = 'CANCELLED'), "
+            + "rejected_registrations = (SELECT COUNT(*) FROM event_registrations r JOIN events e ON e.id = r.event_id "
+            + "  WHERE e.organization_id = :organizationId AND r.status = 'REJECTED') "
+            + "  + (SELECT COUNT(*) FROM event_registrations_archive a WHERE a.organization_id = :organizationId "
+            + "  AND a.status = 'REJECTED'), "
+            + "unique_volunteers = (SELECT COUNT(*) FROM ("
+            + "  SELECT r.volunteer_id FROM event_registrations r JOIN events e ON e.id = r.event_id "
+            + "  WHERE e.organization_id = :organizationId AND r.status IN ('PENDING', 'CONFIRMED') "
+            + "  UNION SELECT a.volunteer_id FROM event_registrations_archive a "
+            + "  WHERE a.organization_id = :organizationId AND a.status IN ('PENDING', 'CONFIRMED')) v), "
+            + "updated_at = :now "
+            + "WHERE organization_id = :organizationId", nativeQuery = true)
+    int recompute(@Param("organizationId") Long organizationId, @Param("now") LocalDateTime now);
+
+    // Events leave "upcoming" as time passes, without a write to hook into. Only rows whose count changed are written.
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE organization_stats s SET "
+            + "upcoming_events = (SELECT COUNT(*) FROM events e WHERE e.organization_id = s.organization_id "
+            + "  AND e.active = TRUE AND e.event_date > :now), "
+            + "updated_at = :now "
+            + "WHERE s.upcoming_events <> (SELECT COUNT(*) FROM events e WHERE e.organization_id = s.organization_id "
+            + "  AND e.active = TRUE AND e.event_date > :now)", nativeQuery = true)
+    int refreshUpcoming(@Param("now") LocalDateTime now);
+}
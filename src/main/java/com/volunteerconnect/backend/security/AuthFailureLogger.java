@@ -0,0 +1,62 @@
+package com.volunteerconnect.backend.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logs failed authentication attempts with structured fields, but at most {@code maxPerSecond} lines per second.
+ * During a brute-force attempt the remaining failures are only counted, and the count is logged once
+ * when the next one-second window starts, so an attacker cannot turn login failures into a logging bottleneck.
+ */
+@Component
+@Slf4j
+public class AuthFailureLogger {
+
+    private static final int MAX_USERNAME_LENGTH = 64;
+
+    private final int maxPerSecond;
+    private final AtomicLong currentWindow = new AtomicLong();
+    private final AtomicLong loggedInWindow = new AtomicLong();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    public AuthFailureLogger(@Value("${app.logging.auth-failures-per-second:5}") int maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    public void failure(String username, String reason) {
+        long window = System.currentTimeMillis() / 1000;
+        long previous = currentWindow.get();
+        if (window != previous && currentWindow.compareAndSet(previous, window)) {
+            loggedInWindow.set(0);
+            long dropped = suppressed.getAndSet(0);
+            if (dropped > 0) {
+                log.atWarn()
+                        .addKeyValue("event.action", "auth_failure_suppressed")
+                        .addKeyValue("auth.suppressed_count", dropped)
+                        .log("Suppressed {} authentication failure log lines", dropped);
+            }
+        }
+
+        if (loggedInWindow.incrementAndGet() > maxPerSecond) {
+            suppressed.incrementAndGet();
+            return;
+        }
+        log.atWarn()
+                .addKeyValue("event.action", "auth_failure")
+                .addKeyValue("user.name", sanitize(username))
+                .addKeyValue("auth.reason", reason)
+                .log("Authentication failed: {}", reason);
+    }
+
+    // Usernames come straight from the request body; keep them short and free of line breaks
+    private static String sanitize(String username) {
+        if (username == null) {
+            return null;
+        }
+        String trimmed = username.length() > MAX_USERNAME_LENGTH ? username.substring(0, MAX_USERNAME_LENGTH) : username;
+        return trimmed.replaceAll("\\p{Cntrl}", "_");
+    }
+}
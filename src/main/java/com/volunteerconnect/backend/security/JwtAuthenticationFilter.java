@@ -1,10 +1,13 @@
 package com.volunteerconnect.backend.security;
 
+import com.volunteerconnect.backend.config.tracing.Spans; // Child spans of the request's trace
 import jakarta.servlet.FilterChain;        // Servlet API for filter chain
 import jakarta.servlet.ServletException;     // Servlet API for exceptions
 import jakarta.servlet.http.HttpServletRequest; // Servlet API for HTTP request
 import jakarta.servlet.http.HttpServletResponse; // Servlet API for HTTP response
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.lang.NonNull;      // For method parameter nullability annotation
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken; // Spring Security auth token
 import org.springframework.security.core.context.SecurityContextHolder; // Spring Security context holder
@@ -12,7 +15,9 @@ import org.springframework.security.core.userdetails.UserDetails; // Spring Secu
 import org.springframework.security.core.userdetails.UserDetailsService; // Spring Security UserDetailsService
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource; // For setting authentication details
 import org.springframework.stereotype.Component; // Marks this as a Spring component
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.filter.OncePerRequestFilter; // Ensures filter runs once per request
+import org.springframework.web.servlet.HandlerExceptionResolver;
 
 import java.io.IOException;
 
@@ -21,11 +26,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter { // Ensures f
 
     private final JwtService jwtService;             // To handle JWT operations (validation, extraction)
     private final UserDetailsService userDetailsService; // To load user details from the database
+    private final Spans spans;                       // Traces token parsing and the user lookup
+    private final HandlerExceptionResolver handlerExceptionResolver; // Answers failures the way controllers do
 
     // Constructor for dependency injection
-    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService, Spans spans,
+                                   @Qualifier("handlerExceptionResolver") HandlerExceptionResolver handlerExceptionResolver) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.spans = spans;
+        this.handlerExceptionResolver = handlerExceptionResolver;
     }
 
     @Override
@@ -36,8 +46,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter { // Ensures f
     ) throws ServletException, IOException {
 
         final String authHeader = request.getHeader("Authorization"); // Get the Authorization header
-        final String jwt;
-        final String username;
 
         // 1. Check if Authorization header exists and starts with "Bearer "
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -45,35 +53,50 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter { // Ensures f
             return; // Exit the method
         }
 
-        // 2. Extract the JWT token (remove "Bearer " prefix)
-        jwt = authHeader.substring(7);
+        // 2-6 run in their own span, so the time spent authenticating shows up in the request's trace
+        try {
+            authenticate(authHeader, request);
+        } catch (DataAccessResourceFailureException | CannotCreateTransactionException e) {
+            // No database connection for the user lookup: this runs before any controller, so hand the failure to
+            // GlobalExceptionHandler ourselves (503 with Retry-After) instead of letting it become a 500
+            handlerExceptionResolver.resolveException(request, response, null, e);
+            return;
+        }
+        // 7. Pass the request to the next filter in the chain
+        filterChain.doFilter(request, response);
+    }
 
-        // 3. Extract username from JWT
-        username = jwtService.extractUsername(jwt);
+    private void authenticate(String authHeader, HttpServletRequest request) {
+        spans.inSpan("JwtAuthenticationFilter.authenticate", () -> {
+            // 2. Extract the JWT token (remove "Bearer " prefix)
+            final String jwt = authHeader.substring(7);
 
-        // 4. If username is found AND user is not already authenticated in the SecurityContext
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            // Load UserDetails from our UserDetailsService (which uses UserRepository)
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+            // 3. Extract username from JWT
+            final String username = jwtService.extractUsername(jwt);
 
-            // 5. Validate the token against the loaded UserDetails
-            if (jwtService.validateToken(jwt, userDetails)) {
-                // If token is valid, create an authentication object
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails,
-                        null, // Credentials are null for JWT authenticated users (already validated by token)
-                        userDetails.getAuthorities() // Get user's roles/authorities
-                );
-                // Set additional details for the authentication (like IP address, session ID)
-                authToken.setDetails(
-                        new WebAuthenticationDetailsSource().buildDetails(request)
-                );
-                // 6. Update the SecurityContextHolder with the authenticated user
-                // This is crucial: it tells Spring Security that this user is authenticated for the current request
-                SecurityContextHolder.getContext().setAuthentication(authToken);
+            // 4. If username is found AND user is not already authenticated in the SecurityContext
+            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                // Load UserDetails from our UserDetailsService (which uses UserRepository)
+                UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+
+                // 5. Validate the token against the loaded UserDetails
+                if (jwtService.validateToken(jwt, userDetails)) {
+                    // If token is valid, create an authentication object
+                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                            userDetails,
+                            null, // Credentials are null for JWT authenticated users (already validated by token)
+                            userDetails.getAuthorities() // Get user's roles/authorities
+                    );
+                    // Set additional details for the authentication (like IP address, session ID)
+                    authToken.setDetails(
+                            new WebAuthenticationDetailsSource().buildDetails(request)
+                    );
+                    // 6. Update the SecurityContextHolder with the authenticated user
+                    // This is crucial: it tells Spring Security that this user is authenticated for the current request
+                    SecurityContextHolder.getContext().setAuthentication(authToken);
+                }
             }
-        }
-        // 7. Pass the request to the next filter in the chain
-        filterChain.doFilter(request, response);
+            return null;
+        });
     }
-}
\ No newline at end of file
+}
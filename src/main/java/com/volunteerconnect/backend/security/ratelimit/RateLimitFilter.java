@@ -0,0 +1,294 @@
+package com.volunteerconnect.backend.security.ratelimit;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.volunteerconnect.backend.security.ratelimit.RateLimitProperties.KeyType;
+import com.volunteerconnect.backend.security.ratelimit.TokenBucketRateLimiter.BucketKey;
+import com.volunteerconnect.backend.security.ratelimit.TokenBucketRateLimiter.Limit;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Rejects over-limit requests with 429 before they reach Spring Security, so a throttled login or registration
+ * attempt never costs a BCrypt hash or a database lookup.
+ * Registered ahead of the security filter chain by {@link com.volunteerconnect.backend.config.RateLimitConfig}.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final byte[] REJECTED_BODY =
+            "{\"message\":\"Too many requests. Please try again later.\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final TokenBucketRateLimiter limiter;
+    private final List<CompiledRule> rules;
+    private final int maxInspectedBodyBytes;
+    private final JsonFactory jsonFactory;
+
+    public RateLimitFilter(RateLimitProperties properties, TokenBucketRateLimiter limiter, JsonFactory jsonFactory) {
+        this.limiter = limiter;
+        this.jsonFactory = jsonFactory;
+        this.maxInspectedBodyBytes = properties.getMaxInspectedBodyBytes();
+        PathPatternParser parser = new PathPatternParser();
+        List<RateLimitProperties.Rule> configured = properties.getRules();
+        this.rules = IntStream.range(0, configured.size())
+                .mapToObj(i -> CompiledRule.of(i, configured.get(i), parser))
+                .toList();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        HttpServletRequest current = request;
+        String username = null;
+        boolean bodyRead = false;
+        List<Limit> limits = new ArrayList<>(rules.size());
+
+        for (CompiledRule rule : rules) {
+            if (!rule.matches(request.getMethod(), path)) {
+                continue;
+            }
+
+            String client;
+            if (rule.key() == KeyType.USERNAME) {
+                if (!bodyRead) {
+                    CachedBodyRequest cached = CachedBodyRequest.wrap(request, maxInspectedBodyBytes);
+                    if (cached != null) {
+                        current = cached;
+                        if (cached.complete) {
+                            username = extractUsername(cached.head);
+                        }
+                    }
+                    bodyRead = true;
+                }
+                if (username == null) {
+                    continue; // Nothing to key on; the IP rules still apply
+                }
+                client = username;
+            } else {
+                client = request.getRemoteAddr();
+            }
+
+            limits.add(new Limit(new BucketKey(rule.index(), client), rule.capacity(), rule.refillPeriodNanos()));
+        }
+
+        // All matching rules at once: a request rejected by one rule uses up none of the others' quota
+        if (!limits.isEmpty()) {
+            long waitNanos = limiter.tryAcquireAll(limits);
+            if (waitNanos > 0) {
+                reject(response, waitNanos);
+                return;
+            }
+        }
+
+        filterChain.doFilter(current, response);
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(REJECTED_BODY.length);
+        response.getOutputStream().write(REJECTED_BODY);
+    }
+
+    // Reads only the top-level "username" field; the rest of the body is skipped without building a tree
+    private String extractUsername(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("username".equals(field) && value == JsonToken.VALUE_STRING) {
+                    String username = parser.getText().trim();
+                    return username.isEmpty() ? null : username.toLowerCase(Locale.ROOT);
+                }
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            // Malformed JSON is rejected later by the controller; only the IP rules apply here
+        }
+        return null;
+    }
+
+    private record CompiledRule(int index, PathPattern pattern, Set<String> methods, KeyType key,
+                                int capacity, long refillPeriodNanos) {
+
+        static CompiledRule of(int index, RateLimitProperties.Rule rule, PathPatternParser parser) {
+            Set<String> methods = rule.getMethods().stream()
+                    .map(method -> method.toUpperCase(Locale.ROOT))
+                    .collect(Collectors.toUnmodifiableSet());
+            return new CompiledRule(index, parser.parse(rule.getPattern()), methods, rule.getKey(),
+                    Math.max(1, rule.getCapacity()), rule.getRefillPeriod().toNanos());
+        }
+
+        boolean matches(String method, PathContainer path) {
+            return (methods.isEmpty() || methods.contains(method)) && pattern.matches(path);
+        }
+    }
+
+    // Buffers the start of the request body so it can be inspected here and still be read in full by the controller
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] head;      // The bytes read here
+        private final boolean complete; // head is the whole body
+        private final ServletInputStream inputStream;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] head, boolean complete) throws IOException {
+            super(request);
+            this.head = head;
+            this.complete = complete;
+            this.inputStream = new ReplayingInputStream(head, complete ? null : request.getInputStream());
+        }
+
+        static CachedBodyRequest wrap(HttpServletRequest request, int maxBytes) throws IOException {
+            long length = request.getContentLengthLong();
+            if (length > maxBytes) {
+                return null; // Declared oversized: leave the stream untouched
+            }
+            // A chunked body has no length: read one byte past the limit to find out whether it fits. An oversized one
+            // is not inspected, and the bytes read are replayed ahead of the rest of the stream
+            byte[] head = request.getInputStream().readNBytes(length >= 0 ? (int) length : maxBytes + 1);
+            return new CachedBodyRequest(request, head, head.length <= maxBytes);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            return inputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        }
+    }
+
+    // head, then whatever is left of the request's own stream (null when head is the whole body)
+    private static final class ReplayingInputStream extends ServletInputStream {
+
+        private final byte[] head;
+        private final ServletInputStream rest;
+        private int position;
+
+        ReplayingInputStream(byte[] head, ServletInputStream rest) {
+            this.head = head;
+            this.rest = rest;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return position == head.length && (rest == null || rest.isFinished());
+        }
+
+        @Override
+        public boolean isReady() {
+            return position < head.length || rest == null || rest.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            if (rest != null) {
+                rest.setReadListener(new ReplayingReadListener(readListener));
+                return;
+            }
+            // The whole body is in memory: it is ready immediately
+            try {
+                if (position < head.length) {
+                    readListener.onDataAvailable();
+                }
+                readListener.onAllDataRead();
+            } catch (IOException | RuntimeException e) {
+                readListener.onError(e);
+            }
+        }
+
+        // The container only knows about rest; make sure head is offered before it reports the end of the body
+        private final class ReplayingReadListener implements ReadListener {
+
+            private final ReadListener delegate;
+
+            ReplayingReadListener(ReadListener delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void onDataAvailable() throws IOException {
+                delegate.onDataAvailable();
+            }
+
+            @Override
+            public void onAllDataRead() throws IOException {
+                if (position < head.length) {
+                    delegate.onDataAvailable();
+                }
+                delegate.onAllDataRead();
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                delegate.onError(t);
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (position < head.length) {
+                return head[position++] & 0xFF;
+            }
+            return rest == null ? -1 : rest.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (position < head.length) {
+                int n = Math.min(len, head.length - position);
+                System.arraycopy(head, position, b, off, n);
+                position += n;
+                return n;
+            }
+            return rest == null ? -1 : rest.read(b, off, len);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return head.length - position + (rest == null ? 0 : rest.available());
+        }
+    }
+}
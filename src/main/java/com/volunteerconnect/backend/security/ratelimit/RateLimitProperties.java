@@ -0,0 +1,44 @@
+package com.volunteerconnect.backend.security.ratelimit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binds the {@code app.rate-limit.*} settings.
+ * Every rule whose pattern and method match a request is applied; the request is rejected if any of them is exhausted.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Upper bound on live buckets across all rules; split evenly between the stripes
+    private int maxKeys = 100_000;
+
+    // Number of independent map segments (rounded up to a power of two)
+    private int stripes = 16;
+
+    // Bodies larger than this are not inspected for a username (IP rules still apply)
+    private int maxInspectedBodyBytes = 8 * 1024;
+
+    private List<Rule> rules = new ArrayList<>();
+
+    public enum KeyType {
+        IP,       // Bucket per client IP address
+        USERNAME  // Bucket per "username" field of the JSON request body
+    }
+
+    @Data
+    public static class Rule {
+        private String pattern;                       // Path pattern, e.g. /api/auth/login or /api/**
+        private List<String> methods = new ArrayList<>(); // Empty means all methods
+        private KeyType key = KeyType.IP;
+        private int capacity = 10;                    // Burst size
+        private Duration refillPeriod = Duration.ofMinutes(1); // Time to refill an empty bucket completely
+    }
+}
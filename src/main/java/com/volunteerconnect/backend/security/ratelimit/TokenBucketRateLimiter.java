@@ -0,0 +1,212 @@
+package com.volunteerconnect.backend.security.ratelimit;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token buckets kept in a striped, bounded map.
+ *
+ * Each bucket is a single {@link AtomicLong} holding its "theoretical arrival time" (the GCRA form of a token bucket):
+ * a request is admitted if pushing that time forward by one emission interval keeps it within {@code capacity}
+ * intervals of now. A bucket whose arrival time is in the past is full again and carries no state, so it can be
+ * dropped at any time; stripes are swept for such entries when they reach their share of {@code maxKeys}.
+ * If a stripe is still full after a sweep, a full bucket out of a small sample is evicted to make room. A bucket that
+ * is still drawn down is never evicted, since its client would start over with a full one: rotating keys to fill the
+ * map cannot reset someone else's lockout. When no full bucket is found, a request for a new key is rejected (fail
+ * closed) until buckets refill or the next sweep frees room. Every key keeps a bucket of its own.
+ */
+public class TokenBucketRateLimiter {
+
+    private static final long SWEEP_INTERVAL_NANOS = 1_000_000_000L;
+    private static final int EVICTION_SAMPLE = 8;
+
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    private final int maxKeysPerStripe;
+    private final LongSupplier nanoClock;
+
+    public TokenBucketRateLimiter(int maxKeys, int stripeCount) {
+        this(maxKeys, stripeCount, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(int maxKeys, int stripeCount, LongSupplier nanoClock) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.stripeMask = size - 1;
+        this.maxKeysPerStripe = Math.max(1, maxKeys / size);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Tries to take one token from the bucket identified by {@code key}.
+     * @param key Bucket identity (rule + client).
+     * @param capacity Maximum burst size of the bucket.
+     * @param refillPeriodNanos Time needed to refill an empty bucket completely.
+     * @return 0 if the request is admitted, otherwise the number of nanoseconds until a token becomes available.
+     */
+    public long tryAcquire(BucketKey key, int capacity, long refillPeriodNanos) {
+        return tryAcquireAll(List.of(new Limit(key, capacity, refillPeriodNanos)));
+    }
+
+    /**
+     * Takes one token from every bucket, or from none of them: a request rejected by one limit does not use up the
+     * quota of the others.
+     * @return 0 if the request is admitted, otherwise the longest wait in nanoseconds among the limits it is over.
+     */
+    public long tryAcquireAll(List<Limit> limits) {
+        long now = nanoClock.getAsLong();
+
+        // Over any limit already: reject without taking anything
+        long wait = 0;
+        for (Limit limit : limits) {
+            wait = Math.max(wait, peek(limit, now));
+        }
+        if (wait > 0) {
+            return wait;
+        }
+
+        // A bucket emptied by a concurrent request since the check gives back the tokens taken before it
+        AtomicLong[] taken = new AtomicLong[limits.size()];
+        for (int i = 0; i < limits.size(); i++) {
+            Limit limit = limits.get(i);
+            long excess = take(limit, now, taken, i);
+            if (excess > 0) {
+                for (int j = 0; j < i; j++) {
+                    taken[j].addAndGet(-limits.get(j).interval());
+                }
+                return excess;
+            }
+        }
+        return 0;
+    }
+
+    int size() {
+        int total = 0;
+        for (Stripe stripe : stripes) {
+            total += stripe.buckets.size();
+        }
+        return total;
+    }
+
+    // The wait this limit would impose, without creating or changing its bucket (a missing bucket is full)
+    private long peek(Limit limit, long now) {
+        AtomicLong bucket = stripeFor(limit.key()).buckets.get(limit.key());
+        if (bucket == null) {
+            return 0;
+        }
+        return Math.max(0, Math.max(bucket.get(), now) + limit.interval() - now - limit.tolerance());
+    }
+
+    private long take(Limit limit, long now, AtomicLong[] taken, int index) {
+        Stripe stripe = stripeFor(limit.key());
+        while (true) {
+            AtomicLong bucket = bucketFor(stripe, limit.key(), now);
+            if (bucket == null) {
+                return stripe.waitForRoom(now);
+            }
+            long tat = bucket.get();
+            long newTat = Math.max(tat, now) + limit.interval();
+            long excess = newTat - now - limit.tolerance();
+            if (excess > 0) {
+                return excess;
+            }
+            if (bucket.compareAndSet(tat, newTat)) {
+                if (stripe.buckets.get(limit.key()) != bucket) {
+                    continue; // Swept or evicted while we held it: the token went to a dropped bucket, take it again
+                }
+                taken[index] = bucket;
+                return 0;
+            }
+        }
+    }
+
+    private Stripe stripeFor(BucketKey key) {
+        return stripes[spread(key.hashCode()) & stripeMask];
+    }
+
+    // The key's bucket, created if needed; null if the stripe is full and no bucket in it can be dropped
+    private AtomicLong bucketFor(Stripe stripe, BucketKey key, long now) {
+        AtomicLong bucket = stripe.buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (stripe.buckets.size() >= maxKeysPerStripe) {
+            stripe.sweep(now);
+            if (stripe.buckets.size() >= maxKeysPerStripe && !stripe.evictFull(now)) {
+                return null;
+            }
+        }
+        return stripe.buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    public record BucketKey(int rule, String client) {
+    }
+
+    public record Limit(BucketKey key, int capacity, long refillPeriodNanos) {
+
+        long interval() {
+            return Math.max(1, refillPeriodNanos / capacity);
+        }
+
+        long tolerance() {
+            return interval() * capacity;
+        }
+    }
+
+    private static final class Stripe {
+        final ConcurrentHashMap<BucketKey, AtomicLong> buckets = new ConcurrentHashMap<>();
+        final AtomicLong lastSweep = new AtomicLong(Long.MIN_VALUE);
+
+        void sweep(long now) {
+            long last = lastSweep.get();
+            // Sweeping a full stripe is O(n); do it at most once per interval, and only from one thread
+            if (last != Long.MIN_VALUE && now - last < SWEEP_INTERVAL_NANOS) {
+                return;
+            }
+            if (!lastSweep.compareAndSet(last, now)) {
+                return;
+            }
+            // A bucket whose arrival time has passed is full again, so removing it changes nothing. Checked again
+            // inside the compute, so a bucket that a concurrent request has just drawn from stays
+            for (BucketKey key : buckets.keySet()) {
+                buckets.computeIfPresent(key, (k, tat) -> tat.get() <= now ? null : tat);
+            }
+        }
+
+        // Evicts a full bucket among the first few entries; returns false if none of them is full
+        boolean evictFull(long now) {
+            Iterator<Map.Entry<BucketKey, AtomicLong>> entries = buckets.entrySet().iterator();
+            for (int i = 0; i < EVICTION_SAMPLE && entries.hasNext(); i++) {
+                Map.Entry<BucketKey, AtomicLong> entry = entries.next();
+                // Checked again inside the compute, as in sweep(); null also when another thread removed it first
+                if (entry.getValue().get() <= now
+                        && buckets.computeIfPresent(entry.getKey(), (k, tat) -> tat.get() <= now ? null : tat) == null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // Retry hint for a key refused for lack of room: until the first sampled bucket is full again, at most until
+        // the next sweep
+        long waitForRoom(long now) {
+            long wait = SWEEP_INTERVAL_NANOS;
+            Iterator<AtomicLong> tats = buckets.values().iterator();
+            for (int i = 0; i < EVICTION_SAMPLE && tats.hasNext(); i++) {
+                wait = Math.min(wait, tats.next().get() - now);
+            }
+            return Math.max(1, wait);
+        }
+    }
+}
@@ -6,7 +6,13 @@ import com.volunteerconnect.backend.model.User; // Import the User entity from i
 
 import com.volunteerconnect.backend.repository.UserRepository; // Import the UserRepository from its repository package
 
+import com.volunteerconnect.backend.service.availability.AvailabilityService;
 
+import io.micrometer.core.annotation.Timed;
+
+
+
+import org.springframework.dao.DataIntegrityViolationException;
 
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -20,6 +26,8 @@ import java.util.Optional;
 
 @Service
 
+@Timed("app.service")
+
 public class AuthService {
 
 
@@ -28,16 +36,20 @@ public class AuthService {
 
     private final PasswordEncoder passwordEncoder;
 
+    private final AvailabilityService availabilityService;
+
 
 
 // Constructor injection for UserRepository and PasswordEncoder
 
-    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder, AvailabilityService availabilityService) {
 
         this.userRepository = userRepository;
 
         this.passwordEncoder = passwordEncoder;
 
+        this.availabilityService = availabilityService;
+
     }
 
 
@@ -46,10 +58,14 @@ public class AuthService {
 
      * Registers a new user by encoding their password and saving them to the database.
 
+     * Duplicates are detected by the unique constraints on the users table, so this is a single insert.
+
      * @param user The User object containing registration details.
 
      * @return The saved User object.
 
+     * @throws com.volunteerconnect.backend.exception.DuplicateResourceException if the username or email is taken.
+
      */
 
     public User registerNewUser(User user) {
@@ -58,7 +74,19 @@ public class AuthService {
 
         user.setPassword(passwordEncoder.encode(user.getPassword()));
 
-        return userRepository.save(user);
+        try {
+
+            User saved = userRepository.save(user);
+
+            availabilityService.record(saved.getUsername(), saved.getEmail());
+
+            return saved;
+
+        } catch (DataIntegrityViolationException e) {
+
+            throw UniqueUserConstraints.translate(e);
+
+        }
 
     }
 
@@ -0,0 +1,101 @@
+package com.volunteerconnect.backend.service;
+
+import com.volunteerconnect.backend.exception.BusinessRuleException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal streaming RFC 4180 reader: comma-separated fields, optionally in double quotes, with "" for a quote and
+ * line breaks allowed inside quotes. Reads one record at a time, so a file of any size needs memory for one record.
+ * Blank lines are skipped and a leading byte order mark is ignored.
+ */
+final class CsvReader {
+
+    private final Reader reader;
+    private int lookahead = -2; // -2: nothing read ahead
+    private long line = 1;       // Line the reader is on
+    private long recordLine;     // Line the last record started on
+
+    CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /** The next record, or {@code null} at the end of the input. */
+    List<String> next() throws IOException {
+        int c = read();
+        if (line == 1 && recordLine == 0 && c == '\uFEFF') {
+            c = read();
+        }
+        while (c == '\r' || c == '\n') {
+            skipLineBreak(c);
+            c = read();
+        }
+        if (c == -1) {
+            return null;
+        }
+        recordLine = line;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new BusinessRuleException("Line " + recordLine + ": unterminated quoted field.");
+                }
+                if (c == '"') {
+                    c = read();
+                    if (c != '"') { // Closing quote; an escaped quote ("") stays in the field
+                        quoted = false;
+                        continue;
+                    }
+                } else if (c == '\n') {
+                    line++;
+                }
+                field.append((char) c);
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c != -1) {
+                    skipLineBreak(c);
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /** The line number (1-based) the record last returned by {@link #next()} started on. */
+    long recordLine() {
+        return recordLine;
+    }
+
+    // c is \n or \r; a \r may be followed by the \n of a \r\n
+    private void skipLineBreak(int c) throws IOException {
+        line++;
+        if (c == '\r') {
+            int after = read();
+            if (after != '\n') {
+                lookahead = after;
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (lookahead != -2) {
+            int c = lookahead;
+            lookahead = -2;
+            return c;
+        }
+        return reader.read();
+    }
+}
@@ -1,7 +1,10 @@
 package com.volunteerconnect.backend.service;
 
+import com.volunteerconnect.backend.dto.CursorPage;
 import com.volunteerconnect.backend.dto.EventRegistrationResponse;
-import java.util.List;
+import com.volunteerconnect.backend.model.RegistrationStatus;
+
+import java.time.LocalDateTime;
 
 public interface EventRegistrationService {
 
@@ -21,18 +24,37 @@ public interface EventRegistrationService {
     void unregisterFromEvent(Long eventId, Long volunteerId);
 
     /**
-     * Retrieves all registrations for a specific event.
+     * Confirms a pending registration and notifies the volunteer.
+     * @param registrationId The ID of the registration.
+     * @param organizerId The ID of the organizer (current authenticated user), who must be the event's organizer.
+     * @return The confirmed registration.
+     */
+    EventRegistrationResponse confirmRegistration(Long registrationId, Long organizerId);
+
+    /**
+     * Retrieves one page of the registrations for a specific event, newest first.
      * @param eventId The ID of the event.
-     * @return A list of registration responses for the event.
+     * @param status Only registrations with this status, or {@code null} for all.
+     * @param from Only registrations made at or after this time, or {@code null}.
+     * @param to Only registrations made before this time, or {@code null}.
+     * @param includeArchived Also page through archived registrations (see ArchiveService), merged in the same order.
+     * @param cursor {@code nextCursor} of the previous page, or {@code null} for the first page.
+     * @param size The page size, capped at the maximum page size.
+     * @return The page and the cursor of the next one.
      */
-    List<EventRegistrationResponse> getRegistrationsForEvent(Long eventId);
+    CursorPage<EventRegistrationResponse> getRegistrationsForEvent(Long eventId, RegistrationStatus status,
+                                                                   LocalDateTime from, LocalDateTime to,
+                                                                   boolean includeArchived, String cursor, int size);
 
     /**
-     * Retrieves all registrations made by a specific volunteer.
+     * Retrieves one page of the registrations made by a specific volunteer, newest first.
+     * Parameters as for {@link #getRegistrationsForEvent}.
      * @param volunteerId The ID of the volunteer.
-     * @return A list of registration responses made by the volunteer.
+     * @return The page and the cursor of the next one.
      */
-    List<EventRegistrationResponse> getRegistrationsByVolunteer(Long volunteerId);
+    CursorPage<EventRegistrationResponse> getRegistrationsByVolunteer(Long volunteerId, RegistrationStatus status,
+                                                                      LocalDateTime from, LocalDateTime to,
+                                                                      boolean includeArchived, String cursor, int size);
 
     /**
      * Finds a specific registration by its ID.
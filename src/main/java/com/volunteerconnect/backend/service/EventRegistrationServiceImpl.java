@@ -1,6 +1,14 @@
 package com.volunteerconnect.backend.service;
 
+import com.volunteerconnect.backend.config.tracing.Spans;
+import com.volunteerconnect.backend.dto.CursorPage;
 import com.volunteerconnect.backend.dto.EventRegistrationResponse;
+import com.volunteerconnect.backend.dto.KeysetCursor;
+import com.volunteerconnect.backend.exception.AlreadyRegisteredException;
+import com.volunteerconnect.backend.exception.BusinessRuleException;
+import com.volunteerconnect.backend.exception.EventFullException;
+import com.volunteerconnect.backend.exception.ForbiddenOperationException;
+import com.volunteerconnect.backend.exception.ResourceNotFoundException;
 import com.volunteerconnect.backend.model.Event;
 import com.volunteerconnect.backend.model.EventRegistration;
 import com.volunteerconnect.backend.model.RegistrationStatus;
@@ -9,29 +17,76 @@ import com.volunteerconnect.backend.model.User;
 import com.volunteerconnect.backend.repository.EventRepository;
 import com.volunteerconnect.backend.repository.EventRegistrationRepository;
 import com.volunteerconnect.backend.repository.UserRepository;
+import com.volunteerconnect.backend.repository.archive.ArchivedEventRegistrationRepository;
+import com.volunteerconnect.backend.repository.archive.ArchivedEventRepository;
+import com.volunteerconnect.backend.service.notification.NotificationOutbox;
+import com.volunteerconnect.backend.service.organization.OrganizationStatsService;
+import com.volunteerconnect.backend.service.recommendation.RecommendationService;
+import com.volunteerconnect.backend.service.stream.EventStreamService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
-import org.springframework.web.server.ResponseStatusException;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Service
+@Timed("app.service")
 public class EventRegistrationServiceImpl implements EventRegistrationService {
 
+    private static final String CAPACITY_CHECK_SPAN = "EventRegistrationServiceImpl.capacityCheck";
+
+    // The keyset order of registration histories, live and archived alike
+    private static final Comparator<EventRegistrationResponse> NEWEST_FIRST = Comparator
+            .comparing(EventRegistrationResponse::getRegistrationDate)
+            .thenComparing(EventRegistrationResponse::getId)
+            .reversed();
+
     private final EventRepository eventRepository;
     private final UserRepository userRepository;
     private final EventRegistrationRepository eventRegistrationRepository;
+    private final RegistrationMetrics registrationMetrics;
+    private final OrganizationStatsService organizationStatsService;
+    private final RecommendationService recommendationService;
+    private final NotificationOutbox notificationOutbox;
+    private final EventStreamService eventStreamService;
+    private final ArchivedEventRepository archivedEventRepository;
+    private final ArchivedEventRegistrationRepository archivedRegistrationRepository;
+    private final Spans spans;
+
+    @Value("${spring.data.web.pageable.max-page-size:100}")
+    private int maxPageSize;
 
     @Autowired
     public EventRegistrationServiceImpl(EventRepository eventRepository,
                                         UserRepository userRepository,
-                                        EventRegistrationRepository eventRegistrationRepository) {
+                                        EventRegistrationRepository eventRegistrationRepository,
+                                        RegistrationMetrics registrationMetrics,
+                                        OrganizationStatsService organizationStatsService,
+                                        RecommendationService recommendationService,
+                                        NotificationOutbox notificationOutbox,
+                                        EventStreamService eventStreamService,
+                                        ArchivedEventRepository archivedEventRepository,
+                                        ArchivedEventRegistrationRepository archivedRegistrationRepository,
+                                        Spans spans) {
         this.eventRepository = eventRepository;
         this.userRepository = userRepository;
         this.eventRegistrationRepository = eventRegistrationRepository;
+        this.registrationMetrics = registrationMetrics;
+        this.organizationStatsService = organizationStatsService;
+        this.recommendationService = recommendationService;
+        this.notificationOutbox = notificationOutbox;
+        this.eventStreamService = eventStreamService;
+        this.archivedEventRepository = archivedEventRepository;
+        this.archivedRegistrationRepository = archivedRegistrationRepository;
+        this.spans = spans;
     }
 
     private EventRegistrationResponse convertToDto(EventRegistration registration) {
@@ -47,30 +102,32 @@ public class EventRegistrationServiceImpl implements EventRegistrationService {
     }
 
     @Override
+    @Transactional // The registration and the organization stats change together
     public EventRegistrationResponse registerForEvent(Long eventId, Long volunteerId) {
         Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Event with ID " + eventId + " not found."));
+                .orElseThrow(() -> new ResourceNotFoundException("Event with ID " + eventId + " not found."));
 
         User volunteer = userRepository.findById(volunteerId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Volunteer with ID " + volunteerId + " not found."));
+                .orElseThrow(() -> new ResourceNotFoundException("Volunteer with ID " + volunteerId + " not found."));
 
         // --- IMPORTANT ADDITION: Validate Volunteer Role ---
         if (volunteer.getRole() != Role.VOLUNTEER) {
-            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only users with VOLUNTEER role can register for events.");
+            throw new ForbiddenOperationException("Only users with VOLUNTEER role can register for events.");
         }
         // ----------------------------------------------------
 
         if (eventRegistrationRepository.findByEventAndVolunteer(event, volunteer).isPresent()) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "Volunteer with ID " + volunteerId + " is already registered for event with ID " + eventId + ".");
+            registrationMetrics.duplicate();
+            throw AlreadyRegisteredException.INSTANCE;
         }
 
-        long currentRegistrations = eventRegistrationRepository.findByEvent(event).stream()
-                .filter(reg -> reg.getStatus() != RegistrationStatus.CANCELLED) // Only count active registrations
-                .count();
+        // Only active registrations count; the same count query as EventServiceImpl, without loading the roster
+        long currentRegistrations = spans.inSpan(CAPACITY_CHECK_SPAN, () -> eventRegistrationRepository.countActiveByEventId(eventId));
 
         Integer capacity = event.getCapacity();
         if (capacity != null && currentRegistrations >= capacity) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Event capacity reached for event with ID " + eventId + ".");
+            registrationMetrics.full();
+            throw EventFullException.INSTANCE;
         }
 
         EventRegistration newRegistration = EventRegistration.builder()
@@ -81,62 +138,147 @@ public class EventRegistrationServiceImpl implements EventRegistrationService {
                 .build();
 
         EventRegistration savedRegistration = eventRegistrationRepository.save(newRegistration);
+        organizationStatsService.registrationCreated(savedRegistration);
+        recommendationService.registrationCreated(savedRegistration);
+        eventStreamService.eventChanged(eventId);
+        registrationMetrics.success();
 
         return convertToDto(savedRegistration);
     }
 
     @Override
+    @Transactional
     public void unregisterFromEvent(Long eventId, Long volunteerId) {
         Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Event with ID " + eventId + " not found."));
+                .orElseThrow(() -> new ResourceNotFoundException("Event with ID " + eventId + " not found."));
         User volunteer = userRepository.findById(volunteerId) // Fetch volunteer to verify existence if needed
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Volunteer with ID " + volunteerId + " not found."));
+                .orElseThrow(() -> new ResourceNotFoundException("Volunteer with ID " + volunteerId + " not found."));
 
 
         EventRegistration registration = eventRegistrationRepository.findByEventAndVolunteer(event, volunteer)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Registration not found for volunteer " + volunteerId + " and event " + eventId + "."));
+                .orElseThrow(() -> new ResourceNotFoundException("Registration not found for volunteer " + volunteerId + " and event " + eventId + "."));
 
         // Ensure the current authenticated user is the one who made the registration
         if (!registration.getVolunteer().getId().equals(volunteerId)) {
-            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "You are not authorized to unregister from this event.");
+            throw new ForbiddenOperationException("You are not authorized to unregister from this event.");
         }
 
         // Add logic to prevent unregistering from already cancelled/rejected etc.
         if (registration.getStatus() == RegistrationStatus.CANCELLED) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Registration is already cancelled and cannot be unregistered again.");
+            throw new BusinessRuleException("Registration is already cancelled and cannot be unregistered again.");
         }
         // You might consider adding checks for past events etc.
 
+        RegistrationStatus previousStatus = registration.getStatus();
         registration.setStatus(RegistrationStatus.CANCELLED);
         eventRegistrationRepository.save(registration);
+        organizationStatsService.registrationStatusChanged(registration, previousStatus);
+        recommendationService.registrationStatusChanged(registration, previousStatus);
+        eventStreamService.eventChanged(eventId);
     }
 
     @Override
-    public List<EventRegistrationResponse> getRegistrationsForEvent(Long eventId) {
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Event with ID " + eventId + " not found."));
+    @Transactional // The status, the organization stats and the volunteer's notification change together
+    public EventRegistrationResponse confirmRegistration(Long registrationId, Long organizerId) {
+        EventRegistration registration = eventRegistrationRepository.findById(registrationId)
+                .orElseThrow(() -> new ResourceNotFoundException("Registration with ID " + registrationId + " not found."));
+
+        if (!registration.getEvent().getOrganizer().getId().equals(organizerId)) {
+            throw new ForbiddenOperationException("You are not authorized to confirm registrations for this event.");
+        }
+        if (registration.getStatus() != RegistrationStatus.PENDING) {
+            throw new BusinessRuleException("Only pending registrations can be confirmed; this one is " + registration.getStatus() + ".");
+        }
 
-        List<EventRegistration> registrations = eventRegistrationRepository.findByEvent(event);
-        return registrations.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        registration.setStatus(RegistrationStatus.CONFIRMED);
+        eventRegistrationRepository.save(registration);
+        organizationStatsService.registrationStatusChanged(registration, RegistrationStatus.PENDING);
+        recommendationService.registrationStatusChanged(registration, RegistrationStatus.PENDING);
+        notificationOutbox.registrationConfirmed(registration); // Queued, sent by NotificationDispatcher
+        return convertToDto(registration);
     }
 
+    // One query per page: the rows come back as DTOs, with the event title and volunteer name joined in.
+    // The event or volunteer is only looked up when the page is empty, to tell "none" from "not found".
+    // With includeArchived, the same page is read from the archive too and the two are merged: ids are kept on
+    // archival, so one cursor positions both.
     @Override
-    public List<EventRegistrationResponse> getRegistrationsByVolunteer(Long volunteerId) {
-        User volunteer = userRepository.findById(volunteerId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Volunteer with ID " + volunteerId + " not found."));
+    @Transactional(readOnly = true)
+    public CursorPage<EventRegistrationResponse> getRegistrationsForEvent(Long eventId, RegistrationStatus status,
+                                                                          LocalDateTime from, LocalDateTime to,
+                                                                          boolean includeArchived, String cursor, int size) {
+        int pageSize = pageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<EventRegistrationResponse> rows = eventRegistrationRepository.findPageByEvent(eventId, statuses(status),
+                fromOrEarliest(from), toOrLatest(to), after.at(), after.id(), Limit.of(pageSize + 1));
+        if (includeArchived) {
+            rows = merge(rows, archivedRegistrationRepository.findPageByEvent(eventId, statuses(status),
+                    fromOrEarliest(from), toOrLatest(to), after.at(), after.id(), Limit.of(pageSize + 1)), pageSize + 1);
+        }
+        if (rows.isEmpty() && !eventRepository.existsById(eventId)
+                && !(includeArchived && archivedEventRepository.existsById(eventId))) {
+            throw new ResourceNotFoundException("Event with ID " + eventId + " not found.");
+        }
+        return CursorPage.of(rows, pageSize, EventRegistrationServiceImpl::cursorOf);
+    }
 
-        List<EventRegistration> registrations = eventRegistrationRepository.findByVolunteer(volunteer);
-        return registrations.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<EventRegistrationResponse> getRegistrationsByVolunteer(Long volunteerId, RegistrationStatus status,
+                                                                             LocalDateTime from, LocalDateTime to,
+                                                                             boolean includeArchived, String cursor, int size) {
+        int pageSize = pageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<EventRegistrationResponse> rows = eventRegistrationRepository.findPageByVolunteer(volunteerId, statuses(status),
+                fromOrEarliest(from), toOrLatest(to), after.at(), after.id(), Limit.of(pageSize + 1));
+        if (includeArchived) {
+            rows = merge(rows, archivedRegistrationRepository.findPageByVolunteer(volunteerId, statuses(status),
+                    fromOrEarliest(from), toOrLatest(to), after.at(), after.id(), Limit.of(pageSize + 1)), pageSize + 1);
+        }
+        if (rows.isEmpty() && !userRepository.existsById(volunteerId)) {
+            throw new ResourceNotFoundException("Volunteer with ID " + volunteerId + " not found.");
+        }
+        return CursorPage.of(rows, pageSize, EventRegistrationServiceImpl::cursorOf);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public EventRegistrationResponse getRegistrationById(Long registrationId) {
         EventRegistration registration = eventRegistrationRepository.findById(registrationId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Registration with ID " + registrationId + " not found."));
+                .orElseThrow(() -> new ResourceNotFoundException("Registration with ID " + registrationId + " not found."));
         return convertToDto(registration);
     }
+
+    // Both lists are already in keyset order; the first "limit" rows of the two together are the page
+    private static List<EventRegistrationResponse> merge(List<EventRegistrationResponse> live,
+                                                         List<EventRegistrationResponse> archived, int limit) {
+        if (archived.isEmpty()) {
+            return live;
+        }
+        List<EventRegistrationResponse> rows = new ArrayList<>(live.size() + archived.size());
+        rows.addAll(live);
+        rows.addAll(archived);
+        rows.sort(NEWEST_FIRST);
+        return rows.size() > limit ? rows.subList(0, limit) : rows;
+    }
+
+    private int pageSize(int size) {
+        return Math.max(1, Math.min(size, maxPageSize));
+    }
+
+    private static Set<RegistrationStatus> statuses(RegistrationStatus status) {
+        return status == null ? EnumSet.allOf(RegistrationStatus.class) : EnumSet.of(status);
+    }
+
+    private static LocalDateTime fromOrEarliest(LocalDateTime from) {
+        return from != null ? from : LocalDateTime.of(1970, 1, 1, 0, 0);
+    }
+
+    private static LocalDateTime toOrLatest(LocalDateTime to) {
+        return to != null ? to : KeysetCursor.START.at();
+    }
+
+    private static String cursorOf(EventRegistrationResponse registration) {
+        return new KeysetCursor(registration.getRegistrationDate(), registration.getId()).encode();
+    }
 }
\ No newline at end of file
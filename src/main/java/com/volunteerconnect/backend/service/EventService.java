@@ -1,15 +1,24 @@
 package com.volunteerconnect.backend.service;
 
+import com.volunteerconnect.backend.dto.CursorPage;
 import com.volunteerconnect.backend.dto.EventRequest;
 import com.volunteerconnect.backend.dto.EventResponse;
+import com.volunteerconnect.backend.dto.OrganizerEventResponse;
+import com.volunteerconnect.backend.dto.PageResponse;
+import com.volunteerconnect.backend.dto.UserSummaryDto;
 import com.volunteerconnect.backend.model.Event; // Ensure Event is imported
+import com.volunteerconnect.backend.model.RegistrationStatus;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
 public interface EventService {
     EventResponse createEvent(EventRequest eventRequest, Long organizerId);
-    List<EventResponse> getAllEvents();
-    EventResponse getEventById(Long id);
+    // includeVolunteers embeds each event's full roster; without it only registeredCount is filled in
+    List<EventResponse> getAllEvents(boolean includeVolunteers);
+    EventResponse getEventById(Long id, boolean includeVolunteers);
+    CursorPage<UserSummaryDto> getEventVolunteers(Long eventId, RegistrationStatus status, String cursor, int size);
+    PageResponse<OrganizerEventResponse> getEventsByOrganizer(Long organizerId, Pageable pageable);
     EventResponse updateEvent(Long id, EventRequest eventRequest, Long currentUserId);
     void deleteEvent(Long id, Long currentUserId);
 
@@ -19,5 +28,5 @@ public interface EventService {
 
     // Helper method (might be internal or public depending on needs)
     Event convertToEntity(EventRequest eventRequest, Long organizerId);
-    EventResponse convertToDto(Event event);
+    EventResponse convertToDto(Event event); // With the full roster
 }
\ No newline at end of file
@@ -1,9 +1,18 @@
 package com.volunteerconnect.backend.service;
 
+import com.volunteerconnect.backend.config.tracing.Spans;
+import com.volunteerconnect.backend.dto.CursorPage;
 import com.volunteerconnect.backend.dto.EventRequest;
 import com.volunteerconnect.backend.dto.EventResponse;
+import com.volunteerconnect.backend.dto.OrganizerEventResponse;
+import com.volunteerconnect.backend.dto.PageResponse;
+import com.volunteerconnect.backend.dto.IdCursor;
 import com.volunteerconnect.backend.dto.UserSummaryDto;
 import com.volunteerconnect.backend.dto.organization.OrganizationSummaryDto;
+import com.volunteerconnect.backend.exception.AlreadyRegisteredException;
+import com.volunteerconnect.backend.exception.BusinessRuleException;
+import com.volunteerconnect.backend.exception.EventFullException;
+import com.volunteerconnect.backend.exception.ForbiddenOperationException;
 import com.volunteerconnect.backend.exception.ResourceNotFoundException;
 import com.volunteerconnect.backend.model.Event;
 import com.volunteerconnect.backend.model.EventRegistration; // Import EventRegistration
@@ -14,34 +23,80 @@ import com.volunteerconnect.backend.repository.EventRepository;
 import com.volunteerconnect.backend.repository.EventRegistrationRepository; // Import EventRegistrationRepository
 import com.volunteerconnect.backend.repository.organization.OrganizationRepository;
 import com.volunteerconnect.backend.repository.UserRepository;
+import com.volunteerconnect.backend.service.notification.NotificationOutbox;
+import com.volunteerconnect.backend.service.organization.OrganizationStatsService;
+import com.volunteerconnect.backend.service.recommendation.RecommendationService;
+import com.volunteerconnect.backend.service.stream.EventStreamService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional; // Import Transactional
 
 import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("app.service")
 public class EventServiceImpl implements EventService {
 
+    private static final String MAPPING_SPAN = "EventServiceImpl.convertToDto";
+    private static final String CAPACITY_CHECK_SPAN = "EventServiceImpl.capacityCheck";
+
+    // The roster without a status filter: the same registrations as registeredCount and the embedded roster
+    private static final Set<RegistrationStatus> ACTIVE_STATUSES = EnumSet.complementOf(EnumSet.of(RegistrationStatus.CANCELLED));
+    // Columns of the "my events" rows; eventDate is served in order by idx_events_organizer_event_date
+    private static final List<String> ORGANIZER_EVENTS_SORTABLE_PROPERTIES = List.of("eventDate", "title", "id");
+
     private final EventRepository eventRepository;
     private final UserRepository userRepository;
     private final OrganizationRepository organizationRepository;
     private final EventRegistrationRepository eventRegistrationRepository; // Inject EventRegistrationRepository
+    private final RegistrationMetrics registrationMetrics;
+    private final OrganizationStatsService organizationStatsService;
+    private final RecommendationService recommendationService;
+    private final NotificationOutbox notificationOutbox;
+    private final EventStreamService eventStreamService;
+    private final Spans spans;
+
+    @Value("${spring.data.web.pageable.max-page-size:100}")
+    private int maxPageSize;
 
     @Autowired
     public EventServiceImpl(
             EventRepository eventRepository,
             UserRepository userRepository,
             OrganizationRepository organizationRepository,
-            EventRegistrationRepository eventRegistrationRepository // Add to constructor
+            EventRegistrationRepository eventRegistrationRepository, // Add to constructor
+            RegistrationMetrics registrationMetrics,
+            OrganizationStatsService organizationStatsService,
+            RecommendationService recommendationService,
+            NotificationOutbox notificationOutbox,
+            EventStreamService eventStreamService,
+            Spans spans
     ) {
         this.eventRepository = eventRepository;
         this.userRepository = userRepository;
         this.organizationRepository = organizationRepository;
         this.eventRegistrationRepository = eventRegistrationRepository; // Initialize
+        this.registrationMetrics = registrationMetrics;
+        this.organizationStatsService = organizationStatsService;
+        this.recommendationService = recommendationService;
+        this.notificationOutbox = notificationOutbox;
+        this.eventStreamService = eventStreamService;
+        this.spans = spans;
     }
 
     @Override
@@ -51,19 +106,19 @@ public class EventServiceImpl implements EventService {
                 .orElseThrow(() -> new ResourceNotFoundException("Organizer not found with id: " + organizerId));
 
         if (organizer.getRole() != Role.ORGANIZER) {
-            throw new IllegalArgumentException("Only users with role ORGANIZER can create events.");
+            throw new ForbiddenOperationException("Only users with role ORGANIZER can create events.");
         }
 
         // Ensure the eventRequest has an organizationId. This should come from the frontend
         // and ideally should be the organizer's organization.
         Long organizationId = eventRequest.getOrganizationId();
         if (organizationId == null) {
-            throw new IllegalArgumentException("Organization ID must be provided for event creation.");
+            throw new BusinessRuleException("Organization ID must be provided for event creation.");
         }
 
         // Validate if the organizer belongs to the specified organization (security check)
         if (organizer.getOrganization() == null || !organizer.getOrganization().getId().equals(organizationId)) {
-            throw new IllegalArgumentException("Organizer does not belong to the specified organization.");
+            throw new ForbiddenOperationException("Organizer does not belong to the specified organization.");
         }
 
         Event event = convertToEntity(eventRequest, organizerId);
@@ -76,21 +131,84 @@ public class EventServiceImpl implements EventService {
         }
 
         Event savedEvent = eventRepository.save(event);
-        return convertToDto(savedEvent);
+        organizationStatsService.eventCreated(savedEvent);
+        recommendationService.eventSaved(savedEvent);
+        return spans.inSpan(MAPPING_SPAN, () -> convertToDto(savedEvent, 0));
     }
 
     @Override
-    public List<EventResponse> getAllEvents() {
-        return eventRepository.findAll().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public List<EventResponse> getAllEvents(boolean includeVolunteers) {
+        List<Event> events = eventRepository.findAll();
+        if (includeVolunteers) {
+            // Mapping lazy-loads each event's organizer, organization and roster, so it gets its own span
+            return spans.inSpan(MAPPING_SPAN, () -> events.stream()
+                    .map(this::convertToDto)
+                    .collect(Collectors.toList()));
+        }
+        // Every roster size in one grouped query instead of one roster load per event
+        Map<Long, Long> registeredCounts = new HashMap<>();
+        for (EventRegistrationRepository.EventCount count : eventRegistrationRepository.countPerEvent()) {
+            registeredCounts.put(count.getEventId(), count.getRegistrations());
+        }
+        return spans.inSpan(MAPPING_SPAN, () -> events.stream()
+                .map(event -> convertToDto(event, registeredCounts.getOrDefault(event.getId(), 0L)))
+                .collect(Collectors.toList()));
     }
 
     @Override
-    public EventResponse getEventById(Long id) {
+    @Transactional(readOnly = true)
+    public EventResponse getEventById(Long id, boolean includeVolunteers) {
         Event event = eventRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Event not found with id: " + id));
-        return convertToDto(event);
+        if (includeVolunteers) {
+            return spans.inSpan(MAPPING_SPAN, () -> convertToDto(event));
+        }
+        long registeredCount = eventRegistrationRepository.countActiveByEventId(id);
+        return spans.inSpan(MAPPING_SPAN, () -> convertToDto(event, registeredCount));
+    }
+
+    // One query per page, rows built directly as UserSummaryDto; the event is only looked up when the page is empty,
+    // to tell "no volunteers" from "no such event"
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<UserSummaryDto> getEventVolunteers(Long eventId, RegistrationStatus status, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+        Set<RegistrationStatus> statuses = status == null ? ACTIVE_STATUSES : EnumSet.of(status);
+        List<UserSummaryDto> volunteers = eventRegistrationRepository.findVolunteerPage(eventId, statuses,
+                IdCursor.decode(cursor), Limit.of(pageSize + 1));
+        if (volunteers.isEmpty() && !eventRepository.existsById(eventId)) {
+            throw new ResourceNotFoundException("Event not found with id: " + eventId);
+        }
+        return CursorPage.of(volunteers, pageSize, volunteer -> IdCursor.encode(volunteer.getId()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<OrganizerEventResponse> getEventsByOrganizer(Long organizerId, Pageable pageable) {
+        for (Sort.Order order : pageable.getSort()) {
+            if (!ORGANIZER_EVENTS_SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                throw new BusinessRuleException("Events can only be sorted by " + String.join(", ", ORGANIZER_EVENTS_SORTABLE_PROPERTIES) + ".");
+            }
+        }
+        // Ties (events at the same time) broken by id, so no event shows up on two pages or on none
+        if (pageable.getSort().getOrderFor("id") == null) {
+            pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().and(Sort.by("id")));
+        }
+
+        // Two queries per page whatever the page size: the rows, then all their registration counts grouped at once
+        Page<EventRepository.OrganizerEventRow> rows = eventRepository.findOrganizerEvents(organizerId, pageable);
+        Map<Long, Map<RegistrationStatus, Long>> counts = new HashMap<>();
+        if (rows.hasContent()) {
+            List<Long> eventIds = rows.map(EventRepository.OrganizerEventRow::getId).getContent();
+            for (EventRegistrationRepository.EventStatusCount count : eventRegistrationRepository.countByStatusForEvents(eventIds)) {
+                if (count.getStatus() != null) {
+                    counts.computeIfAbsent(count.getEventId(), id -> new EnumMap<>(RegistrationStatus.class))
+                            .put(count.getStatus(), count.getRegistrations());
+                }
+            }
+        }
+        return PageResponse.from(rows.map(row -> convertToDto(row, counts.getOrDefault(row.getId(), Map.of()))));
     }
 
     @Override
@@ -101,9 +219,14 @@ public class EventServiceImpl implements EventService {
 
         // Authorization check: Only the organizer who created the event can update it
         if (!existingEvent.getOrganizer().getId().equals(currentUserId)) {
-            throw new IllegalArgumentException("You are not authorized to update this event.");
+            throw new ForbiddenOperationException("You are not authorized to update this event.");
         }
 
+        int previousCapacity = existingEvent.getCapacity();
+        boolean previousActive = existingEvent.isActive();
+        LocalDateTime previousEventDate = existingEvent.getEventDate();
+        String previousLocation = existingEvent.getLocation();
+
         // Update fields
         existingEvent.setTitle(eventRequest.getTitle());
         existingEvent.setDescription(eventRequest.getDescription());
@@ -119,7 +242,12 @@ public class EventServiceImpl implements EventService {
         // If eventRequest.getOrganizationId() is different, you'd need to fetch and set it.
 
         Event updatedEvent = eventRepository.save(existingEvent);
-        return convertToDto(updatedEvent);
+        organizationStatsService.eventUpdated(updatedEvent, previousCapacity, previousActive, previousEventDate);
+        recommendationService.eventSaved(updatedEvent);
+        notificationOutbox.eventChanged(updatedEvent, previousEventDate, previousLocation); // Queued, sent by NotificationDispatcher
+        eventStreamService.eventChanged(id);
+        long registeredCount = eventRegistrationRepository.countActiveByEventId(id);
+        return spans.inSpan(MAPPING_SPAN, () -> convertToDto(updatedEvent, registeredCount));
     }
 
     @Override
@@ -130,10 +258,13 @@ public class EventServiceImpl implements EventService {
 
         // Authorization check: Only the organizer who created the event can delete it
         if (!event.getOrganizer().getId().equals(currentUserId)) {
-            throw new IllegalArgumentException("You are not authorized to delete this event.");
+            throw new ForbiddenOperationException("You are not authorized to delete this event.");
         }
 
+        organizationStatsService.eventDeleting(event);
         eventRepository.delete(event);
+        recommendationService.eventDeleted(id);
+        eventStreamService.eventChanged(id); // Followers get a deleted update
     }
 
 
@@ -149,28 +280,31 @@ public class EventServiceImpl implements EventService {
 
         // Basic validation: Only VOLUNTEER role can register (or adjust as per your app's rules)
         if (volunteer.getRole() != Role.VOLUNTEER) {
-            throw new IllegalArgumentException("Only users with role VOLUNTEER can register for events.");
+            throw new ForbiddenOperationException("Only users with role VOLUNTEER can register for events.");
         }
 
         // Check if event is active
         if (!event.isActive()) {
-            throw new IllegalArgumentException("Cannot register for an inactive event.");
+            throw new BusinessRuleException("Cannot register for an inactive event.");
         }
 
         // Check if event is in the past
         if (event.getEventDate().isBefore(LocalDateTime.now())) {
-            throw new IllegalArgumentException("Cannot register for an event that has already occurred.");
+            throw new BusinessRuleException("Cannot register for an event that has already occurred.");
         }
 
         // Check if already registered
         Optional<EventRegistration> existingRegistration = eventRegistrationRepository.findByEventAndVolunteer(event, volunteer);
         if (existingRegistration.isPresent()) {
-            throw new IllegalArgumentException("Volunteer is already registered for this event.");
+            registrationMetrics.duplicate();
+            throw AlreadyRegisteredException.INSTANCE;
         }
 
-        // Check capacity
-        if (event.getRegisteredVolunteers().size() >= event.getCapacity()) {
-            throw new IllegalArgumentException("Event is already at full capacity.");
+        // Check capacity (a count, without loading the roster)
+        long registered = spans.inSpan(CAPACITY_CHECK_SPAN, () -> eventRegistrationRepository.countActiveByEventId(eventId));
+        if (registered >= event.getCapacity()) {
+            registrationMetrics.full();
+            throw EventFullException.INSTANCE;
         }
 
         // Create new registration
@@ -181,17 +315,14 @@ public class EventServiceImpl implements EventService {
                 .build();
 
         eventRegistrationRepository.save(registration);
-
-        // Crucial: Update the collections on the event and volunteer side to reflect the new registration
-        // (JPA will manage the actual database rows, but for the current transaction's context,
-        // it's good to keep the entity relationships consistent).
-        event.getRegistrations().add(registration);
-        event.getRegisteredVolunteers().add(volunteer); // Assuming this list is for direct volunteers
-
-        // If you were to fetch this event again after this transaction, the getRegisteredVolunteers()
-        // would reflect the updated count due to the relationship mapping in Event.java.
-        // We are returning the updated event DTO.
-        return convertToDto(event);
+        organizationStatsService.registrationCreated(registration);
+        recommendationService.registrationCreated(registration);
+        eventStreamService.eventChanged(eventId);
+        registrationMetrics.success();
+
+        // The event's registrations/registeredVolunteers collections are left unloaded: adding to them would load
+        // the whole roster just to return its new size.
+        return spans.inSpan(MAPPING_SPAN, () -> convertToDto(event, registered + 1));
     }
     // --- END NEW IMPLEMENTATION ---
 
@@ -213,8 +344,48 @@ public class EventServiceImpl implements EventService {
                 .build();
     }
 
+    private static OrganizerEventResponse convertToDto(EventRepository.OrganizerEventRow row, Map<RegistrationStatus, Long> counts) {
+        Map<RegistrationStatus, Long> registrationsByStatus = new EnumMap<>(RegistrationStatus.class);
+        for (RegistrationStatus status : RegistrationStatus.values()) {
+            registrationsByStatus.put(status, counts.getOrDefault(status, 0L));
+        }
+        return OrganizerEventResponse.builder()
+                .id(row.getId())
+                .title(row.getTitle())
+                .eventDate(row.getEventDate())
+                .location(row.getLocation())
+                .capacity(row.getCapacity())
+                .active(row.isActive())
+                .organization(OrganizationSummaryDto.builder()
+                        .id(row.getOrganizationId())
+                        .name(row.getOrganizationName())
+                        .build())
+                .registrationsByStatus(registrationsByStatus)
+                .build();
+    }
+
+    // Without the roster: registeredVolunteers stays null and is left out of the JSON
+    private EventResponse convertToDto(Event event, long registeredCount) {
+        return toResponse(event, registeredCount, null);
+    }
+
     @Override
     public EventResponse convertToDto(Event event) {
+        // Collect registered volunteers from event.getRegisteredVolunteers()
+        List<UserSummaryDto> registeredVolunteers = event.getRegisteredVolunteers().stream()
+                .map(volunteer -> UserSummaryDto.builder()
+                        .id(volunteer.getId())
+                        .username(volunteer.getUsername())
+                        .firstName(volunteer.getFirstName())
+                        .lastName(volunteer.getLastName())
+                        .email(volunteer.getEmail())
+                        .build())
+                .collect(Collectors.toList());
+
+        return toResponse(event, registeredVolunteers.size(), registeredVolunteers);
+    }
+
+    private static EventResponse toResponse(Event event, long registeredCount, List<UserSummaryDto> registeredVolunteers) {
         UserSummaryDto organizerDto = null;
         if (event.getOrganizer() != null) {
             organizerDto = UserSummaryDto.builder()
@@ -235,18 +406,6 @@ public class EventServiceImpl implements EventService {
                     .build();
         }
 
-        // Collect registered volunteers from event.getRegisteredVolunteers()
-        List<UserSummaryDto> registeredVolunteers = event.getRegisteredVolunteers().stream()
-                .map(volunteer -> UserSummaryDto.builder()
-                        .id(volunteer.getId())
-                        .username(volunteer.getUsername())
-                        .firstName(volunteer.getFirstName())
-                        .lastName(volunteer.getLastName())
-                        .email(volunteer.getEmail())
-                        .build())
-                .collect(Collectors.toList());
-
-
         return EventResponse.builder()
                 .id(event.getId())
                 .title(event.getTitle())
@@ -258,7 +417,8 @@ public class EventServiceImpl implements EventService {
                 .requiredSkills(event.getRequiredSkills())
                 .organizer(organizerDto)
                 .organization(organizationDto)
-                .registeredVolunteers(registeredVolunteers) // Populate this from the event's collection
+                .registeredCount(registeredCount)
+                .registeredVolunteers(registeredVolunteers)
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.volunteerconnect.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts event registration attempts by outcome ({@code app.registrations{outcome=success|full|duplicate}}).
+ * Shared by both registration paths (EventService and EventRegistrationService) so the numbers add up
+ * regardless of which endpoint the client used.
+ */
+@Component
+public class RegistrationMetrics {
+
+    private final Counter success;
+    private final Counter full;
+    private final Counter duplicate;
+
+    public RegistrationMetrics(MeterRegistry registry) {
+        this.success = counter(registry, "success");
+        this.full = counter(registry, "full");
+        this.duplicate = counter(registry, "duplicate");
+    }
+
+    private static Counter counter(MeterRegistry registry, String outcome) {
+        return Counter.builder("app.registrations")
+                .description("Event registration attempts by outcome")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    public void success() {
+        success.increment();
+    }
+
+    public void full() {
+        full.increment();
+    }
+
+    public void duplicate() {
+        duplicate.increment();
+    }
+}
@@ -0,0 +1,52 @@
+package com.volunteerconnect.backend.service;
+
+import com.volunteerconnect.backend.exception.DuplicateResourceException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * Maps unique-constraint violations on the users table to clean 409 errors.
+ * Registration relies on these constraints instead of querying for an existing username/email first,
+ * which saves two round trips per signup and closes the race between the check and the insert.
+ */
+final class UniqueUserConstraints {
+
+    static final String USERNAME_CONSTRAINT = "uk_users_username";
+    static final String EMAIL_CONSTRAINT = "uk_users_email";
+
+    static final String USERNAME_TAKEN = "Username is already taken!";
+    static final String EMAIL_TAKEN = "Email is already registered!";
+
+    private UniqueUserConstraints() {
+    }
+
+    /**
+     * Translates a violation of the username or email constraint.
+     * Any other integrity violation (e.g. a NOT NULL column) is rethrown unchanged.
+     */
+    static DuplicateResourceException translate(DataIntegrityViolationException e) {
+        String constraint = null;
+        if (e.getCause() instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+            constraint = violation.getConstraintName().toLowerCase(Locale.ROOT);
+        }
+        String detail = String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase(Locale.ROOT);
+
+        // Named constraints first; the "(column)" form covers databases created before they were named,
+        // e.g. PostgreSQL's "Key (username)=(bob) already exists."
+        if (matches(constraint, detail, USERNAME_CONSTRAINT, "(username)")) {
+            return new DuplicateResourceException(USERNAME_TAKEN);
+        }
+        if (matches(constraint, detail, EMAIL_CONSTRAINT, "(email)")) {
+            return new DuplicateResourceException(EMAIL_TAKEN);
+        }
+        throw e;
+    }
+
+    private static boolean matches(String constraint, String detail, String constraintName, String keyColumn) {
+        return (constraint != null && constraint.contains(constraintName))
+                || detail.contains(constraintName)
+                || detail.contains(keyColumn);
+    }
+}
@@ -0,0 +1,320 @@
+package com.volunteerconnect.backend.service;
+
+import com.volunteerconnect.backend.dto.UserImportResponse;
+import com.volunteerconnect.backend.exception.BusinessRuleException;
+import com.volunteerconnect.backend.model.Role;
+import com.volunteerconnect.backend.repository.UserRepository;
+import com.volunteerconnect.backend.service.availability.AvailabilityService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Bulk user import from CSV (header row, then one user per row; columns username, email, password and optionally
+ * firstName, lastName and role, in any order).
+ * <p>
+ * The file is read as a stream and handled batch-size rows at a time, so memory does not grow with the file. Per
+ * batch: one IN query each for taken usernames and emails, BCrypt hashing spread over a small fixed pool (hashing
+ * is CPU-bound and by far the slowest step), then a single JDBC batch insert in one transaction. If the batch
+ * insert hits a unique constraint (someone registered the same name since the check), the batch is retried row by
+ * row so only the conflicting rows fail. Every rejected row is reported with its line number; the rest are imported.
+ */
+@Service
+@Timed("app.service")
+@Slf4j
+public class UserImportService {
+
+    private static final String INSERT_USER = "INSERT INTO users (username, password, email, first_name, last_name, role, "
+            + "created_date, updated_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    private static final int MAX_LENGTH = 255;
+    private static final int MAX_PASSWORD_BYTES = 72; // BCrypt only uses (and Spring Security only accepts) 72 bytes
+    private static final Set<Role> IMPORTABLE_ROLES = Set.of(Role.VOLUNTEER, Role.ORGANIZER);
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final AvailabilityService availabilityService;
+    private final JdbcOperations jdbcOperations;
+    private final TransactionOperations transactionOperations;
+    private final int batchSize;
+    private final ExecutorService hashExecutor;
+
+    public UserImportService(UserRepository userRepository,
+                             PasswordEncoder passwordEncoder,
+                             AvailabilityService availabilityService,
+                             JdbcOperations jdbcOperations,
+                             TransactionOperations transactionOperations,
+                             @Value("${app.user-import.batch-size:500}") int batchSize,
+                             @Value("${app.user-import.hash-threads:0}") int hashThreads) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("app.user-import.batch-size must be at least 1");
+        }
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.availabilityService = availabilityService;
+        this.jdbcOperations = jdbcOperations;
+        this.transactionOperations = transactionOperations;
+        this.batchSize = batchSize;
+        int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+        // Bounded on both ends: at most "threads" hashes at once, and once the queue is full the submitting request
+        // thread hashes itself, so concurrent imports cannot pile up work or starve the rest of the application
+        this.hashExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(batchSize), Thread.ofPlatform().name("user-import-hash-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hashExecutor.shutdownNow();
+    }
+
+    public UserImportResponse importUsers(InputStream csv) throws IOException {
+        long start = System.nanoTime();
+        CsvReader reader = new CsvReader(new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8)));
+        List<String> header = reader.next();
+        if (header == null) {
+            throw new BusinessRuleException("The CSV file is empty.");
+        }
+        Columns columns = Columns.of(header);
+
+        Report report = new Report();
+        Set<String> seenUsernames = new HashSet<>();
+        Set<String> seenEmails = new HashSet<>();
+        List<Row> batch = new ArrayList<>(batchSize);
+        List<String> record;
+        while ((record = reader.next()) != null) {
+            report.rows++;
+            Row row = columns.row(reader.recordLine(), record);
+            String problem = validate(row);
+            if (problem == null && !seenUsernames.add(row.username())) {
+                problem = "Username appears more than once in the file.";
+            } else if (problem == null && !seenEmails.add(row.email())) {
+                problem = "Email appears more than once in the file.";
+            }
+            if (problem != null) {
+                report.fail(row, problem);
+                continue;
+            }
+            batch.add(row);
+            if (batch.size() == batchSize) {
+                importBatch(batch, report);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            importBatch(batch, report);
+        }
+
+        report.errors.sort(Comparator.comparingLong(UserImportResponse.RowError::getLine));
+        long durationMs = (System.nanoTime() - start) / 1_000_000;
+        log.info("Imported {} of {} users in {} ms", report.imported, report.rows, durationMs);
+        return UserImportResponse.builder()
+                .rows(report.rows)
+                .imported(report.imported)
+                .failed(report.errors.size())
+                .errors(report.errors)
+                .durationMs(durationMs)
+                .build();
+    }
+
+    private static String validate(Row row) {
+        if (row.username() == null) {
+            return "Username is required.";
+        }
+        if (row.email() == null) {
+            return "Email is required.";
+        }
+        if (row.password() == null) {
+            return "Password is required.";
+        }
+        if (tooLong(row.username()) || tooLong(row.email()) || tooLong(row.firstName()) || tooLong(row.lastName())) {
+            return "Values can be at most " + MAX_LENGTH + " characters long.";
+        }
+        if (!EMAIL.matcher(row.email()).matches()) {
+            return "Email is not a valid address.";
+        }
+        if (row.password().getBytes(StandardCharsets.UTF_8).length > MAX_PASSWORD_BYTES) {
+            return "Password is longer than " + MAX_PASSWORD_BYTES + " bytes.";
+        }
+        if (row.role() == null) {
+            return "Role must be one of VOLUNTEER, ORGANIZER.";
+        }
+        return null;
+    }
+
+    private static boolean tooLong(String value) {
+        return value != null && value.length() > MAX_LENGTH;
+    }
+
+    private void importBatch(List<Row> batch, Report report) {
+        Set<String> takenUsernames = new HashSet<>(userRepository.findExistingUsernames(batch.stream().map(Row::username).toList()));
+        Set<String> takenEmails = new HashSet<>(userRepository.findExistingEmails(batch.stream().map(Row::email).toList()));
+        List<Row> rows = new ArrayList<>(batch.size());
+        for (Row row : batch) {
+            if (takenUsernames.contains(row.username())) {
+                report.fail(row, UniqueUserConstraints.USERNAME_TAKEN);
+            } else if (takenEmails.contains(row.email())) {
+                report.fail(row, UniqueUserConstraints.EMAIL_TAKEN);
+            } else {
+                rows.add(row);
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> parameters = parameters(rows, hashPasswords(rows));
+        try {
+            transactionOperations.executeWithoutResult(status -> jdbcOperations.batchUpdate(INSERT_USER, parameters));
+            for (Row row : rows) {
+                imported(row, report);
+            }
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Batch insert hit a constraint, inserting its {} rows one by one", rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                try {
+                    jdbcOperations.update(INSERT_USER, parameters.get(i));
+                    imported(rows.get(i), report);
+                } catch (DataIntegrityViolationException rowViolation) {
+                    report.fail(rows.get(i), message(rowViolation));
+                }
+            }
+        }
+    }
+
+    private List<String> hashPasswords(List<Row> rows) {
+        List<Future<String>> hashes = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            hashes.add(hashExecutor.submit(() -> passwordEncoder.encode(row.password())));
+        }
+        List<String> encoded = new ArrayList<>(rows.size());
+        try {
+            for (Future<String> hash : hashes) {
+                encoded.add(hash.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing passwords", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+        return encoded;
+    }
+
+    private static List<Object[]> parameters(List<Row> rows, List<String> passwordHashes) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> parameters = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            parameters.add(new Object[]{row.username(), passwordHashes.get(i), row.email(), row.firstName(), row.lastName(),
+                    row.role().name(), now, now});
+        }
+        return parameters;
+    }
+
+    private void imported(Row row, Report report) {
+        report.imported++;
+        availabilityService.record(row.username(), row.email());
+    }
+
+    private static String message(DataIntegrityViolationException e) {
+        try {
+            return UniqueUserConstraints.translate(e).getMessage();
+        } catch (DataIntegrityViolationException other) {
+            return "Could not be saved: " + other.getMostSpecificCause().getMessage();
+        }
+    }
+
+    private record Row(long line, String username, String email, String password, String firstName, String lastName,
+                       Role role) {
+    }
+
+    private static final class Report {
+        int rows;
+        int imported;
+        final List<UserImportResponse.RowError> errors = new ArrayList<>();
+
+        void fail(Row row, String message) {
+            errors.add(new UserImportResponse.RowError(row.line(), row.username(), message));
+        }
+    }
+
+    // Column positions from the header; names are matched ignoring case, spaces and underscores (first_name = firstName)
+    private record Columns(Map<String, Integer> positions) {
+
+        static Columns of(List<String> header) {
+            Map<String, Integer> positions = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                positions.putIfAbsent(normalize(header.get(i)), i);
+            }
+            List<String> missing = new ArrayList<>();
+            for (String required : List.of("username", "email", "password")) {
+                if (!positions.containsKey(required)) {
+                    missing.add(required);
+                }
+            }
+            if (!missing.isEmpty()) {
+                throw new BusinessRuleException("The CSV header is missing the column(s): " + String.join(", ", missing) + ".");
+            }
+            return new Columns(positions);
+        }
+
+        Row row(long line, List<String> record) {
+            String role = value(record, "role");
+            return new Row(line, value(record, "username"), value(record, "email"), value(record, "password"),
+                    value(record, "firstname"), value(record, "lastname"), role == null ? Role.VOLUNTEER : importableRole(role));
+        }
+
+        // Blank values count as missing; passwords are taken as they are, everything else is trimmed
+        private String value(List<String> record, String column) {
+            Integer position = positions.get(column);
+            if (position == null || position >= record.size() || record.get(position).isBlank()) {
+                return null;
+            }
+            String value = record.get(position);
+            return column.equals("password") ? value : value.trim();
+        }
+
+        private static Role importableRole(String role) {
+            try {
+                Role parsed = Role.valueOf(role.toUpperCase(Locale.ROOT));
+                return IMPORTABLE_ROLES.contains(parsed) ? parsed : null;
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+
+        private static String normalize(String name) {
+            return name.replace("_", "").replace(" ", "").toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -5,14 +5,18 @@ import com.volunteerconnect.backend.dto.JwtResponseDTO;
 import com.volunteerconnect.backend.dto.RegisterRequest;
 import com.volunteerconnect.backend.dto.UserProfileResponse;
 import com.volunteerconnect.backend.dto.UserProfileUpdateRequest;
+import com.volunteerconnect.backend.exception.DuplicateResourceException;
 import com.volunteerconnect.backend.exception.ResourceNotFoundException;
 import com.volunteerconnect.backend.model.Role; // <-- Import Role enum
 import com.volunteerconnect.backend.model.User;
 import com.volunteerconnect.backend.repository.UserRepository;
 import com.volunteerconnect.backend.security.JwtService;
 import com.volunteerconnect.backend.service.UserService;
+import com.volunteerconnect.backend.service.availability.AvailabilityService;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -24,34 +28,30 @@ import java.time.LocalDateTime;
 
 @Service
 @Slf4j
+@Timed("app.service")
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final AvailabilityService availabilityService;
 
     public UserServiceImpl(UserRepository userRepository,
                            PasswordEncoder passwordEncoder,
                            JwtService jwtService,
-                           AuthenticationManager authenticationManager) {
+                           AuthenticationManager authenticationManager,
+                           AvailabilityService availabilityService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtService = jwtService;
         this.authenticationManager = authenticationManager;
+        this.availabilityService = availabilityService;
     }
 
     @Override
     @Transactional
     public String registerUser(RegisterRequest registerRequest) {
-        // Check if username or email already exists to prevent duplicates
-        if (userRepository.findByUsername(registerRequest.getUsername()).isPresent()) {
-            throw new IllegalArgumentException("Username already exists!");
-        }
-        if (userRepository.findByEmail(registerRequest.getEmail()).isPresent()) {
-            throw new IllegalArgumentException("Email already exists!");
-        }
-
         User newUser = User.builder()
                 .username(registerRequest.getUsername())
                 .password(passwordEncoder.encode(registerRequest.getPassword()))
@@ -64,7 +64,13 @@ public class UserServiceImpl implements UserService {
                 .createdDate(LocalDateTime.now())
                 .updatedDate(LocalDateTime.now())
                 .build();
-        userRepository.save(newUser);
+        // Duplicate usernames/emails are rejected by the unique constraints, not by a lookup beforehand
+        try {
+            userRepository.save(newUser);
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueUserConstraints.translate(e);
+        }
+        availabilityService.record(newUser.getUsername(), newUser.getEmail());
         log.info("User registered successfully: {}", newUser.getUsername());
         return "User Registered Successfully";
     }
@@ -126,10 +132,11 @@ public class UserServiceImpl implements UserService {
         // This check ensures unique emails across users
         if (userRepository.findByEmail(request.getEmail()).isPresent() &&
                 !user.getEmail().equals(request.getEmail())) {
-            throw new IllegalArgumentException("Email already exists for another user!");
+            throw new DuplicateResourceException("Email already exists for another user!");
         }
 
         User updatedUser = userRepository.save(user); // Save the updated user
+        availabilityService.record(null, updatedUser.getEmail()); // Keep the email filter in sync
 
         return UserProfileResponse.builder()
                 .id(updatedUser.getId())
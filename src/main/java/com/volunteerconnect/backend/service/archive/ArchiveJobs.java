@@ -0,0 +1,79 @@
+package com.volunteerconnect.backend.service.archive;
+
+import com.volunteerconnect.backend.dto.archive.ArchiveRunResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Scheduled archival (see ArchiveService). Set app.archive.cron to "-" to turn it off.
+ * <p>
+ * A run can take up to app.archive.max-run-time, so it runs on a thread of its own and the scheduler's threads stay
+ * free for the short, frequent jobs (event stream flush, outbox poll). Manual runs (POST /api/archive/run) go through
+ * {@link #start()} as well, so there is never more than one run at a time: a run that is due or requested while
+ * another one is still going is skipped.
+ */
+@Component
+@Slf4j
+public class ArchiveJobs {
+
+    private final ArchiveService archiveService;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("archive").daemon().factory());
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public ArchiveJobs(ArchiveService archiveService) {
+        this.archiveService = archiveService;
+    }
+
+    @Scheduled(cron = "${app.archive.cron:0 0 4 * * *}")
+    public void archive() {
+        if (!start()) {
+            log.warn("Skipping the scheduled archive run: the previous one is still running");
+        }
+    }
+
+    /**
+     * Starts a run on the archive thread and returns at once.
+     * @return false, without starting anything, if a run is already in progress.
+     */
+    public boolean start() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            executor.execute(this::run);
+        } catch (RejectedExecutionException e) { // Shutting down
+            running.set(false);
+            return false;
+        }
+        return true;
+    }
+
+    private void run() {
+        try {
+            ArchiveRunResponse run = archiveService.archive();
+            if (run.getEvents() > 0 || run.getCancelledRegistrations() > 0) {
+                log.info("Archived {} events with {} registrations and {} cancelled registrations in {} ms{}",
+                        run.getEvents(), run.getRegistrations(), run.getCancelledRegistrations(), run.getDurationMs(),
+                        run.isComplete() ? "" : "; stopped at app.archive.max-run-time, the next run continues");
+            }
+        } catch (RuntimeException e) {
+            log.error("Archive run failed; chunks moved before the failure stay moved", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // An interrupted run rolls back only its current chunk
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
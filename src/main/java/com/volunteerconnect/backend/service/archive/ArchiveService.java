@@ -0,0 +1,20 @@
+package com.volunteerconnect.backend.service.archive;
+
+import com.volunteerconnect.backend.dto.PageResponse;
+import com.volunteerconnect.backend.dto.archive.ArchiveRunResponse;
+import com.volunteerconnect.backend.dto.archive.ArchivedEventResponse;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Moves events past app.archive.event-horizon, with their registrations, and cancelled registrations older than
+ * app.archive.cancelled-registration-horizon into the archive tables, and reads them back.
+ */
+public interface ArchiveService {
+    // Moves rows in chunks of app.archive.chunk-size, one transaction per chunk, until nothing is left or
+    // app.archive.max-run-time has passed. Safe to interrupt at any point: the next run picks up where it stopped.
+    // Blocks the caller for the whole run; ArchiveJobs runs it in the background, one run at a time.
+    ArchiveRunResponse archive();
+
+    ArchivedEventResponse getArchivedEvent(Long id);
+    PageResponse<ArchivedEventResponse> getArchivedEvents(Long organizationId, Pageable pageable);
+}
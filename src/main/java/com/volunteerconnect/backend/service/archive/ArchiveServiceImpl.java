@@ -0,0 +1,192 @@
+package com.volunteerconnect.backend.service.archive;
+
+import com.volunteerconnect.backend.dto.PageResponse;
+import com.volunteerconnect.backend.dto.archive.ArchiveRunResponse;
+import com.volunteerconnect.backend.dto.archive.ArchivedEventResponse;
+import com.volunteerconnect.backend.exception.BusinessRuleException;
+import com.volunteerconnect.backend.exception.ResourceNotFoundException;
+import com.volunteerconnect.backend.model.RegistrationStatus;
+import com.volunteerconnect.backend.model.archive.ArchivedEvent;
+import com.volunteerconnect.backend.repository.EventRegistrationRepository;
+import com.volunteerconnect.backend.repository.EventRepository;
+import com.volunteerconnect.backend.repository.archive.ArchivedEventRegistrationRepository;
+import com.volunteerconnect.backend.repository.archive.ArchivedEventRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Archival is a move: each chunk copies rows into the archive tables and deletes them from the live ones in a single
+ * transaction, so a row is always in exactly one place. Chunks are selected oldest first and locked (PESSIMISTIC_WRITE),
+ * and a run stops between chunks, so an interrupted run leaves nothing half-moved. An overlapping run blocks on the
+ * rows locked by the other one until that chunk commits, then skips the rows that were moved meanwhile; its chunk may
+ * come back short, which ends the run early, and the next run picks up the rest.
+ * <p>
+ * Organization stats are not touched: they count archived events and registrations too (see
+ * OrganizationStatsRepository.recompute).
+ */
+@Service
+@Timed("app.service")
+@Slf4j
+public class ArchiveServiceImpl implements ArchiveService {
+
+    private static final List<String> SORTABLE_PROPERTIES = List.of("eventDate", "title", "id");
+
+    private final EventRepository eventRepository;
+    private final EventRegistrationRepository eventRegistrationRepository;
+    private final ArchivedEventRepository archivedEventRepository;
+    private final ArchivedEventRegistrationRepository archivedRegistrationRepository;
+    private final TransactionOperations transactionOperations;
+    private final Clock clock;
+    private final Duration eventHorizon;
+    private final Duration cancelledRegistrationHorizon;
+    private final int chunkSize;
+    private final Duration maxRunTime;
+
+    public ArchiveServiceImpl(EventRepository eventRepository,
+                              EventRegistrationRepository eventRegistrationRepository,
+                              ArchivedEventRepository archivedEventRepository,
+                              ArchivedEventRegistrationRepository archivedRegistrationRepository,
+                              TransactionOperations transactionOperations,
+                              Clock clock,
+                              @Value("${app.archive.event-horizon:365d}") Duration eventHorizon,
+                              @Value("${app.archive.cancelled-registration-horizon:90d}") Duration cancelledRegistrationHorizon,
+                              @Value("${app.archive.chunk-size:500}") int chunkSize,
+                              @Value("${app.archive.max-run-time:10m}") Duration maxRunTime) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("app.archive.chunk-size must be at least 1");
+        }
+        this.eventRepository = eventRepository;
+        this.eventRegistrationRepository = eventRegistrationRepository;
+        this.archivedEventRepository = archivedEventRepository;
+        this.archivedRegistrationRepository = archivedRegistrationRepository;
+        this.transactionOperations = transactionOperations;
+        this.clock = clock;
+        this.eventHorizon = eventHorizon;
+        this.cancelledRegistrationHorizon = cancelledRegistrationHorizon;
+        this.chunkSize = chunkSize;
+        this.maxRunTime = maxRunTime;
+    }
+
+    @Override
+    public ArchiveRunResponse archive() {
+        long start = System.nanoTime();
+        long deadline = start + maxRunTime.toNanos();
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime eventCutoff = now.minus(eventHorizon);
+        LocalDateTime cancelledCutoff = now.minus(cancelledRegistrationHorizon);
+
+        int events = 0;
+        int registrations = 0;
+        boolean eventsDone = false;
+        while (!eventsDone && System.nanoTime() < deadline) {
+            int[] moved = transactionOperations.execute(status -> moveEventChunk(eventCutoff, now));
+            events += moved[0];
+            registrations += moved[1];
+            eventsDone = moved[0] < chunkSize;
+        }
+
+        int cancelled = 0;
+        boolean cancelledDone = false;
+        while (!cancelledDone && System.nanoTime() < deadline) {
+            int moved = transactionOperations.execute(status -> moveCancelledChunk(cancelledCutoff, now));
+            cancelled += moved;
+            cancelledDone = moved < chunkSize;
+        }
+
+        return ArchiveRunResponse.builder()
+                .events(events)
+                .registrations(registrations)
+                .cancelledRegistrations(cancelled)
+                .complete(eventsDone && cancelledDone)
+                .durationMs((System.nanoTime() - start) / 1_000_000)
+                .build();
+    }
+
+    // Returns {events, registrations} moved
+    private int[] moveEventChunk(LocalDateTime cutoff, LocalDateTime now) {
+        List<Long> eventIds = eventRepository.lockIdsOfEventsBefore(cutoff, Limit.of(chunkSize));
+        if (eventIds.isEmpty()) {
+            return new int[]{0, 0};
+        }
+        int registrations = archivedRegistrationRepository.copyFromRegistrationsOfEvents(eventIds, now);
+        archivedEventRepository.copyFromEvents(eventIds, now);
+        eventRegistrationRepository.deleteByEventIds(eventIds);
+        eventRepository.deleteAllByIdInBatch(eventIds);
+        return new int[]{eventIds.size(), registrations};
+    }
+
+    private int moveCancelledChunk(LocalDateTime cutoff, LocalDateTime now) {
+        List<Long> registrationIds = eventRegistrationRepository.lockIdsByStatusBefore(RegistrationStatus.CANCELLED, cutoff,
+                Limit.of(chunkSize));
+        if (registrationIds.isEmpty()) {
+            return 0;
+        }
+        archivedRegistrationRepository.copyFromRegistrations(registrationIds, now);
+        eventRegistrationRepository.deleteAllByIdInBatch(registrationIds);
+        return registrationIds.size();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ArchivedEventResponse getArchivedEvent(Long id) {
+        ArchivedEvent event = archivedEventRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Archived event not found with id: " + id));
+        Map<RegistrationStatus, Long> registrationsByStatus = new EnumMap<>(RegistrationStatus.class);
+        for (RegistrationStatus status : RegistrationStatus.values()) {
+            registrationsByStatus.put(status, 0L);
+        }
+        for (EventRegistrationRepository.StatusCount count : archivedRegistrationRepository.countByStatusForEvent(id)) {
+            if (count.getStatus() != null) {
+                registrationsByStatus.put(count.getStatus(), count.getRegistrations());
+            }
+        }
+        ArchivedEventResponse response = convertToDto(event);
+        response.setRegistrationsByStatus(registrationsByStatus);
+        return response;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<ArchivedEventResponse> getArchivedEvents(Long organizationId, Pageable pageable) {
+        for (Sort.Order order : pageable.getSort()) {
+            if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                throw new BusinessRuleException("Archived events can only be sorted by " + String.join(", ", SORTABLE_PROPERTIES) + ".");
+            }
+        }
+        if (pageable.getSort().getOrderFor("id") == null) {
+            pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().and(Sort.by("id")));
+        }
+        return PageResponse.from(archivedEventRepository.findByOrganizationId(organizationId, pageable).map(this::convertToDto));
+    }
+
+    private ArchivedEventResponse convertToDto(ArchivedEvent event) {
+        return ArchivedEventResponse.builder()
+                .id(event.getId())
+                .title(event.getTitle())
+                .description(event.getDescription())
+                .eventDate(event.getEventDate())
+                .location(event.getLocation())
+                .capacity(event.getCapacity())
+                .active(event.isActive())
+                .requiredSkills(event.getRequiredSkills())
+                .organizationId(event.getOrganizationId())
+                .organizerId(event.getOrganizerId())
+                .archivedAt(event.getArchivedAt())
+                .build();
+    }
+}
@@ -0,0 +1,83 @@
+package com.volunteerconnect.backend.service.availability;
+
+import com.volunteerconnect.backend.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Answers "is this username/email still free?" for the signup form.
+ *
+ * Usernames and emails are kept in Bloom filters that are filled once at startup by streaming the users table
+ * and then fed by every registration. A filter miss means the value is definitely unused, so the common case
+ * ("available") is answered from memory; only possible hits are confirmed against the database.
+ * Until the initial load has finished every check goes to the database.
+ */
+@Service
+@Slf4j
+@Timed("app.service")
+public class AvailabilityService {
+
+    private final UserRepository userRepository;
+    private final BloomFilter usernames;
+    private final BloomFilter emails;
+    private volatile boolean ready;
+
+    public AvailabilityService(UserRepository userRepository,
+                               @Value("${app.availability.expected-users:1000000}") long expectedUsers,
+                               @Value("${app.availability.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.usernames = BloomFilter.create(expectedUsers, falsePositiveRate);
+        this.emails = BloomFilter.create(expectedUsers, falsePositiveRate);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true) // Required for the streamed query to use a server-side cursor
+    public void loadExistingUsers() {
+        long start = System.nanoTime();
+        AtomicLong count = new AtomicLong();
+        try (Stream<UserRepository.UserIdentity> identities = userRepository.streamAllIdentities()) {
+            identities.forEach(identity -> {
+                record(identity.getUsername(), identity.getEmail());
+                count.incrementAndGet();
+            });
+        }
+        ready = true;
+        log.info("Loaded {} users into availability filters in {} ms", count.get(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Records a newly registered (or changed) username and email.
+     * Called right after the insert; if the transaction later rolls back the value only becomes a false positive,
+     * which is still confirmed against the database.
+     */
+    public void record(String username, String email) {
+        if (username != null) {
+            usernames.put(username);
+        }
+        if (email != null) {
+            emails.put(email);
+        }
+    }
+
+    public boolean isUsernameAvailable(String username) {
+        if (ready && !usernames.mightContain(username)) {
+            return true; // Definitely never registered
+        }
+        return !userRepository.existsByUsername(username);
+    }
+
+    public boolean isEmailAvailable(String email) {
+        if (ready && !emails.mightContain(email)) {
+            return true;
+        }
+        return !userRepository.existsByEmail(email);
+    }
+}
@@ -0,0 +1,33 @@
+package com.volunteerconnect.backend.service.notification;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Stand-in sender: appends each message to a local file (app.notifications.file), like a mailbox
+@Component
+@ConditionalOnProperty(name = "app.notifications.sender", havingValue = "file")
+public class FileNotificationSender implements NotificationSender {
+
+    private final Path file;
+
+    public FileNotificationSender(@Value("${app.notifications.file:logs/notifications.txt}") Path file) throws IOException {
+        this.file = file;
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+    }
+
+    @Override
+    public synchronized void send(NotificationMessage message) throws IOException {
+        String entry = "To: " + message.recipientEmail() + "\nSubject: " + message.subject() + "\nX-Notification-Id: "
+                + message.id() + "\n\n" + message.body() + "\n\n";
+        Files.writeString(file, entry, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+}
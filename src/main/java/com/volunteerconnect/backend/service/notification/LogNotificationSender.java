@@ -0,0 +1,17 @@
+package com.volunteerconnect.backend.service.notification;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// Stand-in sender: writes each message to the application log
+@Component
+@ConditionalOnProperty(name = "app.notifications.sender", havingValue = "log", matchIfMissing = true)
+@Slf4j
+public class LogNotificationSender implements NotificationSender {
+
+    @Override
+    public void send(NotificationMessage message) {
+        log.info("Notification {} to {}: {}\n{}", message.id(), message.recipientEmail(), message.subject(), message.body());
+    }
+}
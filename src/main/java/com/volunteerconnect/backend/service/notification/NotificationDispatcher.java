@@ -0,0 +1,176 @@
+package com.volunteerconnect.backend.service.notification;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.volunteerconnect.backend.model.notification.OutboxNotification;
+import com.volunteerconnect.backend.model.notification.OutboxStatus;
+import com.volunteerconnect.backend.repository.notification.OutboxNotificationRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sends the outbox, a batch at a time. Each batch is claimed in a short transaction: the due rows are locked with
+ * SKIP LOCKED and their next attempt is pushed app.notifications.claim-timeout ahead, so other dispatchers (other
+ * instances, or an overlapping run) neither wait for nor take them. The messages are then rendered and sent with no
+ * transaction or lock held, and the outcome of the whole batch is recorded in a second transaction. A dispatcher
+ * that dies in between leaves its rows to become due again once the claim times out.
+ * <p>
+ * A failed send is retried after app.notifications.retry-backoff, doubling per attempt up to
+ * app.notifications.max-backoff, and given up (FAILED) after app.notifications.max-attempts. Every claim counts as an
+ * attempt, so a row whose dispatcher keeps dying after claiming it is given up too, at the start of the next run.
+ */
+@Service
+@Timed("app.service")
+@Slf4j
+public class NotificationDispatcher {
+
+    private static final TypeReference<Map<String, String>> PARAMS = new TypeReference<>() {
+    };
+
+    private final OutboxNotificationRepository outboxRepository;
+    private final NotificationTemplates templates;
+    private final NotificationSender sender;
+    private final ObjectMapper objectMapper;
+    private final TransactionOperations transactionOperations;
+    private final Clock clock;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration maxBackoff;
+    private final Duration claimTimeout;
+    private final Duration maxRunTime;
+    private final Duration retention;
+
+    public NotificationDispatcher(OutboxNotificationRepository outboxRepository,
+                                  NotificationTemplates templates,
+                                  NotificationSender sender,
+                                  ObjectMapper objectMapper,
+                                  TransactionOperations transactionOperations,
+                                  Clock clock,
+                                  @Value("${app.notifications.batch-size:100}") int batchSize,
+                                  @Value("${app.notifications.max-attempts:8}") int maxAttempts,
+                                  @Value("${app.notifications.retry-backoff:30s}") Duration retryBackoff,
+                                  @Value("${app.notifications.max-backoff:1h}") Duration maxBackoff,
+                                  @Value("${app.notifications.claim-timeout:5m}") Duration claimTimeout,
+                                  @Value("${app.notifications.max-run-time:1m}") Duration maxRunTime,
+                                  @Value("${app.notifications.retention:7d}") Duration retention) {
+        if (batchSize < 1 || maxAttempts < 1) {
+            throw new IllegalArgumentException("app.notifications.batch-size and max-attempts must be at least 1");
+        }
+        this.outboxRepository = outboxRepository;
+        this.templates = templates;
+        this.sender = sender;
+        this.objectMapper = objectMapper;
+        this.transactionOperations = transactionOperations;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.maxBackoff = maxBackoff;
+        this.claimTimeout = claimTimeout;
+        this.maxRunTime = maxRunTime;
+        this.retention = retention;
+    }
+
+    // Sends batches until one comes back short or app.notifications.max-run-time has passed; returns the number sent
+    public int dispatch() {
+        long deadline = System.nanoTime() + maxRunTime.toNanos();
+        int exhausted = transactionOperations.execute(status -> outboxRepository.failExhausted(maxAttempts,
+                LocalDateTime.now(clock), "Claimed " + maxAttempts + " times without the outcome being recorded"));
+        if (exhausted > 0) {
+            log.error("Gave up on {} notifications claimed {} times by dispatchers that stopped before recording the outcome",
+                    exhausted, maxAttempts);
+        }
+        int sent = 0;
+        while (System.nanoTime() < deadline) {
+            List<OutboxNotification> batch = transactionOperations.execute(status -> claimBatch());
+            if (batch.isEmpty()) {
+                break;
+            }
+            sent += deliver(batch);
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        return sent;
+    }
+
+    // Sent notifications older than app.notifications.retention; FAILED rows stay for inspection
+    public int purgeSent() {
+        return transactionOperations.execute(status -> outboxRepository.deleteSentBefore(LocalDateTime.now(clock).minus(retention)));
+    }
+
+    private List<OutboxNotification> claimBatch() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<OutboxNotification> batch = outboxRepository.lockDue(OutboxStatus.PENDING, now, maxAttempts, Limit.of(batchSize));
+        if (!batch.isEmpty()) {
+            outboxRepository.claim(batch.stream().map(OutboxNotification::getId).toList(), now.plus(claimTimeout));
+        }
+        return batch;
+    }
+
+    private int deliver(List<OutboxNotification> batch) {
+        List<Long> sentIds = new ArrayList<>(batch.size());
+        Map<OutboxNotification, Exception> failures = new LinkedHashMap<>();
+        for (OutboxNotification notification : batch) {
+            try {
+                sender.send(render(notification));
+                sentIds.add(notification.getId());
+            } catch (Exception e) {
+                failures.put(notification, e);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        transactionOperations.executeWithoutResult(status -> {
+            if (!sentIds.isEmpty()) {
+                outboxRepository.markSent(sentIds, now);
+            }
+            failures.forEach((notification, e) -> {
+                int attempts = notification.getAttempts() + 1; // Including the claim above
+                boolean giveUp = attempts >= maxAttempts;
+                outboxRepository.markFailed(notification.getId(), giveUp ? OutboxStatus.FAILED : OutboxStatus.PENDING,
+                        giveUp ? now : now.plus(backoff(attempts)), abbreviate(String.valueOf(e)));
+                if (giveUp) {
+                    log.error("Gave up on notification {} to {} after {} attempts", notification.getId(),
+                            notification.getRecipientEmail(), attempts, e);
+                } else {
+                    log.warn("Notification {} failed (attempt {}), retrying in {}: {}", notification.getId(), attempts,
+                            backoff(attempts), e.toString());
+                }
+            });
+        });
+        return sentIds.size();
+    }
+
+    private NotificationMessage render(OutboxNotification notification) throws Exception {
+        Map<String, String> values = new HashMap<>(objectMapper.readValue(notification.getParams(), PARAMS));
+        values.put("recipientName", notification.getRecipientName());
+        NotificationTemplates.Template template = templates.get(notification.getType());
+        return new NotificationMessage(notification.getId(), notification.getRecipientEmail(),
+                template.renderSubject(values), template.renderBody(values));
+    }
+
+    // retry-backoff, doubled for every attempt after the first, capped at max-backoff
+    Duration backoff(int attempts) {
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 30));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private static String abbreviate(String error) {
+        return error.length() <= 500 ? error : error.substring(0, 497) + "...";
+    }
+}
@@ -0,0 +1,37 @@
+package com.volunteerconnect.backend.service.notification;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the outbox dispatcher. Several instances can run it at once: each claims its own batches. Set purge-cron to
+ * "-" to keep sent notifications.
+ */
+@Component
+@Slf4j
+public class NotificationJobs {
+
+    private final NotificationDispatcher dispatcher;
+
+    public NotificationJobs(NotificationDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.poll-interval:5s}")
+    public void dispatch() {
+        long start = System.nanoTime();
+        int sent = dispatcher.dispatch();
+        if (sent > 0) {
+            log.info("Sent {} notifications in {} ms", sent, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    @Scheduled(cron = "${app.notifications.purge-cron:0 15 4 * * *}")
+    public void purge() {
+        int purged = dispatcher.purgeSent();
+        if (purged > 0) {
+            log.info("Purged {} sent notifications", purged);
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package com.volunteerconnect.backend.service.notification;
+
+// A rendered notification, ready for a NotificationSender; id is the outbox row's, usable as an idempotency key
+public record NotificationMessage(Long id, String recipientEmail, String subject, String body) {
+}
@@ -0,0 +1,94 @@
+package com.volunteerconnect.backend.service.notification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.volunteerconnect.backend.model.Event;
+import com.volunteerconnect.backend.model.EventRegistration;
+import com.volunteerconnect.backend.model.RegistrationStatus;
+import com.volunteerconnect.backend.model.User;
+import com.volunteerconnect.backend.model.notification.NotificationType;
+import com.volunteerconnect.backend.model.notification.OutboxNotification;
+import com.volunteerconnect.backend.model.notification.OutboxStatus;
+import com.volunteerconnect.backend.repository.notification.OutboxNotificationRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Queues notifications for NotificationDispatcher. The write paths call these hooks inside their own transaction, so
+ * the outbox rows commit or roll back with the change; nothing is sent while the request waits.
+ */
+@Service
+@Timed("app.service")
+public class NotificationOutbox {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("EEEE d MMMM yyyy, HH:mm", Locale.ENGLISH);
+    private static final List<String> NOTIFIED_STATUSES = List.of(RegistrationStatus.PENDING.name(), RegistrationStatus.CONFIRMED.name());
+
+    private final OutboxNotificationRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    public NotificationOutbox(OutboxNotificationRepository outboxRepository, ObjectMapper objectMapper, Clock clock) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    // Every volunteer with a pending or confirmed registration, if the date, time or location changed; returns the
+    // number of notifications queued
+    public int eventChanged(Event event, LocalDateTime previousEventDate, String previousLocation) {
+        if (Objects.equals(event.getEventDate(), previousEventDate) && Objects.equals(event.getLocation(), previousLocation)) {
+            return 0;
+        }
+        Map<String, String> params = eventParams(event);
+        params.put("previousEventDate", format(previousEventDate));
+        params.put("previousLocation", previousLocation);
+        return outboxRepository.insertForRegistrants(NotificationType.EVENT_CHANGED.name(), event.getId(),
+                NOTIFIED_STATUSES, toJson(params), LocalDateTime.now(clock));
+    }
+
+    public void registrationConfirmed(EventRegistration registration) {
+        User volunteer = registration.getVolunteer();
+        LocalDateTime now = LocalDateTime.now(clock);
+        outboxRepository.save(OutboxNotification.builder()
+                .type(NotificationType.REGISTRATION_CONFIRMED)
+                .recipientId(volunteer.getId())
+                .recipientEmail(volunteer.getEmail())
+                .recipientName(volunteer.getFirstName() != null ? volunteer.getFirstName() : volunteer.getUsername())
+                .eventId(registration.getEvent().getId())
+                .params(toJson(eventParams(registration.getEvent())))
+                .status(OutboxStatus.PENDING)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build());
+    }
+
+    private static Map<String, String> eventParams(Event event) {
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("title", event.getTitle());
+        params.put("eventDate", format(event.getEventDate()));
+        params.put("location", event.getLocation());
+        return params;
+    }
+
+    private static String format(LocalDateTime dateTime) {
+        return dateTime == null ? "" : DATE_FORMAT.format(dateTime);
+    }
+
+    private String toJson(Map<String, String> params) {
+        try {
+            return objectMapper.writeValueAsString(params);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize notification parameters", e);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.volunteerconnect.backend.service.notification;
+
+/**
+ * Delivers rendered notifications (email, push, ...). Exactly one sender bean is active, chosen with
+ * app.notifications.sender; LogNotificationSender and FileNotificationSender are local stand-ins.
+ * <p>
+ * Called outside any transaction. Throwing marks the message for a retry with backoff. Delivery is at least once:
+ * a dispatcher that dies after sending but before recording it sends the message again, so real senders should pass
+ * the message id on as an idempotency key where the provider supports one.
+ */
+public interface NotificationSender {
+    void send(NotificationMessage message) throws Exception;
+}
@@ -0,0 +1,78 @@
+package com.volunteerconnect.backend.service.notification;
+
+import com.volunteerconnect.backend.model.notification.NotificationType;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Message templates, read from classpath:notifications/<TYPE>.txt: the subject on the first line, the body after the
+ * following blank line, and {{name}} placeholders in both. Each template is read and split into literal and
+ * placeholder parts once, on first use; rendering then only concatenates.
+ */
+@Component
+public class NotificationTemplates {
+
+    private final Map<NotificationType, Template> templates = new EnumMap<>(NotificationType.class);
+
+    public synchronized Template get(NotificationType type) {
+        return templates.computeIfAbsent(type, NotificationTemplates::load);
+    }
+
+    private static Template load(NotificationType type) {
+        String text;
+        try {
+            text = new ClassPathResource("notifications/" + type.name() + ".txt").getContentAsString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No notification template for " + type, e);
+        }
+        int subjectEnd = text.indexOf('\n');
+        String subject = subjectEnd < 0 ? text : text.substring(0, subjectEnd);
+        String body = subjectEnd < 0 ? "" : text.substring(subjectEnd + 1).strip();
+        return new Template(compile(subject.strip()), compile(body));
+    }
+
+    // Even indexes are literal text, odd indexes placeholder names
+    private static List<String> compile(String text) {
+        List<String> parts = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int open = text.indexOf("{{", position);
+            int close = open < 0 ? -1 : text.indexOf("}}", open + 2);
+            if (close < 0) {
+                parts.add(text.substring(position));
+                return List.copyOf(parts);
+            }
+            parts.add(text.substring(position, open));
+            parts.add(text.substring(open + 2, close).strip());
+            position = close + 2;
+        }
+    }
+
+    public record Template(List<String> subject, List<String> body) {
+
+        public String renderSubject(Map<String, String> values) {
+            return render(subject, values);
+        }
+
+        public String renderBody(Map<String, String> values) {
+            return render(body, values);
+        }
+
+        // A missing value renders as an empty string
+        private static String render(List<String> parts, Map<String, String> values) {
+            StringBuilder out = new StringBuilder();
+            for (int i = 0; i < parts.size(); i++) {
+                out.append(i % 2 == 0 ? parts.get(i) : values.getOrDefault(parts.get(i), ""));
+            }
+            return out.toString();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.volunteerconnect.backend.service.organization;
+
+import com.volunteerconnect.backend.dto.PageResponse;
+import com.volunteerconnect.backend.dto.organization.OrganizationRequest;
+import com.volunteerconnect.backend.dto.organization.OrganizationResponse;
+import org.springframework.data.domain.Pageable;
+
+public interface OrganizationService {
+    PageResponse<OrganizationResponse> getOrganizations(Pageable pageable);
+    OrganizationResponse getOrganizationById(Long id);
+    OrganizationResponse createOrganization(OrganizationRequest organizationRequest);
+    OrganizationResponse updateOrganization(Long id, OrganizationRequest organizationRequest);
+    void deleteOrganization(Long id);
+}
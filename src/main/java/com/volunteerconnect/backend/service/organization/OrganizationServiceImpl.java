@@ -0,0 +1,130 @@
+package com.volunteerconnect.backend.service.organization;
+
+import com.volunteerconnect.backend.config.CacheConfig;
+import com.volunteerconnect.backend.dto.PageResponse;
+import com.volunteerconnect.backend.dto.organization.OrganizationRequest;
+import com.volunteerconnect.backend.dto.organization.OrganizationResponse;
+import com.volunteerconnect.backend.exception.BusinessRuleException;
+import com.volunteerconnect.backend.exception.DuplicateResourceException;
+import com.volunteerconnect.backend.exception.ResourceNotFoundException;
+import com.volunteerconnect.backend.model.organization.Organization;
+import com.volunteerconnect.backend.repository.organization.OrganizationRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Organization directory. Listing pages are cached (keyed by page number, size and sort) because the directory
+ * rarely changes and backs the organization picker of the event forms; any create, update or delete clears all cached pages,
+ * since one change can shift every page after it.
+ */
+@Service
+@Timed("app.service")
+public class OrganizationServiceImpl implements OrganizationService {
+
+    // Bounds the number of distinct cache keys and keeps sorting on indexed or small columns
+    private static final List<String> SORTABLE_PROPERTIES = List.of("id", "name", "active");
+
+    private final OrganizationRepository organizationRepository;
+    private final OrganizationStatsService organizationStatsService;
+
+    public OrganizationServiceImpl(OrganizationRepository organizationRepository,
+                                   OrganizationStatsService organizationStatsService) {
+        this.organizationRepository = organizationRepository;
+        this.organizationStatsService = organizationStatsService;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(CacheConfig.ORGANIZATION_PAGES)
+    public PageResponse<OrganizationResponse> getOrganizations(Pageable pageable) {
+        for (Sort.Order order : pageable.getSort()) {
+            if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                throw new BusinessRuleException("Organizations can only be sorted by " + String.join(", ", SORTABLE_PROPERTIES) + ".");
+            }
+        }
+        return PageResponse.from(organizationRepository.findAll(pageable).map(this::convertToDto));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public OrganizationResponse getOrganizationById(Long id) {
+        return organizationRepository.findById(id)
+                .map(this::convertToDto)
+                .orElseThrow(() -> new ResourceNotFoundException("Organization not found with id: " + id));
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ORGANIZATION_PAGES, allEntries = true)
+    public OrganizationResponse createOrganization(OrganizationRequest organizationRequest) {
+        if (organizationRepository.findByName(organizationRequest.getName()).isPresent()) {
+            throw new DuplicateResourceException("Organization with this name already exists.");
+        }
+
+        Organization organization = Organization.builder()
+                .name(organizationRequest.getName())
+                .description(organizationRequest.getDescription())
+                .address(organizationRequest.getAddress())
+                .contactEmail(organizationRequest.getContactEmail())
+                .phoneNumber(organizationRequest.getPhoneNumber())
+                .websiteUrl(organizationRequest.getWebsiteUrl())
+                .active(organizationRequest.isActive())
+                .build();
+        Organization savedOrganization = organizationRepository.save(organization);
+        organizationStatsService.organizationCreated(savedOrganization.getId());
+        return convertToDto(savedOrganization);
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ORGANIZATION_PAGES, allEntries = true)
+    public OrganizationResponse updateOrganization(Long id, OrganizationRequest organizationRequest) {
+        Organization organization = organizationRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Organization not found with id: " + id));
+
+        organizationRepository.findByName(organizationRequest.getName())
+                .filter(other -> !other.getId().equals(id))
+                .ifPresent(other -> {
+                    throw new DuplicateResourceException("Organization with this name already exists.");
+                });
+
+        organization.setName(organizationRequest.getName());
+        organization.setDescription(organizationRequest.getDescription());
+        organization.setAddress(organizationRequest.getAddress());
+        organization.setContactEmail(organizationRequest.getContactEmail());
+        organization.setPhoneNumber(organizationRequest.getPhoneNumber());
+        organization.setWebsiteUrl(organizationRequest.getWebsiteUrl());
+        organization.setActive(organizationRequest.isActive());
+        return convertToDto(organizationRepository.save(organization));
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ORGANIZATION_PAGES, allEntries = true)
+    public void deleteOrganization(Long id) {
+        if (!organizationRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Organization not found with id: " + id);
+        }
+        organizationRepository.deleteById(id);
+    }
+
+    private OrganizationResponse convertToDto(Organization organization) {
+        return OrganizationResponse.builder()
+                .id(organization.getId())
+                .name(organization.getName())
+                .description(organization.getDescription())
+                .address(organization.getAddress())
+                .contactEmail(organization.getContactEmail())
+                .phoneNumber(organization.getPhoneNumber())
+                .websiteUrl(organization.getWebsiteUrl())
+                .active(organization.isActive())
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.volunteerconnect.backend.service.organization;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background upkeep of the organization stats. Both jobs are idempotent, so running them on several instances at the
+ * same time is harmless. Set a property to "-" to turn its job off.
+ */
+@Component
+@Slf4j
+public class OrganizationStatsJobs {
+
+    private final OrganizationStatsService organizationStatsService;
+
+    public OrganizationStatsJobs(OrganizationStatsService organizationStatsService) {
+        this.organizationStatsService = organizationStatsService;
+    }
+
+    // Recovery: recomputes every organization's totals from the events and registrations
+    @Scheduled(cron = "${app.organization-stats.rebuild-cron:0 30 3 * * *}")
+    public void rebuild() {
+        long start = System.nanoTime();
+        int organizations = organizationStatsService.rebuild();
+        log.info("Rebuilt the stats of {} organizations in {} ms", organizations, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Scheduled(cron = "${app.organization-stats.upcoming-refresh-cron:0 * * * * *}")
+    public void refreshUpcoming() {
+        int changed = organizationStatsService.refreshUpcoming();
+        if (changed > 0) {
+            log.debug("Refreshed the upcoming event counts of {} organizations", changed);
+        }
+    }
+}
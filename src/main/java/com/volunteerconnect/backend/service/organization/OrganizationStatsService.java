@@ -0,0 +1,28 @@
+package com.volunteerconnect.backend.service.organization;
+
+import com.volunteerconnect.backend.dto.organization.OrganizationStatsResponse;
+import com.volunteerconnect.backend.model.Event;
+import com.volunteerconnect.backend.model.EventRegistration;
+import com.volunteerconnect.backend.model.RegistrationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Maintains the organization dashboard totals. The write paths call the hooks below inside their own transaction,
+ * so a total changes exactly when the event or registration change commits.
+ */
+public interface OrganizationStatsService {
+    OrganizationStatsResponse getStats(Long organizationId);
+
+    // --- Hooks for the write paths ---
+    void organizationCreated(Long organizationId);
+    void eventCreated(Event event);
+    void eventUpdated(Event event, int previousCapacity, boolean previousActive, LocalDateTime previousEventDate);
+    void eventDeleting(Event event); // Before the delete: the event's registrations are still there to be counted
+    void registrationCreated(EventRegistration registration);
+    void registrationStatusChanged(EventRegistration registration, RegistrationStatus previousStatus);
+
+    // --- Recovery (OrganizationStatsJobs) ---
+    int rebuild();           // Recomputes every organization's totals; returns the number of organizations
+    int refreshUpcoming();   // Moves past events out of the upcoming counts; returns the number of organizations changed
+}
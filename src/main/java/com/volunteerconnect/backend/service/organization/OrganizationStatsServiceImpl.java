@@ -0,0 +1,216 @@
+package com.volunteerconnect.backend.service.organization;
+
+import com.volunteerconnect.backend.dto.organization.OrganizationStatsResponse;
+import com.volunteerconnect.backend.exception.ResourceNotFoundException;
+import com.volunteerconnect.backend.model.Event;
+import com.volunteerconnect.backend.model.EventRegistration;
+import com.volunteerconnect.backend.model.RegistrationStatus;
+import com.volunteerconnect.backend.model.organization.OrganizationStats;
+import com.volunteerconnect.backend.repository.EventRegistrationRepository;
+import com.volunteerconnect.backend.repository.archive.ArchivedEventRegistrationRepository;
+import com.volunteerconnect.backend.repository.organization.OrganizationStatsRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Incrementally maintained organization totals. Every hook turns one change into deltas and applies them with a
+ * single atomic UPDATE of the organization's row; reading the dashboard is then one primary-key lookup.
+ * <p>
+ * Two totals cannot be kept exact by deltas alone: "upcoming" changes as time passes (refreshUpcoming), and two
+ * concurrent first registrations of the same volunteer with one organization can both count as a new unique
+ * volunteer. The rebuild recomputes everything from the events and registrations and corrects such drift.
+ */
+@Service
+@Timed("app.service")
+@Slf4j
+public class OrganizationStatsServiceImpl implements OrganizationStatsService {
+
+    // Registrations that hold a seat: they count towards the fill rate and the unique volunteers
+    private static final Set<RegistrationStatus> ACTIVE_STATUSES = EnumSet.of(RegistrationStatus.PENDING, RegistrationStatus.CONFIRMED);
+
+    private final OrganizationStatsRepository statsRepository;
+    private final EventRegistrationRepository eventRegistrationRepository;
+    private final ArchivedEventRegistrationRepository archivedRegistrationRepository;
+    private final Clock clock;
+
+    public OrganizationStatsServiceImpl(OrganizationStatsRepository statsRepository,
+                                        EventRegistrationRepository eventRegistrationRepository,
+                                        ArchivedEventRegistrationRepository archivedRegistrationRepository,
+                                        Clock clock) {
+        this.statsRepository = statsRepository;
+        this.eventRegistrationRepository = eventRegistrationRepository;
+        this.archivedRegistrationRepository = archivedRegistrationRepository;
+        this.clock = clock;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public OrganizationStatsResponse getStats(Long organizationId) {
+        return statsRepository.findById(organizationId)
+                .map(this::convertToDto)
+                .orElseThrow(() -> new ResourceNotFoundException("Organization not found with id: " + organizationId));
+    }
+
+    @Override
+    @Transactional
+    public void organizationCreated(Long organizationId) {
+        statsRepository.save(OrganizationStats.builder()
+                .organizationId(organizationId)
+                .updatedAt(LocalDateTime.now(clock))
+                .build());
+    }
+
+    @Override
+    @Transactional
+    public void eventCreated(Event event) {
+        adjustEvents(event.getOrganization().getId(), 1, isUpcoming(event.isActive(), event.getEventDate()) ? 1 : 0, event.getCapacity());
+    }
+
+    @Override
+    @Transactional
+    public void eventUpdated(Event event, int previousCapacity, boolean previousActive, LocalDateTime previousEventDate) {
+        int upcoming = (isUpcoming(event.isActive(), event.getEventDate()) ? 1 : 0) - (isUpcoming(previousActive, previousEventDate) ? 1 : 0);
+        int capacity = event.getCapacity() - previousCapacity;
+        if (upcoming != 0 || capacity != 0) {
+            adjustEvents(event.getOrganization().getId(), 0, upcoming, capacity);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void eventDeleting(Event event) {
+        Long organizationId = event.getOrganization().getId();
+        adjustEvents(organizationId, -1, isUpcoming(event.isActive(), event.getEventDate()) ? -1 : 0, -event.getCapacity());
+
+        Map<RegistrationStatus, Long> removed = new EnumMap<>(RegistrationStatus.class);
+        for (EventRegistrationRepository.StatusCount count : eventRegistrationRepository.countByStatusForEvent(event.getId())) {
+            if (count.getStatus() != null) {
+                removed.put(count.getStatus(), -count.getRegistrations());
+            }
+        }
+        long volunteers = -eventRegistrationRepository.countVolunteersOnlyAtEvent(event.getId(), ACTIVE_STATUSES);
+        if (!removed.isEmpty()) {
+            adjustRegistrations(organizationId, removed, volunteers);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void registrationCreated(EventRegistration registration) {
+        RegistrationStatus status = registration.getStatus();
+        long volunteers = ACTIVE_STATUSES.contains(status) && !hasOtherActiveRegistration(registration) ? 1 : 0;
+        adjustRegistrations(organizationId(registration), Map.of(status, 1L), volunteers);
+    }
+
+    @Override
+    @Transactional
+    public void registrationStatusChanged(EventRegistration registration, RegistrationStatus previousStatus) {
+        RegistrationStatus status = registration.getStatus();
+        if (status == previousStatus) {
+            return;
+        }
+        boolean active = ACTIVE_STATUSES.contains(status);
+        long volunteers = 0;
+        if (active != ACTIVE_STATUSES.contains(previousStatus) && !hasOtherActiveRegistration(registration)) {
+            volunteers = active ? 1 : -1;
+        }
+        Map<RegistrationStatus, Long> deltas = new EnumMap<>(RegistrationStatus.class);
+        deltas.put(status, 1L);
+        if (previousStatus != null) { // Rows written before statuses existed
+            deltas.put(previousStatus, -1L);
+        }
+        adjustRegistrations(organizationId(registration), deltas, volunteers);
+    }
+
+    @Override
+    public int rebuild() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        int inserted = statsRepository.insertMissing(now);
+        if (inserted > 0) {
+            log.warn("Created {} missing organization stats rows", inserted);
+        }
+        // One short transaction per organization, so the rebuild never holds more than one row lock at a time
+        int organizations = 0;
+        for (Long organizationId : statsRepository.findAllOrganizationIds()) {
+            organizations += statsRepository.recompute(organizationId, now);
+        }
+        return organizations;
+    }
+
+    @Override
+    public int refreshUpcoming() {
+        return statsRepository.refreshUpcoming(LocalDateTime.now(clock));
+    }
+
+    private boolean isUpcoming(boolean active, LocalDateTime eventDate) {
+        return active && eventDate != null && eventDate.isAfter(LocalDateTime.now(clock));
+    }
+
+    // Archived registrations count too (the totals include the archive); the archive is only asked when needed
+    private boolean hasOtherActiveRegistration(EventRegistration registration) {
+        Long volunteerId = registration.getVolunteer().getId();
+        Long organizationId = organizationId(registration);
+        return eventRegistrationRepository.existsOtherForOrganization(volunteerId, organizationId, ACTIVE_STATUSES, registration.getId())
+                || archivedRegistrationRepository.existsByVolunteerIdAndOrganizationIdAndStatusIn(volunteerId, organizationId, ACTIVE_STATUSES);
+    }
+
+    private static Long organizationId(EventRegistration registration) {
+        return registration.getEvent().getOrganization().getId();
+    }
+
+    private void adjustEvents(Long organizationId, long events, long upcoming, long capacity) {
+        if (statsRepository.adjustEvents(organizationId, events, upcoming, capacity, LocalDateTime.now(clock)) == 0) {
+            missingRow(organizationId);
+        }
+    }
+
+    private void adjustRegistrations(Long organizationId, Map<RegistrationStatus, Long> deltas, long volunteers) {
+        int updated = statsRepository.adjustRegistrations(organizationId,
+                deltas.getOrDefault(RegistrationStatus.PENDING, 0L),
+                deltas.getOrDefault(RegistrationStatus.CONFIRMED, 0L),
+                deltas.getOrDefault(RegistrationStatus.CANCELLED, 0L),
+                deltas.getOrDefault(RegistrationStatus.REJECTED, 0L),
+                volunteers, LocalDateTime.now(clock));
+        if (updated == 0) {
+            missingRow(organizationId);
+        }
+    }
+
+    // Not worth failing the user's write over: the next rebuild creates the row with the correct totals
+    private static void missingRow(Long organizationId) {
+        log.warn("No stats row for organization {}; its totals are restored by the next rebuild", organizationId);
+    }
+
+    private OrganizationStatsResponse convertToDto(OrganizationStats stats) {
+        Map<RegistrationStatus, Long> registrationsByStatus = new EnumMap<>(RegistrationStatus.class);
+        registrationsByStatus.put(RegistrationStatus.PENDING, stats.getPendingRegistrations());
+        registrationsByStatus.put(RegistrationStatus.CONFIRMED, stats.getConfirmedRegistrations());
+        registrationsByStatus.put(RegistrationStatus.CANCELLED, stats.getCancelledRegistrations());
+        registrationsByStatus.put(RegistrationStatus.REJECTED, stats.getRejectedRegistrations());
+
+        Double averageFillRate = null;
+        if (stats.getTotalCapacity() > 0) {
+            long seatsTaken = stats.getPendingRegistrations() + stats.getConfirmedRegistrations();
+            averageFillRate = (double) seatsTaken / stats.getTotalCapacity();
+        }
+        return OrganizationStatsResponse.builder()
+                .organizationId(stats.getOrganizationId())
+                .eventsHosted(stats.getEventsHosted())
+                .upcomingEvents(stats.getUpcomingEvents())
+                .registrationsByStatus(registrationsByStatus)
+                .uniqueVolunteers(stats.getUniqueVolunteers())
+                .totalCapacity(stats.getTotalCapacity())
+                .averageFillRate(averageFillRate)
+                .updatedAt(stats.getUpdatedAt())
+                .build();
+    }
+}
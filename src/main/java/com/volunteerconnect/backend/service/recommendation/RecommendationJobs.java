@@ -0,0 +1,27 @@
+package com.volunteerconnect.backend.service.recommendation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reloads the recommendation candidates, dropping events that have started and picking up changes made through other
+ * instances. Set the property to "-" to turn the job off.
+ */
+@Component
+@Slf4j
+public class RecommendationJobs {
+
+    private final RecommendationService recommendationService;
+
+    public RecommendationJobs(RecommendationService recommendationService) {
+        this.recommendationService = recommendationService;
+    }
+
+    @Scheduled(cron = "${app.recommendations.refresh-cron:0 */15 * * * *}")
+    public void refresh() {
+        long start = System.nanoTime();
+        int candidates = recommendationService.refresh();
+        log.debug("Reloaded {} recommendation candidates in {} ms", candidates, (System.nanoTime() - start) / 1_000_000);
+    }
+}
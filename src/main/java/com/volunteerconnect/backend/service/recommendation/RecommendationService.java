@@ -0,0 +1,26 @@
+package com.volunteerconnect.backend.service.recommendation;
+
+import com.volunteerconnect.backend.dto.recommendation.RecommendedEventResponse;
+import com.volunteerconnect.backend.model.Event;
+import com.volunteerconnect.backend.model.EventRegistration;
+import com.volunteerconnect.backend.model.RegistrationStatus;
+
+import java.util.List;
+
+/**
+ * The "recommended for you" feed: active upcoming events a volunteer has not registered for, ranked by skill overlap
+ * with the events they registered for before, their history with the organization, and how new the event is.
+ * The write paths call the hooks below inside their transaction; the feeds change once that transaction commits.
+ */
+public interface RecommendationService {
+    List<RecommendedEventResponse> getRecommendations(Long volunteerId, int limit);
+
+    // --- Hooks for the write paths ---
+    void eventSaved(Event event);    // Created or updated
+    void eventDeleted(Long eventId);
+    void registrationCreated(EventRegistration registration);
+    void registrationStatusChanged(EventRegistration registration, RegistrationStatus previousStatus);
+
+    // --- Recovery (RecommendationJobs) ---
+    int refresh(); // Reloads the candidate events and re-scores the feeds held; returns the number of candidates
+}
@@ -0,0 +1,364 @@
+package com.volunteerconnect.backend.service.recommendation;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.volunteerconnect.backend.dto.recommendation.RecommendedEventResponse;
+import com.volunteerconnect.backend.model.Event;
+import com.volunteerconnect.backend.model.EventRegistration;
+import com.volunteerconnect.backend.model.RegistrationStatus;
+import com.volunteerconnect.backend.repository.EventRegistrationRepository;
+import com.volunteerconnect.backend.repository.EventRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Feeds are served from memory. The service holds the candidate pool (every active upcoming event) and, for each
+ * volunteer who asked for their feed recently, a profile (skills and organizations of their active registrations)
+ * with the app.recommendations.top-k best candidates for it. A request reads that list; only a volunteer's first
+ * request loads their registrations, in one query.
+ * <p>
+ * The lists are maintained incrementally: a saved event is scored against each profile held and moved into, within
+ * or out of its list, and a volunteer's own registration recomputes just their list from the pool. When an event
+ * leaves a full list the next best candidate is unknown, so that list is recomputed from the pool on its next read.
+ * A saved or deleted event touches every list held, so that fan-out runs on a background thread of its own (one, so
+ * changes apply in the order they committed) rather than on the request thread that committed it.
+ * <p>
+ * Score: 3 per required skill the volunteer registered with before, 2 per earlier registration with the organization
+ * (up to 3), and 1 per app.recommendations.recency-period of the event's creation date. The recency term is linear in
+ * the creation date, so the gap between two events' scores never changes and a list computed yesterday is still in
+ * order today.
+ * <p>
+ * Each instance sees only its own writes. app.recommendations.refresh-cron reloads the pool from the database, which
+ * brings in changes made through other instances and drops events that have started; the lists held are re-scored
+ * against the new pool in place, on the refresh thread, so no volunteer's read has to wait for a reload. A profile is
+ * reloaded from the database app.recommendations.profile-ttl after it was loaded (each at its own time), which brings
+ * in registrations made through other instances.
+ */
+@Service
+@Timed("app.service")
+@Slf4j
+public class RecommendationServiceImpl implements RecommendationService {
+
+    private static final double SKILL_WEIGHT = 3;
+    private static final double ORGANIZATION_WEIGHT = 2;
+    private static final int ORGANIZATION_CAP = 3;
+    private static final Set<RegistrationStatus> ACTIVE_STATUSES = EnumSet.of(RegistrationStatus.PENDING, RegistrationStatus.CONFIRMED);
+
+    // Best first; ties go to the sooner event, then the lower id
+    private static final Comparator<Scored> RANKING = Comparator.comparingDouble(Scored::score).reversed()
+            .thenComparing(scored -> scored.event().eventDate())
+            .thenComparing(scored -> scored.event().id());
+
+    private final EventRepository eventRepository;
+    private final EventRegistrationRepository eventRegistrationRepository;
+    private final Clock clock;
+    private final int topK;
+    private final double recencyPeriodSeconds;
+    private final Cache<Long, Feed> feeds; // By volunteer id; the least recently used are dropped past max-volunteers
+    private final Executor fanOut; // Applies saved and deleted events to the feeds held
+    private volatile Map<Long, Candidate> candidates = new ConcurrentHashMap<>();
+
+    @Autowired
+    public RecommendationServiceImpl(EventRepository eventRepository,
+                                     EventRegistrationRepository eventRegistrationRepository,
+                                     Clock clock,
+                                     @Value("${app.recommendations.top-k:20}") int topK,
+                                     @Value("${app.recommendations.recency-period:30d}") Duration recencyPeriod,
+                                     @Value("${app.recommendations.max-volunteers:10000}") long maxVolunteers,
+                                     @Value("${app.recommendations.profile-ttl:6h}") Duration profileTtl) {
+        this(eventRepository, eventRegistrationRepository, clock, topK, recencyPeriod, maxVolunteers, profileTtl,
+                Executors.newSingleThreadExecutor(Thread.ofPlatform().name("recommendations").daemon().factory()));
+    }
+
+    RecommendationServiceImpl(EventRepository eventRepository, EventRegistrationRepository eventRegistrationRepository,
+                              Clock clock, int topK, Duration recencyPeriod, long maxVolunteers, Duration profileTtl,
+                              Executor fanOut) {
+        if (topK < 1) {
+            throw new IllegalArgumentException("app.recommendations.top-k must be at least 1");
+        }
+        this.eventRepository = eventRepository;
+        this.eventRegistrationRepository = eventRegistrationRepository;
+        this.clock = clock;
+        this.topK = topK;
+        this.recencyPeriodSeconds = recencyPeriod.toSeconds();
+        this.feeds = Caffeine.newBuilder().maximumSize(maxVolunteers).expireAfterWrite(profileTtl).build();
+        this.fanOut = fanOut;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (fanOut instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadCandidates() {
+        long start = System.nanoTime();
+        int loaded = refresh();
+        log.info("Loaded {} recommendation candidates in {} ms", loaded, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Override
+    public List<RecommendedEventResponse> getRecommendations(Long volunteerId, int limit) {
+        Feed feed = feeds.get(volunteerId, this::loadFeed);
+        LocalDateTime now = LocalDateTime.now(clock);
+        synchronized (feed) {
+            // Events that started since the last refresh leave the list here
+            if (feed.stale || feed.top.stream().anyMatch(scored -> !scored.event().eventDate().isAfter(now))) {
+                feed.recompute(now);
+            }
+            return feed.top.stream()
+                    .limit(Math.max(0, limit))
+                    .map(scored -> toResponse(scored.event(), feed))
+                    .toList();
+        }
+    }
+
+    @Override
+    public void eventSaved(Event event) {
+        if (!event.isActive() || !event.getEventDate().isAfter(LocalDateTime.now(clock))) {
+            eventDeleted(event.getId());
+            return;
+        }
+        // Read inside the transaction, while the organization can still be loaded
+        Candidate candidate = new Candidate(event.getId(), event.getTitle(), event.getEventDate(), event.getLocation(),
+                skills(event.getRequiredSkills()), recency(event.getCreatedDate()),
+                event.getOrganization().getId(), event.getOrganization().getName());
+        afterCommit(() -> fanOut.execute(() -> {
+            candidates.put(candidate.id(), candidate);
+            for (Feed feed : feeds.asMap().values()) {
+                feed.offer(candidate);
+            }
+        }));
+    }
+
+    @Override
+    public void eventDeleted(Long eventId) {
+        afterCommit(() -> fanOut.execute(() -> {
+            if (candidates.remove(eventId) != null) {
+                for (Feed feed : feeds.asMap().values()) {
+                    feed.remove(eventId);
+                }
+            }
+        }));
+    }
+
+    @Override
+    public void registrationCreated(EventRegistration registration) {
+        Long volunteerId = registration.getVolunteer().getId();
+        Event event = registration.getEvent();
+        Long eventId = event.getId();
+        List<String> skills = skills(event.getRequiredSkills());
+        Long organizationId = event.getOrganization().getId();
+        boolean active = ACTIVE_STATUSES.contains(registration.getStatus());
+        afterCommit(() -> {
+            Feed feed = feeds.getIfPresent(volunteerId); // A volunteer without a feed gets theirs loaded on first read
+            if (feed != null) {
+                synchronized (feed) {
+                    feed.registeredEventIds.add(eventId);
+                    if (active) {
+                        feed.addToProfile(skills, organizationId);
+                    }
+                    feed.recompute(LocalDateTime.now(clock));
+                }
+            }
+        });
+    }
+
+    // Rare (cancellations, organizer decisions): the profile is reloaded on the volunteer's next read
+    @Override
+    public void registrationStatusChanged(EventRegistration registration, RegistrationStatus previousStatus) {
+        if (ACTIVE_STATUSES.contains(registration.getStatus()) != ACTIVE_STATUSES.contains(previousStatus)) {
+            Long volunteerId = registration.getVolunteer().getId();
+            afterCommit(() -> feeds.invalidate(volunteerId));
+        }
+    }
+
+    // A change committed while the pool is being reloaded can be missed until the next refresh
+    @Override
+    public int refresh() {
+        Map<Long, Candidate> loaded = new ConcurrentHashMap<>();
+        for (EventRepository.CandidateRow row : eventRepository.findRecommendationCandidates(LocalDateTime.now(clock))) {
+            loaded.put(row.getId(), new Candidate(row.getId(), row.getTitle(), row.getEventDate(), row.getLocation(),
+                    skills(row.getRequiredSkills()), recency(row.getCreatedDate()),
+                    row.getOrganizationId(), row.getOrganizationName()));
+        }
+        candidates = loaded;
+        // Profiles stay; only the lists are recomputed, from memory, one feed at a time
+        LocalDateTime now = LocalDateTime.now(clock);
+        for (Feed feed : feeds.asMap().values()) {
+            synchronized (feed) {
+                feed.recompute(now);
+            }
+        }
+        return loaded.size();
+    }
+
+    private Feed loadFeed(Long volunteerId) {
+        Feed feed = new Feed();
+        for (EventRegistrationRepository.VolunteerHistoryRow row : eventRegistrationRepository.findHistoryOfVolunteer(volunteerId)) {
+            feed.registeredEventIds.add(row.getEventId()); // Never recommended again, whatever the status
+            if (ACTIVE_STATUSES.contains(row.getStatus())) {
+                feed.addToProfile(skills(row.getRequiredSkills()), row.getOrganizationId());
+            }
+        }
+        feed.recompute(LocalDateTime.now(clock));
+        return feed;
+    }
+
+    private RecommendedEventResponse toResponse(Candidate event, Feed feed) {
+        return RecommendedEventResponse.builder()
+                .id(event.id())
+                .title(event.title())
+                .eventDate(event.eventDate())
+                .location(event.location())
+                .organizationId(event.organizationId())
+                .organizationName(event.organizationName())
+                .matchedSkills(event.skills().stream().filter(feed.skills::containsKey).toList())
+                .organizationHistory(feed.organizations.getOrDefault(event.organizationId(), 0))
+                .build();
+    }
+
+    private double recency(LocalDateTime createdDate) {
+        return createdDate == null ? 0 : createdDate.toEpochSecond(ZoneOffset.UTC) / recencyPeriodSeconds;
+    }
+
+    // Event.requiredSkills is free text from the form: "First aid, Driving"
+    private static List<String> skills(String requiredSkills) {
+        if (requiredSkills == null) {
+            return List.of();
+        }
+        return Arrays.stream(requiredSkills.split(","))
+                .map(skill -> skill.trim().toLowerCase(Locale.ROOT))
+                .filter(skill -> !skill.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    // After the surrounding transaction commits (at once without one), so a rolled-back change never reaches a feed
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    private record Candidate(Long id, String title, LocalDateTime eventDate, String location, List<String> skills,
+                             double recency, Long organizationId, String organizationName) {
+    }
+
+    private record Scored(Candidate event, double score) {
+    }
+
+    // One volunteer's profile and list; guarded by its own monitor
+    private final class Feed {
+        final Map<String, Integer> skills = new HashMap<>();
+        final Map<Long, Integer> organizations = new HashMap<>();
+        final Set<Long> registeredEventIds = new HashSet<>();
+        List<Scored> top = List.of(); // In RANKING order, at most topK
+        boolean stale;
+
+        void addToProfile(List<String> eventSkills, Long organizationId) {
+            for (String skill : eventSkills) {
+                skills.merge(skill, 1, Integer::sum);
+            }
+            organizations.merge(organizationId, 1, Integer::sum);
+        }
+
+        double score(Candidate candidate) {
+            long matchedSkills = candidate.skills().stream().filter(skills::containsKey).count();
+            int organizationHistory = Math.min(organizations.getOrDefault(candidate.organizationId(), 0), ORGANIZATION_CAP);
+            return SKILL_WEIGHT * matchedSkills + ORGANIZATION_WEIGHT * organizationHistory + candidate.recency();
+        }
+
+        // The best topK candidates the volunteer has not registered for: one pass over the pool with a bounded heap
+        void recompute(LocalDateTime now) {
+            PriorityQueue<Scored> best = new PriorityQueue<>(topK + 1, RANKING.reversed()); // Worst at the head
+            for (Candidate candidate : candidates.values()) {
+                if (candidate.eventDate().isAfter(now) && !registeredEventIds.contains(candidate.id())) {
+                    best.add(new Scored(candidate, score(candidate)));
+                    if (best.size() > topK) {
+                        best.poll();
+                    }
+                }
+            }
+            List<Scored> ranked = new ArrayList<>(best);
+            ranked.sort(RANKING);
+            top = ranked;
+            stale = false;
+        }
+
+        synchronized void offer(Candidate candidate) {
+            if (registeredEventIds.contains(candidate.id())) {
+                return;
+            }
+            boolean full = top.size() >= topK;
+            List<Scored> ranked = new ArrayList<>(top);
+            Scored previous = null;
+            for (int i = 0; i < ranked.size(); i++) {
+                if (ranked.get(i).event().id().equals(candidate.id())) {
+                    previous = ranked.remove(i);
+                    break;
+                }
+            }
+            Scored scored = new Scored(candidate, score(candidate));
+            if (previous != null && full && RANKING.compare(scored, previous) > 0) {
+                // Ranks lower than before: an event outside a full list may now beat it
+                stale = true;
+            }
+            if (ranked.size() < topK || RANKING.compare(scored, ranked.get(ranked.size() - 1)) < 0) {
+                int index = Collections.binarySearch(ranked, scored, RANKING);
+                ranked.add(index < 0 ? -index - 1 : index, scored);
+                if (ranked.size() > topK) {
+                    ranked.remove(ranked.size() - 1);
+                }
+            }
+            top = ranked;
+        }
+
+        synchronized void remove(Long eventId) {
+            boolean full = top.size() >= topK;
+            List<Scored> ranked = new ArrayList<>(top);
+            if (ranked.removeIf(scored -> scored.event().id().equals(eventId))) {
+                top = ranked;
+                stale |= full;
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.volunteerconnect.backend.service.stream;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drives the live event stream (see EventStreamService): the coalesced flush of changed events and the heartbeat.
+ */
+@Component
+public class EventStreamJobs {
+
+    private final EventStreamService eventStreamService;
+
+    public EventStreamJobs(EventStreamService eventStreamService) {
+        this.eventStreamService = eventStreamService;
+    }
+
+    @Scheduled(fixedDelayString = "${app.event-stream.flush-interval:1s}")
+    public void flush() {
+        eventStreamService.flush();
+    }
+
+    @Scheduled(fixedRateString = "${app.event-stream.heartbeat-interval:30s}")
+    public void heartbeat() {
+        eventStreamService.heartbeat();
+    }
+}
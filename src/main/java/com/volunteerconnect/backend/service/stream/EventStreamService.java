@@ -0,0 +1,277 @@
+package com.volunteerconnect.backend.service.stream;
+
+import com.volunteerconnect.backend.dto.stream.EventCountUpdate;
+import com.volunteerconnect.backend.exception.BusinessRuleException;
+import com.volunteerconnect.backend.repository.EventRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes capacity and registration count changes to clients subscribed to a set of event ids (GET /api/events/stream),
+ * in place of clients re-fetching the whole event list.
+ * <p>
+ * Changes are coalesced per event: the write paths only mark an event as changed (after their transaction commits,
+ * and only if someone is subscribed to it), and every app.event-stream.flush-interval the numbers of all changed
+ * events are read in one grouped query and fanned out. A burst of registrations for a popular event therefore costs
+ * one query and one message per subscriber per interval, however many registrations there were. An event the query
+ * no longer finds has been deleted, and its subscribers get an update marked {@code deleted}.
+ * <p>
+ * Each subscriber keeps only the latest unsent update per event. A slow client whose previous write has not finished
+ * skips intermediate values instead of queueing them, so its memory stays bounded by the events it subscribed to.
+ * Writes run on virtual threads, at most one per subscriber at a time: a client that stops reading blocks only its
+ * own virtual thread. Idle subscribers hold no thread at all (the requests are asynchronous), so the limit is
+ * server.tomcat.max-connections and app.event-stream.max-subscribers.
+ */
+@Service
+public class EventStreamService {
+
+    private final EventRepository eventRepository;
+    private final Duration timeout;
+    private final int maxSubscribers;
+    private final int maxIdsPerSubscriber;
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<Long, Set<Subscriber>> subscribersByEvent = new ConcurrentHashMap<>();
+    private final Set<Long> changed = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscribers = new AtomicInteger();
+
+    public EventStreamService(EventRepository eventRepository,
+                              @Value("${app.event-stream.timeout:30m}") Duration timeout,
+                              @Value("${app.event-stream.max-subscribers:50000}") int maxSubscribers,
+                              @Value("${app.event-stream.max-ids-per-subscriber:200}") int maxIdsPerSubscriber,
+                              MeterRegistry meterRegistry) {
+        this.eventRepository = eventRepository;
+        this.timeout = timeout;
+        this.maxSubscribers = maxSubscribers;
+        this.maxIdsPerSubscriber = maxIdsPerSubscriber;
+        Gauge.builder("app.event_stream.subscribers", subscribers, AtomicInteger::get)
+                .description("Open GET /api/events/stream connections")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream for these events, starting with their current numbers (so a reconnecting client catches up).
+     * Returns {@code null} when app.event-stream.max-subscribers streams are already open.
+     */
+    public SseEmitter subscribe(Collection<Long> eventIds) {
+        if (eventIds == null || eventIds.isEmpty()) {
+            throw new BusinessRuleException("At least one event id is required.");
+        }
+        Set<Long> ids = Set.copyOf(eventIds);
+        if (ids.size() > maxIdsPerSubscriber) {
+            throw new BusinessRuleException("At most " + maxIdsPerSubscriber + " events can be followed per stream.");
+        }
+        if (subscribers.incrementAndGet() > maxSubscribers) {
+            subscribers.decrementAndGet();
+            return null;
+        }
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis()); // The client reconnects when it times out
+        Subscriber subscriber = new Subscriber(emitter, ids);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        for (Long id : ids) {
+            subscribersByEvent.compute(id, (key, set) -> { // Atomic against close() dropping an emptied set
+                Set<Subscriber> subscribed = set != null ? set : ConcurrentHashMap.newKeySet();
+                subscribed.add(subscriber);
+                return subscribed;
+            });
+        }
+        List<EventRepository.LiveCountRow> rows;
+        try {
+            rows = eventRepository.findLiveCounts(ids);
+        } catch (RuntimeException e) {
+            subscriber.close(); // Frees the slot and the per-event entries; the emitter was never handed out
+            throw e;
+        }
+        toUpdates(ids, rows).values().forEach(subscriber::offer);
+        return emitter;
+    }
+
+    // Hook for the registration, event update and event delete paths
+    public void eventChanged(Long eventId) {
+        afterCommit(() -> {
+            if (subscribersByEvent.containsKey(eventId)) {
+                changed.add(eventId);
+            }
+        });
+    }
+
+    // Sends the numbers of every event changed since the last flush; returns the number of events sent
+    public int flush() {
+        if (changed.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = new ArrayList<>(changed);
+        changed.removeAll(ids); // A change marked from here on is picked up by the next flush
+        Map<Long, EventCountUpdate> updates = toUpdates(ids, eventRepository.findLiveCounts(ids));
+        updates.forEach((id, update) -> {
+            for (Subscriber subscriber : subscribersByEvent.getOrDefault(id, Set.of())) {
+                subscriber.offer(update);
+            }
+        });
+        return updates.size();
+    }
+
+    // A comment line to every stream: keeps proxies from closing idle connections and finds clients that are gone
+    public void heartbeat() {
+        Set<Subscriber> all = ConcurrentHashMap.newKeySet();
+        subscribersByEvent.values().forEach(all::addAll);
+        all.forEach(Subscriber::offerHeartbeat);
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+    }
+
+    // One update per requested id; an id without a row belongs to a deleted event
+    private static Map<Long, EventCountUpdate> toUpdates(Collection<Long> ids, List<EventRepository.LiveCountRow> rows) {
+        Map<Long, EventCountUpdate> updates = new LinkedHashMap<>();
+        for (EventRepository.LiveCountRow row : rows) {
+            updates.put(row.getId(), EventCountUpdate.builder()
+                    .eventId(row.getId())
+                    .capacity(row.getCapacity())
+                    .registeredCount(row.getRegisteredCount())
+                    .active(row.isActive())
+                    .build());
+        }
+        for (Long id : ids) {
+            updates.computeIfAbsent(id, key -> EventCountUpdate.builder().eventId(key).deleted(true).build());
+        }
+        return updates;
+    }
+
+    // After the surrounding transaction commits (at once without one): clients never see a rolled-back registration
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Set<Long> eventIds;
+        // Guarded by this; no I/O is done while holding it
+        private final Map<Long, EventCountUpdate> pending = new LinkedHashMap<>(); // Latest unsent update per event
+        private boolean heartbeatDue;
+        private boolean sending;
+        private boolean closed;
+
+        Subscriber(SseEmitter emitter, Set<Long> eventIds) {
+            this.emitter = emitter;
+            this.eventIds = eventIds;
+        }
+
+        void offer(EventCountUpdate update) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                pending.put(update.getEventId(), update);
+            }
+            startSending();
+        }
+
+        void offerHeartbeat() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                heartbeatDue = true;
+            }
+            startSending();
+        }
+
+        private void startSending() {
+            synchronized (this) {
+                if (sending) {
+                    return; // The running sender picks the new value up
+                }
+                sending = true;
+            }
+            senders.execute(this::drain);
+        }
+
+        // Writes whatever is pending, one message per round, until nothing is left
+        private void drain() {
+            while (true) {
+                List<EventCountUpdate> updates;
+                boolean heartbeat;
+                synchronized (this) {
+                    if (closed || (pending.isEmpty() && !heartbeatDue)) {
+                        sending = false;
+                        return;
+                    }
+                    updates = new ArrayList<>(pending.values());
+                    pending.clear();
+                    heartbeat = heartbeatDue;
+                    heartbeatDue = false;
+                }
+                try {
+                    if (!updates.isEmpty()) {
+                        emitter.send(SseEmitter.event().name("counts").data(updates, MediaType.APPLICATION_JSON));
+                    } else if (heartbeat) {
+                        emitter.send(SseEmitter.event().comment("ping"));
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    // The client has gone away
+                    close();
+                    emitter.completeWithError(e);
+                    synchronized (this) {
+                        sending = false;
+                    }
+                    return;
+                }
+            }
+        }
+
+        void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                pending.clear();
+            }
+            for (Long id : eventIds) {
+                subscribersByEvent.computeIfPresent(id, (key, set) -> {
+                    set.remove(this);
+                    return set.isEmpty() ? null : set;
+                });
+            }
+            subscribers.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+-- Schema as previously created by spring.jpa.hibernate.ddl-auto=update. Databases that already have it are
+-- baselined at this version (spring.flyway.baseline-on-migrate) and start at V2.
+-- Kept to SQL that PostgreSQL and H2 both accept; the load-test profile runs these migrations on H2.
+
+CREATE TABLE organizations (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name          VARCHAR(255) NOT NULL,
+    description   TEXT,
+    contact_email VARCHAR(255),
+    phone_number  VARCHAR(255),
+    website_url   VARCHAR(255),
+    address       VARCHAR(255),
+    active        BOOLEAN      NOT NULL,
+    CONSTRAINT uk_organizations_name UNIQUE (name)
+);
+
+CREATE TABLE users (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username        VARCHAR(255) NOT NULL,
+    password        VARCHAR(255) NOT NULL,
+    email           VARCHAR(255) NOT NULL,
+    first_name      VARCHAR(255),
+    last_name       VARCHAR(255),
+    role            VARCHAR(255) NOT NULL,
+    organization_id BIGINT,
+    created_date    TIMESTAMP(6),
+    updated_date    TIMESTAMP(6),
+    -- Registration maps violations of these two names to "username taken" / "email taken"
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT ck_users_role CHECK (role IN ('VOLUNTEER', 'ORGANIZER', 'ADMIN')),
+    CONSTRAINT fk_users_organization FOREIGN KEY (organization_id) REFERENCES organizations (id)
+);
+
+CREATE TABLE events (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title           VARCHAR(255) NOT NULL,
+    description     TEXT,
+    event_date      TIMESTAMP(6) NOT NULL,
+    location        VARCHAR(255) NOT NULL,
+    capacity        INTEGER      NOT NULL,
+    required_skills VARCHAR(255),
+    active          BOOLEAN      NOT NULL,
+    organization_id BIGINT       NOT NULL,
+    organizer_id    BIGINT       NOT NULL,
+    created_date    TIMESTAMP(6),
+    updated_date    TIMESTAMP(6),
+    CONSTRAINT fk_events_organization FOREIGN KEY (organization_id) REFERENCES organizations (id),
+    CONSTRAINT fk_events_organizer FOREIGN KEY (organizer_id) REFERENCES users (id)
+);
+
+CREATE TABLE event_registrations (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_id          BIGINT NOT NULL,
+    volunteer_id      BIGINT NOT NULL,
+    registration_date TIMESTAMP(6),
+    status            VARCHAR(255),
+    -- A volunteer can only register once per event; also serves lookups by event_id
+    CONSTRAINT uk_event_registrations_event_volunteer UNIQUE (event_id, volunteer_id),
+    CONSTRAINT ck_event_registrations_status CHECK (status IN ('PENDING', 'CONFIRMED', 'CANCELLED', 'REJECTED')),
+    CONSTRAINT fk_event_registrations_event FOREIGN KEY (event_id) REFERENCES events (id),
+    CONSTRAINT fk_event_registrations_volunteer FOREIGN KEY (volunteer_id) REFERENCES users (id)
+);
@@ -0,0 +1,17 @@
+-- Indexes for the foreign keys and filters used on hot paths. PostgreSQL does not index foreign key columns by
+-- itself, so every lookup below was a sequential scan.
+-- IF NOT EXISTS because some databases baselined at V1 already have indexes added by hand.
+-- On a large live table, create them beforehand with CREATE INDEX CONCURRENTLY under the same names.
+
+-- EventRegistrationRepository.findByVolunteer (a volunteer's registrations)
+CREATE INDEX IF NOT EXISTS idx_event_registrations_volunteer ON event_registrations (volunteer_id);
+
+-- Registrations of an event by status (confirmed counts, organizer views)
+CREATE INDEX IF NOT EXISTS idx_event_registrations_event_status ON event_registrations (event_id, status);
+
+-- Events of an organizer / of an organization
+CREATE INDEX IF NOT EXISTS idx_events_organizer ON events (organizer_id);
+CREATE INDEX IF NOT EXISTS idx_events_organization ON events (organization_id);
+
+-- Events by date (upcoming events, date ranges)
+CREATE INDEX IF NOT EXISTS idx_events_event_date ON events (event_date);
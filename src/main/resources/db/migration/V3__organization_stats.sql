@@ -0,0 +1,40 @@
+-- Per-organization dashboard totals (OrganizationStatsService). The event and registration write paths adjust a
+-- row in the same transaction as the change, so GET /api/organizations/{id}/stats reads one row instead of
+-- aggregating events and event_registrations. OrganizationStatsJobs recomputes the rows from those tables.
+
+CREATE TABLE organization_stats (
+    organization_id          BIGINT       PRIMARY KEY,
+    events_hosted            BIGINT       NOT NULL DEFAULT 0,
+    -- Active events whose date has not passed; time moves events out of it, so it is refreshed on a schedule
+    upcoming_events          BIGINT       NOT NULL DEFAULT 0,
+    -- Sum of the capacity of all events, the denominator of the fill rate
+    total_capacity           BIGINT       NOT NULL DEFAULT 0,
+    pending_registrations    BIGINT       NOT NULL DEFAULT 0,
+    confirmed_registrations  BIGINT       NOT NULL DEFAULT 0,
+    cancelled_registrations  BIGINT       NOT NULL DEFAULT 0,
+    rejected_registrations   BIGINT       NOT NULL DEFAULT 0,
+    -- Volunteers with a pending or confirmed registration for at least one of the organization's events
+    unique_volunteers        BIGINT       NOT NULL DEFAULT 0,
+    updated_at               TIMESTAMP(6) NOT NULL,
+    CONSTRAINT fk_organization_stats_organization FOREIGN KEY (organization_id) REFERENCES organizations (id) ON DELETE CASCADE
+);
+
+-- Backfill with the same aggregates as OrganizationStatsRepository.recompute
+INSERT INTO organization_stats (organization_id, events_hosted, upcoming_events, total_capacity, pending_registrations,
+                                confirmed_registrations, cancelled_registrations, rejected_registrations,
+                                unique_volunteers, updated_at)
+SELECT o.id,
+       (SELECT COUNT(*) FROM events e WHERE e.organization_id = o.id),
+       (SELECT COUNT(*) FROM events e WHERE e.organization_id = o.id AND e.active = TRUE AND e.event_date > CURRENT_TIMESTAMP),
+       (SELECT COALESCE(SUM(e.capacity), 0) FROM events e WHERE e.organization_id = o.id),
+       (SELECT COUNT(*) FROM event_registrations r JOIN events e ON e.id = r.event_id WHERE e.organization_id = o.id AND r.status = 'PENDING'),
+       (SELECT COUNT(*) FROM event_registrations r JOIN events e ON e.id = r.event_id WHERE e.organization_id = o.id AND r.status = 'CONFIRMED'),
+       (SELECT COUNT(*) FROM event_registrations r JOIN events e ON e.id = r.event_id WHERE e.organization_id = o.id AND r.status = 'CANCELLED'),
+       (SELECT COUNT(*) FROM event_registrations r JOIN events e ON e.id = r.event_id WHERE e.organization_id = o.id AND r.status = 'REJECTED'),
+       (SELECT COUNT(DISTINCT r.volunteer_id) FROM event_registrations r JOIN events e ON e.id = r.event_id
+         WHERE e.organization_id = o.id AND r.status IN ('PENDING', 'CONFIRMED')),
+       CURRENT_TIMESTAMP
+FROM organizations o;
+
+-- Unique-volunteer checks look up a volunteer's registrations with their status
+CREATE INDEX IF NOT EXISTS idx_event_registrations_volunteer_status ON event_registrations (volunteer_id, status);
@@ -0,0 +1,7 @@
+-- Keyset pagination of registration histories (EventRegistrationRepository.findPageByVolunteer / findPageByEvent):
+-- a page is a range scan in (registration_date, id) order from the cursor, with no sort and no skipped rows.
+CREATE INDEX IF NOT EXISTS idx_event_registrations_volunteer_date ON event_registrations (volunteer_id, registration_date, id);
+CREATE INDEX IF NOT EXISTS idx_event_registrations_event_date ON event_registrations (event_id, registration_date, id);
+
+-- Lookups by volunteer_id alone are served by the index above
+DROP INDEX IF EXISTS idx_event_registrations_volunteer;
@@ -0,0 +1,44 @@
+-- Archive of past events and old cancelled registrations (ArchiveService). Rows are moved here in chunks by the
+-- archival job, so events and event_registrations, and every index on them, only hold what the hot paths still read.
+-- Ids are kept, so a row has the same id before and after archival. There are no foreign keys: the archive is a
+-- historical record and must never block a delete on the live tables.
+
+CREATE TABLE events_archive (
+    id              BIGINT       PRIMARY KEY,
+    title           VARCHAR(255) NOT NULL,
+    description     TEXT,
+    event_date      TIMESTAMP(6) NOT NULL,
+    location        VARCHAR(255) NOT NULL,
+    capacity        INTEGER      NOT NULL,
+    required_skills VARCHAR(255),
+    active          BOOLEAN      NOT NULL,
+    organization_id BIGINT       NOT NULL,
+    organizer_id    BIGINT       NOT NULL,
+    created_date    TIMESTAMP(6),
+    updated_date    TIMESTAMP(6),
+    archived_at     TIMESTAMP(6) NOT NULL
+);
+
+-- An organization's archived events, newest first
+CREATE INDEX IF NOT EXISTS idx_events_archive_organization_date ON events_archive (organization_id, event_date, id);
+
+-- The event title and organization are copied in: the event may still be live (an archived cancellation) or archived
+CREATE TABLE event_registrations_archive (
+    id                BIGINT       PRIMARY KEY,
+    event_id          BIGINT       NOT NULL,
+    event_title       VARCHAR(255) NOT NULL,
+    organization_id   BIGINT       NOT NULL,
+    volunteer_id      BIGINT       NOT NULL,
+    registration_date TIMESTAMP(6),
+    status            VARCHAR(255),
+    archived_at       TIMESTAMP(6) NOT NULL
+);
+
+-- Same keyset order as the live registration histories (V5), so live and archived pages can be merged
+CREATE INDEX IF NOT EXISTS idx_event_registrations_archive_volunteer_date ON event_registrations_archive (volunteer_id, registration_date, id);
+CREATE INDEX IF NOT EXISTS idx_event_registrations_archive_event_date ON event_registrations_archive (event_id, registration_date, id);
+-- Organization stats: counts per status and unique volunteers
+CREATE INDEX IF NOT EXISTS idx_event_registrations_archive_organization_status ON event_registrations_archive (organization_id, status);
+
+-- Selects the next chunk of old cancelled registrations without scanning event_registrations
+CREATE INDEX IF NOT EXISTS idx_event_registrations_status_date ON event_registrations (status, registration_date, id);
@@ -0,0 +1,26 @@
+-- Transactional outbox for notifications to volunteers (NotificationOutbox). Rows are inserted in the same
+-- transaction as the change they announce, so a notification exists exactly when the change commits; the
+-- dispatcher (NotificationDispatcher) sends them afterwards, outside any request.
+-- Recipient and message values are copied in when the row is written: the message describes the change as it was.
+
+CREATE TABLE notification_outbox (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    type            VARCHAR(40)   NOT NULL,
+    recipient_id    BIGINT        NOT NULL,
+    recipient_email VARCHAR(255)  NOT NULL,
+    recipient_name  VARCHAR(255)  NOT NULL,
+    event_id        BIGINT        NOT NULL,
+    -- Template values as a JSON object
+    params          VARCHAR(4000) NOT NULL,
+    status          VARCHAR(20)   NOT NULL,
+    -- Claims count as attempts: a dispatcher that dies mid-batch still uses one up
+    attempts        INTEGER       NOT NULL,
+    -- When the row is next due; a claim moves it forward by the claim timeout, a failure by the backoff
+    next_attempt_at TIMESTAMP(6)  NOT NULL,
+    created_at      TIMESTAMP(6)  NOT NULL,
+    sent_at         TIMESTAMP(6),
+    last_error      VARCHAR(500)
+);
+
+-- The dispatcher's claim: due PENDING rows, oldest first
+CREATE INDEX IF NOT EXISTS idx_notification_outbox_status_due ON notification_outbox (status, next_attempt_at, id);
@@ -0,0 +1,126 @@
+package com.volunteerconnect.backend.config.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Two in-memory H2 databases stand in for the primary and a replica; each knows its own role.
+ */
+class ReadReplicaRoutingDataSourceTests {
+
+    private static final String LAG_QUERY = "SELECT seconds FROM replica_lag";
+
+    private final JdbcTemplate primary = new JdbcTemplate(h2("rr_primary"));
+    private final JdbcTemplate replica = new JdbcTemplate(h2("rr_replica"));
+    private ReadReplicaRoutingDataSource routing;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    private static DriverManagerDataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    @BeforeEach
+    void setUp() {
+        primary.execute("CREATE TABLE db_role (name VARCHAR(20))");
+        primary.execute("INSERT INTO db_role VALUES ('primary')");
+        primary.execute("CREATE TABLE notes (text VARCHAR(20))");
+        replica.execute("CREATE TABLE db_role (name VARCHAR(20))");
+        replica.execute("INSERT INTO db_role VALUES ('replica')");
+        replica.execute("CREATE TABLE replica_lag (seconds DOUBLE)");
+        replica.execute("INSERT INTO replica_lag VALUES (0.5)");
+
+        routing = new ReadReplicaRoutingDataSource(primary.getDataSource(), List.of(replica.getDataSource()),
+                Duration.ofSeconds(5), Duration.ofSeconds(10));
+        routing.checkLag(LAG_QUERY);
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbc = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        primary.execute("DROP ALL OBJECTS");
+        replica.execute("DROP ALL OBJECTS");
+    }
+
+    private String role(TransactionTemplate transaction) {
+        return transaction.execute(status -> jdbc.queryForObject("SELECT name FROM db_role", String.class));
+    }
+
+    private void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(username, null, List.of()));
+    }
+
+    @Test
+    void readOnlyTransaction_shouldUseReplica() {
+        assertEquals("replica", role(readOnly));
+    }
+
+    @Test
+    void readWriteTransactionAndPlainStatements_shouldUsePrimary() {
+        assertEquals("primary", role(readWrite));
+        assertEquals("primary", jdbc.queryForObject("SELECT name FROM db_role", String.class));
+    }
+
+    @Test
+    void replicaBehindMaxLag_shouldBeSkippedUntilItCatchesUp() {
+        replica.update("UPDATE replica_lag SET seconds = 30");
+        routing.checkLag(LAG_QUERY);
+        assertEquals("primary", role(readOnly));
+
+        replica.update("UPDATE replica_lag SET seconds = 1");
+        routing.checkLag(LAG_QUERY);
+        assertEquals("replica", role(readOnly));
+    }
+
+    @Test
+    void unreachableReplica_shouldFallBackToPrimary() {
+        replica.execute("DROP TABLE replica_lag"); // The lag query now fails
+        routing.checkLag(LAG_QUERY);
+
+        assertEquals("primary", role(readOnly));
+        assertTrue(Double.isNaN(routing.replicas().get(0).lagSeconds()));
+    }
+
+    @Test
+    void readsAfterOwnCommittedWrite_shouldStayOnPrimaryForThatUserOnly() {
+        authenticate("alice");
+        readWrite.executeWithoutResult(status -> jdbc.update("INSERT INTO notes VALUES ('hello')"));
+        assertEquals("primary", role(readOnly));
+
+        authenticate("bob");
+        assertEquals("replica", role(readOnly));
+    }
+
+    @Test
+    void rolledBackWrite_shouldNotPinUserToPrimary() {
+        authenticate("alice");
+        readWrite.executeWithoutResult(status -> {
+            jdbc.queryForObject("SELECT name FROM db_role", String.class);
+            status.setRollbackOnly();
+        });
+
+        assertEquals("replica", role(readOnly));
+    }
+}
@@ -0,0 +1,98 @@
+package com.volunteerconnect.backend.config.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestSqlStatsFilterTests {
+
+    private static final String SELECT_USER = "select u.id,u.username from users u where u.id=?";
+
+    private final RequestSqlStatsListener listener = new RequestSqlStatsListener();
+    private SimpleMeterRegistry registry;
+    private RequestSqlStatsFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        filter = new RequestSqlStatsFilter(registry, 3);
+    }
+
+    private void execute(String sql, long elapsedMs) {
+        ExecutionInfo info = new ExecutionInfo();
+        info.setElapsedTime(elapsedMs);
+        listener.afterQuery(info, List.of(new QueryInfo(sql)));
+    }
+
+    @Test
+    void doFilter_shouldReportStatementsAndTimeForTheRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/events/{id}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            execute("select e.id from events e where e.id=?", 4);
+            execute(SELECT_USER, 2);
+        };
+
+        filter.doFilter(request, response, chain);
+
+        assertEquals("2", response.getHeader(RequestSqlStatsFilter.COUNT_HEADER));
+        assertEquals("6", response.getHeader(RequestSqlStatsFilter.TIME_HEADER));
+        assertEquals(2.0, registry.get("app.sql.statements").tag("uri", "/api/events/{id}").summary().totalAmount());
+        assertNull(registry.find("app.sql.repeated").counter());
+        assertNull(RequestSqlStats.current(), "stats must not leak to the next request on this thread");
+    }
+
+    @Test
+    void doFilter_shouldFlagStatementRepeatedMoreThanThreshold() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/events");
+        FilterChain chain = (req, res) -> {
+            execute("select e.id from events e", 1);
+            for (int i = 0; i < 4; i++) {
+                execute(SELECT_USER, 1);
+            }
+        };
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertEquals(1.0, registry.get("app.sql.repeated").tag("uri", "/api/events").counter().count());
+    }
+
+    @Test
+    void repeatedShapes_shouldListMostFrequentFirst() {
+        RequestSqlStats stats = RequestSqlStats.start();
+        try {
+            for (int i = 0; i < 5; i++) {
+                execute("select a", 0);
+            }
+            for (int i = 0; i < 7; i++) {
+                execute("select b", 0);
+            }
+            execute("select c", 0);
+
+            List<String> shapes = stats.repeatedShapes(3).stream().map(Map.Entry::getKey).toList();
+            assertEquals(List.of("select b", "select a"), shapes);
+            assertEquals(13, stats.getStatements());
+        } finally {
+            RequestSqlStats.clear();
+        }
+    }
+
+    @Test
+    void listener_shouldIgnoreStatementsOutsideOfARequest() {
+        execute(SELECT_USER, 1);
+        assertNull(RequestSqlStats.current());
+    }
+}
@@ -0,0 +1,120 @@
+package com.volunteerconnect.backend.config.tracing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.volunteerconnect.backend.exception.EventFullException;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileSpanExporterTests {
+
+    @TempDir
+    Path dir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SdkTracerProvider tracerProvider;
+    private Spans spans;
+
+    private void start(long maxBytes) {
+        FileSpanExporter exporter = new FileSpanExporter(dir.resolve("spans.jsonl"), maxBytes);
+        tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                .build();
+        OpenTelemetry openTelemetry = OpenTelemetrySdk.builder().setTracerProvider(tracerProvider).build();
+        spans = new Spans(openTelemetry);
+    }
+
+    @BeforeEach
+    void setUp() {
+        start(Long.MAX_VALUE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.close();
+    }
+
+    private List<JsonNode> lines(String fileName) throws IOException {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : Files.readAllLines(dir.resolve(fileName))) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+
+    private Map<String, JsonNode> byName(List<JsonNode> lines) {
+        Map<String, JsonNode> byName = new HashMap<>();
+        lines.forEach(line -> byName.put(line.get("name").asText(), line));
+        return byName;
+    }
+
+    @Test
+    void export_shouldWriteNestedSpansAsJsonLines() throws IOException {
+        String result = spans.inSpan("EventServiceImpl.registerForEvent",
+                () -> spans.inSpan("EventRepository.findById", () -> "found"));
+
+        assertEquals("found", result);
+        Map<String, JsonNode> written = byName(lines("spans.jsonl"));
+        JsonNode parent = written.get("EventServiceImpl.registerForEvent");
+        JsonNode child = written.get("EventRepository.findById");
+        assertEquals(parent.get("traceId").asText(), child.get("traceId").asText());
+        assertEquals(parent.get("spanId").asText(), child.get("parentSpanId").asText());
+        assertFalse(parent.has("parentSpanId"));
+        assertEquals("INTERNAL", child.get("kind").asText());
+        assertTrue(child.get("durationMicros").asLong() >= 0);
+        assertFalse(child.has("status"));
+    }
+
+    @Test
+    void inSpan_shouldRecordUnexpectedExceptionsAsErrors() throws IOException {
+        assertThrows(IllegalStateException.class, () -> spans.inSpan("EventRepository.save", () -> {
+            throw new IllegalStateException("connection lost");
+        }));
+
+        JsonNode span = lines("spans.jsonl").get(0);
+        assertEquals("ERROR", span.get("status").asText());
+        JsonNode event = span.get("events").get(0);
+        assertEquals("exception", event.get("name").asText());
+        assertEquals("connection lost", event.get("attributes").get("exception.message").asText());
+    }
+
+    @Test
+    void inSpan_shouldRecordDomainExceptionsAsOutcomes() throws IOException {
+        assertThrows(EventFullException.class, () -> spans.inSpan("EventServiceImpl.registerForEvent", () -> {
+            throw EventFullException.INSTANCE;
+        }));
+
+        JsonNode span = lines("spans.jsonl").get(0);
+        assertFalse(span.has("status"));
+        assertFalse(span.has("events"));
+        assertEquals("EventFullException", span.get("attributes").get("app.outcome").asText());
+    }
+
+    @Test
+    void export_shouldRollOverAtMaxSize() throws IOException {
+        tracerProvider.close();
+        start(1);
+
+        spans.inSpan("first", () -> null);
+        spans.inSpan("second", () -> null);
+
+        assertEquals("second", lines("spans.jsonl.1").get(0).get("name").asText());
+        assertTrue(Files.readAllLines(dir.resolve("spans.jsonl")).isEmpty());
+    }
+}
@@ -0,0 +1,128 @@
+package com.volunteerconnect.backend.controller;
+
+import com.volunteerconnect.backend.config.SecurityConfig;
+import com.volunteerconnect.backend.config.tracing.Spans;
+import com.volunteerconnect.backend.config.tracing.TraceIdResponseFilter;
+import com.volunteerconnect.backend.dto.EventRequest;
+import com.volunteerconnect.backend.dto.EventResponse;
+import com.volunteerconnect.backend.model.Role;
+import com.volunteerconnect.backend.model.User;
+import com.volunteerconnect.backend.repository.UserRepository;
+import com.volunteerconnect.backend.security.JwtAuthenticationFilter;
+import com.volunteerconnect.backend.security.JwtService;
+import com.volunteerconnect.backend.service.EventService;
+import com.volunteerconnect.backend.service.stream.EventStreamService;
+import io.opentelemetry.api.OpenTelemetry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Goes through the application's security filter chain: the JWT filter authenticates the request with a real token and
+ * puts the {@link User} entity in the security context, which is what the handlers read the current user's id from.
+ */
+@WebMvcTest(controllers = EventController.class,
+        excludeFilters = @ComponentScan.Filter(type = FilterType.REGEX,
+                pattern = "com\\.volunteerconnect\\.backend\\.(config|security\\.ratelimit)\\..*Filter"))
+@Import({SecurityConfig.class, JwtAuthenticationFilter.class, JwtService.class, Spans.class,
+        EventControllerTests.TestBeans.class})
+class EventControllerTests {
+
+    @TestConfiguration
+    static class TestBeans {
+        @Bean
+        OpenTelemetry openTelemetry() {
+            return OpenTelemetry.noop();
+        }
+    }
+
+    private static final User ORGANIZER = User.builder().id(3L).username("organizer").password("x").role(Role.ORGANIZER).build();
+    private static final User VOLUNTEER = User.builder().id(7L).username("volunteer").password("x").role(Role.VOLUNTEER).build();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @MockitoBean
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private EventService eventService;
+
+    @MockitoBean
+    private EventStreamService eventStreamService;
+
+    @BeforeEach
+    void setUp() {
+        // Standalone controller tests (AuthControllerTests) can leave an authentication on this thread, which would make
+        // JwtAuthenticationFilter skip the token
+        SecurityContextHolder.clearContext();
+        when(userRepository.findByUsername("organizer")).thenReturn(Optional.of(ORGANIZER));
+        when(userRepository.findByUsername("volunteer")).thenReturn(Optional.of(VOLUNTEER));
+    }
+
+    private String bearer(User user) {
+        return "Bearer " + jwtService.generateToken(user);
+    }
+
+    @Test
+    void organizerWriteEndpoints_shouldActAsTheUserFromTheToken() throws Exception {
+        when(eventService.createEvent(any(EventRequest.class), eq(3L))).thenReturn(EventResponse.builder().id(1L).build());
+        when(eventService.updateEvent(eq(1L), any(EventRequest.class), eq(3L))).thenReturn(EventResponse.builder().id(1L).build());
+        String body = "{\"title\":\"Beach clean-up\",\"capacity\":10}";
+
+        mockMvc.perform(post("/api/events").header("Authorization", bearer(ORGANIZER))
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated());
+        mockMvc.perform(put("/api/events/1").header("Authorization", bearer(ORGANIZER))
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/events/1").header("Authorization", bearer(ORGANIZER)))
+                .andExpect(status().isNoContent());
+
+        verify(eventService).deleteEvent(1L, 3L);
+    }
+
+    @Test
+    void registerForEvent_shouldRegisterTheVolunteerFromTheToken() throws Exception {
+        when(eventService.registerForEvent(5L, 7L)).thenReturn(EventResponse.builder().id(5L).build());
+
+        mockMvc.perform(post("/api/events/5/register").header("Authorization", bearer(VOLUNTEER)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(5));
+        mockMvc.perform(post("/api/events/5/register").header("Authorization", bearer(ORGANIZER)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/events/5/register"))
+                .andExpect(status().isForbidden());
+
+        verify(eventService, times(1)).registerForEvent(any(), any());
+    }
+
+    @Test
+    void crossOriginRequest_shouldExposeTheTraceIdHeader() throws Exception {
+        mockMvc.perform(get("/api/events/5").header("Origin", "http://localhost:5173")
+                        .header("Authorization", bearer(VOLUNTEER)))
+                .andExpect(header().string("Access-Control-Allow-Origin", "http://localhost:5173"))
+                .andExpect(header().string("Access-Control-Expose-Headers", TraceIdResponseFilter.TRACE_ID_HEADER));
+    }
+}
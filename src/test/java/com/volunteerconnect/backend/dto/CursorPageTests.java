@@ -0,0 +1,54 @@
+package com.volunteerconnect.backend.dto;
+
+import com.volunteerconnect.backend.exception.BusinessRuleException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorPageTests {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2025, 3, 14, 9, 26, 53, 589_793_000);
+
+    @Test
+    void keysetCursor_shouldRoundTripThroughItsEncoding() {
+        KeysetCursor cursor = new KeysetCursor(AT, 42L);
+
+        assertEquals(cursor, KeysetCursor.decode(cursor.encode()));
+        assertEquals(KeysetCursor.START, KeysetCursor.decode(null));
+        assertEquals(KeysetCursor.START, KeysetCursor.decode(""));
+    }
+
+    @Test
+    void keysetCursor_shouldRejectTamperedCursors() {
+        assertThrows(BusinessRuleException.class, () -> KeysetCursor.decode("garbage"));
+        assertThrows(BusinessRuleException.class, () -> KeysetCursor.decode("bm8tc2VwYXJhdG9y")); // "no-separator"
+    }
+
+    @Test
+    void idCursor_shouldRoundTripAndStartBeforeEveryId() {
+        assertEquals(42L, IdCursor.decode(IdCursor.encode(42L)));
+        assertEquals(0L, IdCursor.decode(null));
+        assertThrows(BusinessRuleException.class, () -> IdCursor.decode("not-base64!"));
+    }
+
+    @Test
+    void of_shouldPointTheCursorAtTheLastRowWhenAnotherPageExists() {
+        List<Long> ids = List.of(9L, 8L, 7L);
+
+        CursorPage<Long> page = CursorPage.of(ids, 2, id -> new KeysetCursor(AT, id).encode());
+
+        assertEquals(List.of(9L, 8L), page.getContent());
+        assertEquals(new KeysetCursor(AT, 8L), KeysetCursor.decode(page.getNextCursor()));
+    }
+
+    @Test
+    void of_shouldEndWithoutCursorOnTheLastPage() {
+        CursorPage<Long> page = CursorPage.of(List.of(9L, 8L), 2, IdCursor::encode);
+
+        assertEquals(List.of(9L, 8L), page.getContent());
+        assertNull(page.getNextCursor());
+    }
+}
@@ -0,0 +1,128 @@
+package com.volunteerconnect.backend.dto.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.volunteerconnect.backend.config.tracing.Spans;
+import com.volunteerconnect.backend.dto.EventResponse;
+import com.volunteerconnect.backend.dto.UserSummaryDto;
+import com.volunteerconnect.backend.dto.organization.OrganizationSummaryDto;
+import io.opentelemetry.api.OpenTelemetry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.StringWriter;
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The writer must produce exactly what the ObjectMapper Spring Boot configures for the controllers produces.
+ */
+class EventResponseJsonWriterTests {
+
+    private static final Type EVENT_LIST = new ParameterizedTypeReference<List<EventResponse>>() { }.getType();
+
+    // Spring Boot's defaults: Jackson2ObjectMapperBuilder plus ISO dates instead of timestamp arrays
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final Spans spans = new Spans(OpenTelemetry.noop());
+
+    private static UserSummaryDto user(long id) {
+        return new UserSummaryDto(id, "user" + id, "user" + id + "@example.org", "First " + id, "Last " + id);
+    }
+
+    private static EventResponse event(int rosterSize) {
+        List<UserSummaryDto> roster = new ArrayList<>();
+        for (int i = 0; i < rosterSize; i++) {
+            roster.add(user(100 + i));
+        }
+        return EventResponse.builder()
+                .id(7L)
+                .title("Beach \"clean-up\" ☀")
+                .description("Line one\nline two\t<b>&</b> \u0001")
+                .eventDate(LocalDateTime.of(2025, 6, 1, 9, 30))
+                .location("Pier 3")
+                .capacity(25)
+                .active(true)
+                .requiredSkills("lifting,first aid")
+                .organizer(user(1))
+                .organization(new OrganizationSummaryDto(2L, "Green Coast", "hello@greencoast.org"))
+                .registeredCount(rosterSize)
+                .registeredVolunteers(roster)
+                .build();
+    }
+
+    private String write(EventResponse event) throws Exception {
+        StringWriter out = new StringWriter();
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out)) {
+            EventResponseJsonWriter.writeEvent(gen, event);
+        }
+        return out.toString();
+    }
+
+    @Test
+    void writeEvent_shouldMatchObjectMapper() throws Exception {
+        EventResponse event = event(3);
+
+        assertEquals(objectMapper.writeValueAsString(event), write(event));
+    }
+
+    @Test
+    void writeEvent_shouldMatchObjectMapperForNullsAndEmptyRoster() throws Exception {
+        EventResponse empty = new EventResponse();
+        EventResponse noVolunteers = event(0);
+        noVolunteers.setOrganizer(new UserSummaryDto());
+
+        assertEquals(objectMapper.writeValueAsString(empty), write(empty));
+        assertEquals(objectMapper.writeValueAsString(noVolunteers), write(noVolunteers));
+    }
+
+    @Test
+    void writeEvent_shouldFormatDatesLikeJavaTimeModule() throws Exception {
+        EventResponse event = event(0);
+        for (LocalDateTime date : List.of(
+                LocalDateTime.of(2025, 1, 1, 0, 0),
+                LocalDateTime.of(2025, 1, 1, 10, 15, 30),
+                LocalDateTime.of(2025, 1, 1, 10, 15, 30, 120_000_000))) {
+            event.setEventDate(date);
+            assertEquals(objectMapper.writeValueAsString(event), write(event), date.toString());
+        }
+    }
+
+    @Test
+    void converter_shouldWriteEventListsLikeObjectMapper() throws Exception {
+        EventResponseHttpMessageConverter converter =
+                new EventResponseHttpMessageConverter(objectMapper.getFactory(), true, true, spans);
+        List<EventResponse> events = List.of(event(2), event(0), new EventResponse());
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        assertTrue(converter.canWrite(EVENT_LIST, events.getClass(), MediaType.APPLICATION_JSON));
+        converter.write(events, EVENT_LIST, MediaType.APPLICATION_JSON, output);
+
+        assertEquals(objectMapper.writeValueAsString(events), output.getBodyAsString());
+    }
+
+    @Test
+    void converter_shouldOnlyClaimEnabledEventPayloads() {
+        EventResponseHttpMessageConverter listsOnly =
+                new EventResponseHttpMessageConverter(objectMapper.getFactory(), true, false, spans);
+        EventResponseHttpMessageConverter detailsOnly =
+                new EventResponseHttpMessageConverter(objectMapper.getFactory(), false, true, spans);
+
+        assertTrue(listsOnly.canWrite(EVENT_LIST, ArrayList.class, MediaType.APPLICATION_JSON));
+        assertFalse(listsOnly.canWrite(EventResponse.class, EventResponse.class, MediaType.APPLICATION_JSON));
+        assertFalse(detailsOnly.canWrite(EVENT_LIST, ArrayList.class, MediaType.APPLICATION_JSON));
+        assertTrue(detailsOnly.canWrite(EventResponse.class, EventResponse.class, MediaType.APPLICATION_JSON));
+        assertFalse(detailsOnly.canWrite(UserSummaryDto.class, UserSummaryDto.class, MediaType.APPLICATION_JSON));
+        assertFalse(detailsOnly.canWrite(EventResponse.class, EventResponse.class, MediaType.APPLICATION_XML));
+        assertFalse(detailsOnly.canRead(EventResponse.class, null, MediaType.APPLICATION_JSON));
+    }
+}
@@ -0,0 +1,50 @@
+package com.volunteerconnect.backend.exception;
+
+import com.volunteerconnect.backend.dto.ErrorResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GlobalExceptionHandlerTests {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    void domainExceptions_shouldNotCaptureStackTraces() {
+        assertEquals(0, new ResourceNotFoundException("Event not found with id: 1").getStackTrace().length);
+        assertEquals(0, EventFullException.INSTANCE.getStackTrace().length);
+    }
+
+    @Test
+    void handleDomainException_shouldWriteStatusAndMessage() {
+        ResponseEntity<ErrorResponse> response = handler.handleDomainException(AlreadyRegisteredException.INSTANCE);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("Volunteer is already registered for this event.", response.getBody().getMessage());
+    }
+
+    @Test
+    void handleDomainException_shouldMapNotFoundTo404() {
+        ResponseEntity<ErrorResponse> response = handler.handleDomainException(new ResourceNotFoundException("Event not found with id: 7"));
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals("Event not found with id: 7", response.getBody().getMessage());
+    }
+
+    @Test
+    void handleDatabaseUnavailable_shouldAskTheClientToRetry() {
+        ResponseEntity<ErrorResponse> response = handler.handleDatabaseUnavailable(new CannotCreateTransactionException(
+                "Could not open JPA EntityManager for transaction",
+                new SQLTransientConnectionException("HikariPool-1 - Connection is not available, request timed out after 2000ms")));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals(GlobalExceptionHandler.RETRY_AFTER_SECONDS, response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+}
@@ -0,0 +1,126 @@
+package com.volunteerconnect.backend.security.ratelimit;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTests {
+
+    private static final int MAX_INSPECTED_BODY_BYTES = 64;
+
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+        rule.setPattern("/api/auth/login");
+        rule.setMethods(List.of("POST"));
+        rule.setKey(RateLimitProperties.KeyType.USERNAME);
+        rule.setCapacity(1);
+        rule.setRefillPeriod(Duration.ofMinutes(1));
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setMaxInspectedBodyBytes(MAX_INSPECTED_BODY_BYTES);
+        properties.setRules(List.of(rule));
+        filter = new RateLimitFilter(properties, new TokenBucketRateLimiter(1_000, 1, System::nanoTime), new JsonFactory());
+    }
+
+    @Test
+    void chunkedLogin_shouldBeLimitedPerUsername() throws Exception {
+        String body = "{\"username\":\"alice\",\"password\":\"secret\"}";
+
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(chunkedLogin(body, "10.0.0.1"), first, chain);
+        assertEquals(200, first.getStatus());
+        assertEquals(body, readBody(chain.getRequest()));
+
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        filter.doFilter(chunkedLogin(body, "10.0.0.2"), second, new MockFilterChain());
+        assertEquals(429, second.getStatus());
+    }
+
+    @Test
+    void chunkedLogin_shouldPassOversizedBodiesThroughWhole() throws Exception {
+        String body = "{\"username\":\"alice\",\"password\":\"" + "x".repeat(MAX_INSPECTED_BODY_BYTES) + "\"}";
+
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain();
+            filter.doFilter(chunkedLogin(body, "10.0.0.1"), response, chain);
+            assertEquals(200, response.getStatus(), "an uninspected body is not limited per username");
+            assertEquals(body, readBody(chain.getRequest()));
+        }
+    }
+
+    @Test
+    void cachedBody_shouldSupportAsyncReads() throws Exception {
+        String body = "{\"username\":\"alice\",\"password\":\"secret\"}";
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(chunkedLogin(body, "10.0.0.1"), new MockHttpServletResponse(), chain);
+
+        ServletInputStream in = chain.getRequest().getInputStream();
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        AtomicBoolean allDataRead = new AtomicBoolean();
+        in.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                byte[] buffer = new byte[16];
+                int n;
+                while (in.isReady() && (n = in.read(buffer)) != -1) {
+                    read.write(buffer, 0, n);
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                allDataRead.set(true);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                fail(t);
+            }
+        });
+
+        assertTrue(allDataRead.get());
+        assertTrue(in.isFinished());
+        assertEquals(body, read.toString(StandardCharsets.UTF_8));
+    }
+
+    private static MockHttpServletRequest chunkedLogin(String body, String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login") {
+            @Override
+            public long getContentLengthLong() {
+                return -1; // Transfer-Encoding: chunked
+            }
+
+            @Override
+            public int getContentLength() {
+                return -1;
+            }
+        };
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        request.setContentType("application/json");
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+
+    private static String readBody(ServletRequest request) throws Exception {
+        return new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+    }
+}
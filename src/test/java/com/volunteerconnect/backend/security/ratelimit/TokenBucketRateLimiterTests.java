@@ -0,0 +1,111 @@
+package com.volunteerconnect.backend.security.ratelimit;
+
+import com.volunteerconnect.backend.security.ratelimit.TokenBucketRateLimiter.BucketKey;
+import com.volunteerconnect.backend.security.ratelimit.TokenBucketRateLimiter.Limit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketRateLimiterTests {
+
+    private static final long MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    private AtomicLong now;
+    private TokenBucketRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+        limiter = new TokenBucketRateLimiter(1_000, 4, now::get);
+    }
+
+    @Test
+    void tryAcquire_shouldAllowBurstUpToCapacity() {
+        BucketKey key = new BucketKey(0, "10.0.0.1");
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, limiter.tryAcquire(key, 5, MINUTE), "request " + i + " should be admitted");
+        }
+        long wait = limiter.tryAcquire(key, 5, MINUTE);
+        assertTrue(wait > 0);
+        assertTrue(wait <= MINUTE / 5);
+    }
+
+    @Test
+    void tryAcquire_shouldRefillOverTime() {
+        BucketKey key = new BucketKey(0, "10.0.0.1");
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire(key, 5, MINUTE);
+        }
+        assertTrue(limiter.tryAcquire(key, 5, MINUTE) > 0);
+
+        now.addAndGet(MINUTE / 5);
+        assertEquals(0, limiter.tryAcquire(key, 5, MINUTE));
+        assertTrue(limiter.tryAcquire(key, 5, MINUTE) > 0);
+    }
+
+    @Test
+    void tryAcquire_shouldKeepClientsAndRulesIndependent() {
+        for (int i = 0; i < 2; i++) {
+            limiter.tryAcquire(new BucketKey(0, "10.0.0.1"), 2, MINUTE);
+        }
+        assertTrue(limiter.tryAcquire(new BucketKey(0, "10.0.0.1"), 2, MINUTE) > 0);
+        assertEquals(0, limiter.tryAcquire(new BucketKey(0, "10.0.0.2"), 2, MINUTE));
+        assertEquals(0, limiter.tryAcquire(new BucketKey(1, "10.0.0.1"), 2, MINUTE));
+    }
+
+    @Test
+    void tryAcquire_shouldStayBoundedAndExpireRefilledBuckets() {
+        for (int i = 0; i < 5_000; i++) {
+            limiter.tryAcquire(new BucketKey(0, "client-" + i), 3, MINUTE);
+        }
+        assertTrue(limiter.size() <= 1_000);
+
+        // Once every bucket has refilled, a full stripe is swept instead of overflowing
+        now.addAndGet(2 * MINUTE);
+        limiter.tryAcquire(new BucketKey(0, "late-client"), 3, MINUTE);
+        assertTrue(limiter.size() < 1_000);
+    }
+
+    @Test
+    void tryAcquireAll_shouldTakeNothingWhenOneLimitRejects() {
+        Limit perIp = new Limit(new BucketKey(0, "10.0.0.1"), 5, MINUTE);
+        Limit perUser = new Limit(new BucketKey(1, "alice"), 1, MINUTE);
+        assertEquals(0, limiter.tryAcquireAll(List.of(perIp, perUser)));
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquireAll(List.of(perIp, perUser)) > 0); // alice is over her limit
+        }
+        // The rejected attempts did not count against the IP: 4 of its 5 tokens are left
+        for (int i = 0; i < 4; i++) {
+            assertEquals(0, limiter.tryAcquire(perIp.key(), 5, MINUTE));
+        }
+        assertTrue(limiter.tryAcquire(perIp.key(), 5, MINUTE) > 0);
+    }
+
+    @Test
+    void tryAcquire_shouldNotEvictDrainedBucketsToMakeRoom() {
+        TokenBucketRateLimiter small = new TokenBucketRateLimiter(4, 1, now::get);
+        Limit alice = new Limit(new BucketKey(1, "alice"), 1, MINUTE / 2);
+        assertEquals(0, small.tryAcquireAll(List.of(alice)));
+
+        // Rotating keys fills the table
+        for (int i = 0; i < 100; i++) {
+            small.tryAcquire(new BucketKey(0, "attacker-" + i), 1, MINUTE);
+        }
+        assertTrue(small.size() <= 4);
+
+        // alice's drawn-down bucket was kept, so she is still locked out instead of starting over
+        assertTrue(small.tryAcquireAll(List.of(alice)) > 0);
+        // New keys are refused, with a retry hint no longer than a sweep interval, until buckets refill
+        long wait = small.tryAcquire(new BucketKey(0, "10.0.0.9"), 1, MINUTE);
+        assertTrue(wait > 0 && wait <= TimeUnit.SECONDS.toNanos(1));
+
+        now.addAndGet(MINUTE);
+        assertEquals(0, small.tryAcquire(new BucketKey(0, "10.0.0.9"), 1, MINUTE));
+    }
+}
@@ -0,0 +1,44 @@
+package com.volunteerconnect.backend.service;
+
+import com.volunteerconnect.backend.exception.BusinessRuleException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvReaderTests {
+
+    @Test
+    void next_shouldHandleQuotesEscapedQuotesAndLineBreaksInsideQuotes() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\uFEFFa,b,c\r\n\"x, y\",\"say \"\"hi\"\"\",\"two\nlines\"\n\nlast,,\n"));
+
+        assertEquals(List.of("a", "b", "c"), reader.next());
+        assertEquals(1, reader.recordLine());
+        assertEquals(List.of("x, y", "say \"hi\"", "two\nlines"), reader.next());
+        assertEquals(2, reader.recordLine());
+        assertEquals(List.of("last", "", ""), reader.next());
+        assertEquals(5, reader.recordLine()); // The quoted line break and the blank line are counted
+        assertNull(reader.next());
+    }
+
+    @Test
+    void next_shouldReadALastRecordWithoutLineBreak() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("a\rb"));
+
+        assertEquals(List.of("a"), reader.next());
+        assertEquals(List.of("b"), reader.next());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void next_shouldRejectAnUnterminatedQuote() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("ok\n\"open,\nstill open"));
+
+        reader.next();
+        BusinessRuleException e = assertThrows(BusinessRuleException.class, reader::next);
+        assertTrue(e.getMessage().startsWith("Line 2"));
+    }
+}
@@ -0,0 +1,95 @@
+package com.volunteerconnect.backend.service;
+
+import com.volunteerconnect.backend.config.tracing.Spans;
+import com.volunteerconnect.backend.dto.EventResponse;
+import com.volunteerconnect.backend.model.Event;
+import com.volunteerconnect.backend.model.EventRegistration;
+import com.volunteerconnect.backend.model.RegistrationStatus;
+import com.volunteerconnect.backend.model.Role;
+import com.volunteerconnect.backend.model.User;
+import com.volunteerconnect.backend.model.organization.Organization;
+import com.volunteerconnect.backend.repository.EventRegistrationRepository;
+import com.volunteerconnect.backend.repository.EventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.api.OpenTelemetry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * registeredCount, the embedded roster and the paged roster come from three different queries; on the Flyway schema
+ * (in-memory H2) they have to agree on which registrations count.
+ */
+@DataJpaTest
+class EventRosterConsistencyTests {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventRegistrationRepository eventRegistrationRepository;
+
+    private EventService eventService;
+
+    @BeforeEach
+    void setUp() {
+        eventService = new EventServiceImpl(eventRepository, null, null, eventRegistrationRepository,
+                new RegistrationMetrics(new SimpleMeterRegistry()), null, null, null, null, new Spans(OpenTelemetry.noop()));
+        ReflectionTestUtils.setField(eventService, "maxPageSize", 100);
+    }
+
+    @Test
+    void rosterAndRegisteredCount_shouldAgreeAfterACancellation() {
+        Organization organization = entityManager.persist(Organization.builder().name("Green Coast").build());
+        User organizer = entityManager.persist(user("organizer", Role.ORGANIZER));
+        Event event = entityManager.persist(Event.builder()
+                .title("Beach clean-up")
+                .location("North beach")
+                .eventDate(LocalDateTime.of(2031, 6, 1, 9, 0))
+                .capacity(10)
+                .active(true)
+                .organization(organization)
+                .organizer(organizer)
+                .build());
+        List<EventRegistration> registrations = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            registrations.add(entityManager.persist(EventRegistration.builder()
+                    .event(event)
+                    .volunteer(entityManager.persist(user("volunteer" + i, Role.VOLUNTEER)))
+                    .status(RegistrationStatus.CONFIRMED)
+                    .build()));
+        }
+        registrations.get(1).setStatus(RegistrationStatus.CANCELLED);
+        entityManager.flush();
+        entityManager.clear();
+
+        EventResponse summary = eventService.getEventById(event.getId(), false);
+        EventResponse detail = eventService.getEventById(event.getId(), true);
+        int pagedRosterSize = eventService.getEventVolunteers(event.getId(), null, null, 100).getContent().size();
+
+        assertEquals(2, summary.getRegisteredCount());
+        assertEquals(summary.getRegisteredCount(), pagedRosterSize);
+        assertEquals(summary.getRegisteredCount(), detail.getRegisteredVolunteers().size());
+    }
+
+    private static User user(String username, Role role) {
+        return User.builder()
+                .username(username)
+                .password("x")
+                .email(username + "@example.org")
+                .role(role)
+                .build();
+    }
+}
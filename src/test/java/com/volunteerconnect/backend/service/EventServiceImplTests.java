@@ -0,0 +1,152 @@
+package com.volunteerconnect.backend.service;
+
+import com.volunteerconnect.backend.config.tracing.Spans;
+import com.volunteerconnect.backend.dto.CursorPage;
+import com.volunteerconnect.backend.dto.EventResponse;
+import com.volunteerconnect.backend.dto.IdCursor;
+import com.volunteerconnect.backend.dto.OrganizerEventResponse;
+import com.volunteerconnect.backend.dto.PageResponse;
+import com.volunteerconnect.backend.dto.UserSummaryDto;
+import com.volunteerconnect.backend.exception.BusinessRuleException;
+import com.volunteerconnect.backend.exception.ResourceNotFoundException;
+import com.volunteerconnect.backend.model.Event;
+import com.volunteerconnect.backend.model.RegistrationStatus;
+import com.volunteerconnect.backend.repository.EventRegistrationRepository;
+import com.volunteerconnect.backend.repository.EventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.api.OpenTelemetry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class EventServiceImplTests {
+
+    private static final Long ORGANIZER_ID = 5L;
+
+    private final EventRepository eventRepository = mock(EventRepository.class);
+    private final EventRegistrationRepository eventRegistrationRepository = mock(EventRegistrationRepository.class);
+    private final EventService eventService = new EventServiceImpl(eventRepository, null, null, eventRegistrationRepository,
+            new RegistrationMetrics(new SimpleMeterRegistry()), null, null, null, null, new Spans(OpenTelemetry.noop()));
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(eventService, "maxPageSize", 100);
+    }
+
+    private static EventRepository.OrganizerEventRow row(Long id, String title) {
+        EventRepository.OrganizerEventRow row = mock(EventRepository.OrganizerEventRow.class);
+        when(row.getId()).thenReturn(id);
+        when(row.getTitle()).thenReturn(title);
+        when(row.getCapacity()).thenReturn(40);
+        when(row.getOrganizationId()).thenReturn(1L);
+        when(row.getOrganizationName()).thenReturn("Green Coast");
+        return row;
+    }
+
+    private static EventRegistrationRepository.EventStatusCount count(Long eventId, RegistrationStatus status, long registrations) {
+        EventRegistrationRepository.EventStatusCount count = mock(EventRegistrationRepository.EventStatusCount.class);
+        when(count.getEventId()).thenReturn(eventId);
+        when(count.getStatus()).thenReturn(status);
+        when(count.getRegistrations()).thenReturn(registrations);
+        return count;
+    }
+
+    @Test
+    void getEventsByOrganizer_shouldAttachGroupedCountsToEachRow() {
+        Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "eventDate"));
+        List<EventRepository.OrganizerEventRow> rows = List.of(row(11L, "Beach clean-up"), row(12L, "Food drive"));
+        List<EventRegistrationRepository.EventStatusCount> counts = List.of(
+                count(11L, RegistrationStatus.CONFIRMED, 12), count(11L, RegistrationStatus.PENDING, 3));
+        when(eventRepository.findOrganizerEvents(eq(ORGANIZER_ID), any(Pageable.class))).thenReturn(new PageImpl<>(rows, pageable, 2));
+        when(eventRegistrationRepository.countByStatusForEvents(List.of(11L, 12L))).thenReturn(counts);
+
+        PageResponse<OrganizerEventResponse> page = eventService.getEventsByOrganizer(ORGANIZER_ID, pageable);
+
+        assertEquals(2, page.getTotalElements());
+        Map<RegistrationStatus, Long> first = page.getContent().get(0).getRegistrationsByStatus();
+        assertEquals(Map.of(RegistrationStatus.PENDING, 3L, RegistrationStatus.CONFIRMED, 12L,
+                RegistrationStatus.CANCELLED, 0L, RegistrationStatus.REJECTED, 0L), first);
+        assertEquals(0L, page.getContent().get(1).getRegistrationsByStatus().get(RegistrationStatus.CONFIRMED));
+        assertEquals("Green Coast", page.getContent().get(1).getOrganization().getName());
+        verify(eventRegistrationRepository, times(1)).countByStatusForEvents(any());
+    }
+
+    @Test
+    void getEventsByOrganizer_shouldBreakTiesById() {
+        when(eventRepository.findOrganizerEvents(eq(ORGANIZER_ID), any(Pageable.class))).thenReturn(new PageImpl<>(List.of()));
+
+        eventService.getEventsByOrganizer(ORGANIZER_ID, PageRequest.of(2, 20, Sort.by("eventDate")));
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(eventRepository).findOrganizerEvents(eq(ORGANIZER_ID), pageable.capture());
+        assertEquals(Sort.by("eventDate").and(Sort.by("id")), pageable.getValue().getSort());
+        assertEquals(2, pageable.getValue().getPageNumber());
+        verifyNoInteractions(eventRegistrationRepository); // Empty page: no count query
+    }
+
+    @Test
+    void getEventsByOrganizer_shouldRejectUnsortableProperties() {
+        assertThrows(BusinessRuleException.class,
+                () -> eventService.getEventsByOrganizer(ORGANIZER_ID, PageRequest.of(0, 20, Sort.by("description"))));
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void getEventById_shouldCountRegistrationsWithoutLoadingTheRoster() {
+        Event event = mock(Event.class);
+        when(event.getId()).thenReturn(11L);
+        when(eventRepository.findById(11L)).thenReturn(Optional.of(event));
+        when(eventRegistrationRepository.countActiveByEventId(11L)).thenReturn(250L);
+
+        EventResponse response = eventService.getEventById(11L, false);
+
+        assertEquals(250L, response.getRegisteredCount());
+        assertNull(response.getRegisteredVolunteers());
+        verify(event, never()).getRegisteredVolunteers();
+    }
+
+    @Test
+    void getEventVolunteers_shouldFetchOneExtraRowAndContinueAfterTheLastId() {
+        List<UserSummaryDto> volunteers = List.of(volunteer(3L), volunteer(8L), volunteer(9L));
+        when(eventRegistrationRepository.findVolunteerPage(11L, EnumSet.of(RegistrationStatus.CONFIRMED), 2L, Limit.of(3)))
+                .thenReturn(volunteers);
+
+        CursorPage<UserSummaryDto> page = eventService.getEventVolunteers(11L, RegistrationStatus.CONFIRMED, IdCursor.encode(2L), 2);
+
+        assertEquals(List.of(3L, 8L), page.getContent().stream().map(UserSummaryDto::getId).toList());
+        assertEquals(8L, IdCursor.decode(page.getNextCursor()));
+        verify(eventRepository, never()).existsById(any()); // Non-empty page: the event obviously exists
+    }
+
+    @Test
+    void getEventVolunteers_shouldReportUnknownEventsOnlyWhenThePageIsEmpty() {
+        when(eventRegistrationRepository.findVolunteerPage(eq(11L), any(), eq(0L), any())).thenReturn(List.of());
+        when(eventRepository.existsById(11L)).thenReturn(true);
+
+        CursorPage<UserSummaryDto> page = eventService.getEventVolunteers(11L, null, null, 20);
+
+        assertTrue(page.getContent().isEmpty());
+        assertNull(page.getNextCursor());
+        assertThrows(ResourceNotFoundException.class, () -> eventService.getEventVolunteers(12L, null, null, 20));
+    }
+
+    private static UserSummaryDto volunteer(Long id) {
+        return UserSummaryDto.builder().id(id).username("volunteer" + id).build();
+    }
+}
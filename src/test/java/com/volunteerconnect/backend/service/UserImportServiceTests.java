@@ -0,0 +1,111 @@
+package com.volunteerconnect.backend.service;
+
+import com.volunteerconnect.backend.dto.UserImportResponse;
+import com.volunteerconnect.backend.exception.BusinessRuleException;
+import com.volunteerconnect.backend.repository.UserRepository;
+import com.volunteerconnect.backend.service.availability.AvailabilityService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class UserImportServiceTests {
+
+    private static final String HEADER = "username,email,password,first_name,last_name,role\n";
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+    private final AvailabilityService availabilityService = mock(AvailabilityService.class);
+    private final JdbcOperations jdbcOperations = mock(JdbcOperations.class);
+    private final UserImportService importService = new UserImportService(userRepository, passwordEncoder,
+            availabilityService, jdbcOperations, TransactionOperations.withoutTransaction(), 2, 2);
+
+    @BeforeEach
+    void setUp() {
+        when(passwordEncoder.encode(any())).thenAnswer(invocation -> "hash:" + invocation.getArgument(0));
+        when(userRepository.findExistingUsernames(any())).thenReturn(List.of());
+        when(userRepository.findExistingEmails(any())).thenReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        importService.shutdown();
+    }
+
+    private UserImportResponse importCsv(String csv) throws IOException {
+        return importService.importUsers(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importUsers_shouldInsertValidRowsInBatchesWithHashedPasswords() throws IOException {
+        UserImportResponse report = importCsv(HEADER
+                + "ann,ann@example.org,pw1,Ann,Lee,\n"
+                + "bob,bob@example.org,pw2,Bob,,organizer\n"
+                + "cat,cat@example.org,pw3,,,\n");
+
+        assertEquals(3, report.getRows());
+        assertEquals(3, report.getImported());
+        assertEquals(0, report.getFailed());
+        ArgumentCaptor<List<Object[]>> batches = ArgumentCaptor.forClass(List.class);
+        verify(jdbcOperations, times(2)).batchUpdate(anyString(), batches.capture()); // Batch size 2
+        Object[] bob = batches.getAllValues().get(0).get(1);
+        assertEquals("bob", bob[0]);
+        assertEquals("hash:pw2", bob[1]);
+        assertEquals("ORGANIZER", bob[5]);
+        verify(userRepository, times(2)).findExistingUsernames(any()); // One IN query per batch
+        verify(availabilityService).record("cat", "cat@example.org");
+    }
+
+    @Test
+    void importUsers_shouldReportInvalidDuplicateAndTakenRowsByLine() throws IOException {
+        when(userRepository.findExistingEmails(any())).thenReturn(List.of("taken@example.org"));
+
+        UserImportResponse report = importCsv(HEADER
+                + "ann,ann@example.org,pw1,,,\n"      // line 2
+                + ",nobody@example.org,pw,,,\n"        // line 3: no username
+                + "ann,other@example.org,pw,,,\n"      // line 4: same username as line 2
+                + "dan,not-an-email,pw,,,\n"           // line 5
+                + "eve,taken@example.org,pw,,,\n"      // line 6: email registered already
+                + "fay,fay@example.org,pw,,,admin\n"); // line 7: role not importable
+
+        assertEquals(6, report.getRows());
+        assertEquals(1, report.getImported());
+        assertEquals(List.of(3L, 4L, 5L, 6L, 7L), report.getErrors().stream().map(UserImportResponse.RowError::getLine).toList());
+        assertEquals(UniqueUserConstraints.EMAIL_TAKEN, report.getErrors().get(3).getMessage());
+        verify(passwordEncoder, times(1)).encode(any()); // Rejected rows are never hashed
+    }
+
+    @Test
+    void importUsers_shouldRetryRowByRowWhenTheBatchHitsAConstraint() throws IOException {
+        when(jdbcOperations.batchUpdate(anyString(), anyList())).thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(jdbcOperations.update(anyString(), any(Object[].class)))
+                .thenReturn(1)
+                .thenThrow(new DataIntegrityViolationException("duplicate key value violates unique constraint \"uk_users_username\""));
+
+        UserImportResponse report = importCsv(HEADER + "ann,ann@example.org,pw1,,,\nbob,bob@example.org,pw2,,,\n");
+
+        assertEquals(1, report.getImported());
+        assertEquals(UniqueUserConstraints.USERNAME_TAKEN, report.getErrors().get(0).getMessage());
+        assertEquals("bob", report.getErrors().get(0).getUsername());
+    }
+
+    @Test
+    void importUsers_shouldRejectAHeaderWithoutRequiredColumns() {
+        assertThrows(BusinessRuleException.class, () -> importCsv("username,email\nann,ann@example.org\n"));
+        verifyNoInteractions(jdbcOperations);
+    }
+}
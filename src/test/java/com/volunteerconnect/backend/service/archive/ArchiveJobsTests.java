@@ -0,0 +1,53 @@
+package com.volunteerconnect.backend.service.archive;
+
+import com.volunteerconnect.backend.dto.archive.ArchiveRunResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ArchiveJobsTests {
+
+    private final ArchiveService archiveService = mock(ArchiveService.class);
+    private final ArchiveJobs archiveJobs = new ArchiveJobs(archiveService);
+
+    @AfterEach
+    void tearDown() {
+        archiveJobs.shutdown();
+    }
+
+    @Test
+    void start_shouldRefuseWhileARunIsInProgressWhateverStartedIt() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(archiveService.archive()).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return ArchiveRunResponse.builder().complete(true).build();
+        });
+
+        archiveJobs.archive(); // Scheduled run
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertFalse(archiveJobs.start()); // Manual run while it is going
+        archiveJobs.archive(); // Next scheduled run while it is going
+
+        release.countDown();
+        verify(archiveService, timeout(5_000).times(1)).archive();
+        assertTrue(waitUntilStartable(), "a new run can start once the previous one is done");
+        verify(archiveService, timeout(5_000).times(2)).archive();
+    }
+
+    private boolean waitUntilStartable() throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            if (archiveJobs.start()) {
+                return true;
+            }
+            Thread.sleep(10);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,71 @@
+package com.volunteerconnect.backend.service.archive;
+
+import com.volunteerconnect.backend.dto.archive.ArchiveRunResponse;
+import com.volunteerconnect.backend.model.RegistrationStatus;
+import com.volunteerconnect.backend.repository.EventRegistrationRepository;
+import com.volunteerconnect.backend.repository.EventRepository;
+import com.volunteerconnect.backend.repository.archive.ArchivedEventRegistrationRepository;
+import com.volunteerconnect.backend.repository.archive.ArchivedEventRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ArchiveServiceImplTests {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-06-01T12:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+
+    private final EventRepository eventRepository = mock(EventRepository.class);
+    private final EventRegistrationRepository eventRegistrationRepository = mock(EventRegistrationRepository.class);
+    private final ArchivedEventRepository archivedEventRepository = mock(ArchivedEventRepository.class);
+    private final ArchivedEventRegistrationRepository archivedRegistrationRepository = mock(ArchivedEventRegistrationRepository.class);
+
+    private ArchiveService archiveService(Duration maxRunTime) {
+        return new ArchiveServiceImpl(eventRepository, eventRegistrationRepository, archivedEventRepository,
+                archivedRegistrationRepository, TransactionOperations.withoutTransaction(), CLOCK,
+                Duration.ofDays(365), Duration.ofDays(90), 2, maxRunTime);
+    }
+
+    @Test
+    void archive_shouldMoveChunksUntilOneComesBackShort() {
+        when(eventRepository.lockIdsOfEventsBefore(NOW.minusDays(365), Limit.of(2))).thenReturn(List.of(1L, 2L), List.of(3L));
+        when(archivedRegistrationRepository.copyFromRegistrationsOfEvents(any(), eq(NOW))).thenReturn(5, 1);
+        when(eventRegistrationRepository.lockIdsByStatusBefore(RegistrationStatus.CANCELLED, NOW.minusDays(90), Limit.of(2)))
+                .thenReturn(List.of(40L, 41L), List.of());
+
+        ArchiveRunResponse run = archiveService(Duration.ofMinutes(10)).archive();
+
+        assertEquals(3, run.getEvents());
+        assertEquals(6, run.getRegistrations());
+        assertEquals(2, run.getCancelledRegistrations());
+        assertTrue(run.isComplete());
+        // Every chunk copies before it deletes
+        var order = inOrder(archivedEventRepository, eventRegistrationRepository, eventRepository);
+        order.verify(archivedEventRepository).copyFromEvents(List.of(1L, 2L), NOW);
+        order.verify(eventRegistrationRepository).deleteByEventIds(List.of(1L, 2L));
+        order.verify(eventRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(archivedRegistrationRepository).copyFromRegistrations(List.of(40L, 41L), NOW);
+        verify(eventRegistrationRepository).deleteAllByIdInBatch(List.of(40L, 41L));
+    }
+
+    @Test
+    void archive_shouldStopBetweenChunksOnceTheRunTimeIsUsedUp() {
+        ArchiveRunResponse run = archiveService(Duration.ZERO).archive();
+
+        assertFalse(run.isComplete());
+        assertEquals(0, run.getEvents());
+        verifyNoInteractions(eventRepository, eventRegistrationRepository, archivedEventRepository, archivedRegistrationRepository);
+    }
+}
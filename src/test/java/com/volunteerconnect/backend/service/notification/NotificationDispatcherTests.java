@@ -0,0 +1,91 @@
+package com.volunteerconnect.backend.service.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.volunteerconnect.backend.model.notification.NotificationType;
+import com.volunteerconnect.backend.model.notification.OutboxNotification;
+import com.volunteerconnect.backend.model.notification.OutboxStatus;
+import com.volunteerconnect.backend.repository.notification.OutboxNotificationRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class NotificationDispatcherTests {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-06-01T12:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+
+    private final OutboxNotificationRepository outboxRepository = mock(OutboxNotificationRepository.class);
+    private final NotificationSender sender = mock(NotificationSender.class);
+    private final NotificationDispatcher dispatcher = new NotificationDispatcher(outboxRepository, new NotificationTemplates(),
+            sender, new ObjectMapper(), TransactionOperations.withoutTransaction(), CLOCK, 2, 3,
+            Duration.ofSeconds(30), Duration.ofMinutes(1), Duration.ofMinutes(5), Duration.ofMinutes(1), Duration.ofDays(7));
+
+    private static OutboxNotification notification(Long id, int attempts) {
+        return OutboxNotification.builder()
+                .id(id)
+                .type(NotificationType.REGISTRATION_CONFIRMED)
+                .recipientEmail("volunteer" + id + "@example.org")
+                .recipientName("Sam")
+                .eventId(11L)
+                .params("{\"title\":\"Beach clean-up\",\"eventDate\":\"Saturday 6 June 2026, 09:00\",\"location\":\"North pier\"}")
+                .status(OutboxStatus.PENDING)
+                .attempts(attempts)
+                .build();
+    }
+
+    @Test
+    void dispatch_shouldClaimBatchesUntilOneComesBackShortAndRenderTheTemplate() throws Exception {
+        when(outboxRepository.lockDue(OutboxStatus.PENDING, NOW, 3, Limit.of(2)))
+                .thenReturn(List.of(notification(1L, 0), notification(2L, 0)), List.of(notification(3L, 0)));
+
+        assertEquals(3, dispatcher.dispatch());
+
+        verify(outboxRepository).claim(List.of(1L, 2L), NOW.plusMinutes(5));
+        verify(outboxRepository).markSent(List.of(1L, 2L), NOW);
+        verify(outboxRepository).markSent(List.of(3L), NOW);
+        ArgumentCaptor<NotificationMessage> message = ArgumentCaptor.forClass(NotificationMessage.class);
+        verify(sender, times(3)).send(message.capture());
+        assertEquals("You're confirmed for Beach clean-up", message.getValue().subject());
+        assertTrue(message.getValue().body().startsWith("Hi Sam,"));
+        assertTrue(message.getValue().body().contains("Where: North pier"));
+    }
+
+    @Test
+    void dispatch_shouldBackOffExponentiallyAndGiveUpAfterMaxAttempts() throws Exception {
+        when(outboxRepository.lockDue(any(), any(), anyInt(), any())).thenReturn(List.of(notification(1L, 1), notification(2L, 2)), List.of());
+        doThrow(new IllegalStateException("mailbox full")).when(sender).send(any());
+
+        assertEquals(0, dispatcher.dispatch());
+
+        verify(outboxRepository).markFailed(eq(1L), eq(OutboxStatus.PENDING), eq(NOW.plusMinutes(1)), anyString()); // 30s doubled
+        verify(outboxRepository).markFailed(eq(2L), eq(OutboxStatus.FAILED), eq(NOW), anyString());
+        verify(outboxRepository, never()).markSent(any(), any());
+        assertEquals(Duration.ofMinutes(1), dispatcher.backoff(10)); // Capped at max-backoff
+    }
+
+    @Test
+    void dispatch_shouldGiveUpOnRowsWhoseClaimsRanOut() {
+        when(outboxRepository.failExhausted(eq(3), eq(NOW), anyString())).thenReturn(1);
+        when(outboxRepository.lockDue(any(), any(), anyInt(), any())).thenReturn(List.of());
+
+        assertEquals(0, dispatcher.dispatch());
+
+        verify(outboxRepository).failExhausted(eq(3), eq(NOW), anyString());
+        verify(outboxRepository).lockDue(OutboxStatus.PENDING, NOW, 3, Limit.of(2)); // Never re-claims them
+    }
+}
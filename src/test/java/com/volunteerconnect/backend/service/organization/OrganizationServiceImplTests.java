@@ -0,0 +1,123 @@
+package com.volunteerconnect.backend.service.organization;
+
+import com.volunteerconnect.backend.config.CacheConfig;
+import com.volunteerconnect.backend.dto.PageResponse;
+import com.volunteerconnect.backend.dto.organization.OrganizationRequest;
+import com.volunteerconnect.backend.dto.organization.OrganizationResponse;
+import com.volunteerconnect.backend.exception.BusinessRuleException;
+import com.volunteerconnect.backend.exception.DuplicateResourceException;
+import com.volunteerconnect.backend.model.organization.Organization;
+import com.volunteerconnect.backend.repository.organization.OrganizationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig({CacheConfig.class, OrganizationServiceImpl.class})
+class OrganizationServiceImplTests {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20, Sort.by("name"));
+
+    @MockitoBean
+    private OrganizationRepository organizationRepository;
+
+    @MockitoBean
+    private OrganizationStatsService organizationStatsService;
+
+    @Autowired
+    private OrganizationService organizationService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.ORGANIZATION_PAGES).clear();
+        when(organizationRepository.findAll(any(Pageable.class))).thenAnswer(invocation -> new PageImpl<>(
+                List.of(organization(1L, "Green Coast"), organization(2L, "Riverside Food Bank")),
+                invocation.getArgument(0), 2));
+        when(organizationRepository.save(any(Organization.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private static Organization organization(Long id, String name) {
+        return Organization.builder().id(id).name(name).contactEmail("hello@example.org").build();
+    }
+
+    private static OrganizationRequest request(String name) {
+        OrganizationRequest request = new OrganizationRequest();
+        request.setName(name);
+        request.setActive(true);
+        return request;
+    }
+
+    @Test
+    void getOrganizations_shouldServeRepeatedPagesFromCache() {
+        PageResponse<OrganizationResponse> first = organizationService.getOrganizations(FIRST_PAGE);
+        PageResponse<OrganizationResponse> second = organizationService.getOrganizations(PageRequest.of(0, 20, Sort.by("name")));
+
+        assertSame(first, second);
+        assertEquals(List.of("Green Coast", "Riverside Food Bank"), first.getContent().stream().map(OrganizationResponse::getName).toList());
+        assertEquals(2, first.getTotalElements());
+        verify(organizationRepository, times(1)).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void getOrganizations_shouldCacheEachPageAndSortSeparately() {
+        organizationService.getOrganizations(FIRST_PAGE);
+        organizationService.getOrganizations(PageRequest.of(1, 20, Sort.by("name")));
+        organizationService.getOrganizations(PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "name")));
+
+        verify(organizationRepository, times(3)).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void writes_shouldEvictCachedPages() {
+        when(organizationRepository.findByName(any())).thenReturn(Optional.empty());
+        when(organizationRepository.findById(1L)).thenReturn(Optional.of(organization(1L, "Green Coast")));
+        when(organizationRepository.existsById(1L)).thenReturn(true);
+
+        organizationService.getOrganizations(FIRST_PAGE);
+        organizationService.createOrganization(request("Blue Harbour"));
+        organizationService.getOrganizations(FIRST_PAGE);
+        organizationService.updateOrganization(1L, request("Green Coast Trust"));
+        organizationService.getOrganizations(FIRST_PAGE);
+        organizationService.deleteOrganization(1L);
+        organizationService.getOrganizations(FIRST_PAGE);
+
+        verify(organizationRepository, times(4)).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void updateOrganization_shouldRejectDuplicateNamesAndKeepCachedPages() {
+        when(organizationRepository.findById(1L)).thenReturn(Optional.of(organization(1L, "Green Coast")));
+        when(organizationRepository.findByName("Riverside Food Bank")).thenReturn(Optional.of(organization(2L, "Riverside Food Bank")));
+
+        organizationService.getOrganizations(FIRST_PAGE);
+        assertThrows(DuplicateResourceException.class,
+                () -> organizationService.updateOrganization(1L, request("Riverside Food Bank")));
+        organizationService.getOrganizations(FIRST_PAGE);
+
+        verify(organizationRepository, never()).save(any());
+        verify(organizationRepository, times(1)).findAll(any(Pageable.class)); // Nothing changed, nothing evicted
+    }
+
+    @Test
+    void getOrganizations_shouldRejectUnsortableProperties() {
+        assertThrows(BusinessRuleException.class,
+                () -> organizationService.getOrganizations(PageRequest.of(0, 20, Sort.by("description"))));
+        verify(organizationRepository, never()).findAll(any(Pageable.class));
+    }
+}
@@ -0,0 +1,149 @@
+package com.volunteerconnect.backend.service.organization;
+
+import com.volunteerconnect.backend.dto.organization.OrganizationStatsResponse;
+import com.volunteerconnect.backend.model.Event;
+import com.volunteerconnect.backend.model.EventRegistration;
+import com.volunteerconnect.backend.model.RegistrationStatus;
+import com.volunteerconnect.backend.model.User;
+import com.volunteerconnect.backend.model.organization.Organization;
+import com.volunteerconnect.backend.model.organization.OrganizationStats;
+import com.volunteerconnect.backend.repository.EventRegistrationRepository;
+import com.volunteerconnect.backend.repository.archive.ArchivedEventRegistrationRepository;
+import com.volunteerconnect.backend.repository.organization.OrganizationStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OrganizationStatsServiceImplTests {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-06-01T12:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+    private static final Long ORGANIZATION_ID = 3L;
+
+    private final OrganizationStatsRepository statsRepository = mock(OrganizationStatsRepository.class);
+    private final EventRegistrationRepository eventRegistrationRepository = mock(EventRegistrationRepository.class);
+    private final ArchivedEventRegistrationRepository archivedRegistrationRepository = mock(ArchivedEventRegistrationRepository.class);
+    private final OrganizationStatsService statsService =
+            new OrganizationStatsServiceImpl(statsRepository, eventRegistrationRepository, archivedRegistrationRepository, CLOCK);
+
+    @BeforeEach
+    void setUp() {
+        when(statsRepository.adjustEvents(any(), anyLong(), anyLong(), anyLong(), any())).thenReturn(1);
+        when(statsRepository.adjustRegistrations(any(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong(), any())).thenReturn(1);
+    }
+
+    private static Event event(int capacity, boolean active, LocalDateTime eventDate) {
+        return Event.builder()
+                .id(10L)
+                .capacity(capacity)
+                .active(active)
+                .eventDate(eventDate)
+                .organization(Organization.builder().id(ORGANIZATION_ID).name("Green Coast").build())
+                .build();
+    }
+
+    private static EventRegistration registration(RegistrationStatus status) {
+        return EventRegistration.builder()
+                .id(100L)
+                .event(event(20, true, NOW.plusDays(1)))
+                .volunteer(User.builder().id(7L).build())
+                .status(status)
+                .build();
+    }
+
+    @Test
+    void eventCreated_shouldCountUpcomingEventsAndCapacity() {
+        statsService.eventCreated(event(20, true, NOW.plusDays(1)));
+        statsService.eventCreated(event(15, true, NOW.minusDays(1)));
+
+        verify(statsRepository).adjustEvents(ORGANIZATION_ID, 1, 1, 20, NOW);
+        verify(statsRepository).adjustEvents(ORGANIZATION_ID, 1, 0, 15, NOW);
+    }
+
+    @Test
+    void eventUpdated_shouldApplyOnlyTheDifference() {
+        statsService.eventUpdated(event(30, false, NOW.plusDays(1)), 20, true, NOW.plusDays(1));
+        statsService.eventUpdated(event(30, true, NOW.plusDays(2)), 30, true, NOW.plusDays(1));
+
+        verify(statsRepository).adjustEvents(ORGANIZATION_ID, 0, -1, 10, NOW);
+        verifyNoMoreInteractions(statsRepository); // The second update changes no total
+    }
+
+    @Test
+    void eventDeleting_shouldRemoveTheEventsRegistrations() {
+        EventRegistrationRepository.StatusCount confirmed = mock(EventRegistrationRepository.StatusCount.class);
+        when(confirmed.getStatus()).thenReturn(RegistrationStatus.CONFIRMED);
+        when(confirmed.getRegistrations()).thenReturn(4L);
+        when(eventRegistrationRepository.countByStatusForEvent(10L)).thenReturn(List.of(confirmed));
+        when(eventRegistrationRepository.countVolunteersOnlyAtEvent(eq(10L), any())).thenReturn(3L);
+
+        statsService.eventDeleting(event(20, true, NOW.plusDays(1)));
+
+        verify(statsRepository).adjustEvents(ORGANIZATION_ID, -1, -1, -20, NOW);
+        verify(statsRepository).adjustRegistrations(ORGANIZATION_ID, 0, -4, 0, 0, -3, NOW);
+    }
+
+    @Test
+    void registrationCreated_shouldCountAVolunteerOncePerOrganization() {
+        when(eventRegistrationRepository.existsOtherForOrganization(eq(7L), eq(ORGANIZATION_ID), any(), eq(100L)))
+                .thenReturn(false, true);
+
+        statsService.registrationCreated(registration(RegistrationStatus.PENDING));
+        statsService.registrationCreated(registration(RegistrationStatus.PENDING));
+
+        verify(statsRepository).adjustRegistrations(ORGANIZATION_ID, 1, 0, 0, 0, 1, NOW);
+        verify(statsRepository).adjustRegistrations(ORGANIZATION_ID, 1, 0, 0, 0, 0, NOW);
+    }
+
+    @Test
+    void registrationCreated_shouldNotRecountAVolunteerWithAnArchivedRegistration() {
+        when(eventRegistrationRepository.existsOtherForOrganization(any(), any(), any(), any())).thenReturn(false);
+        when(archivedRegistrationRepository.existsByVolunteerIdAndOrganizationIdAndStatusIn(eq(7L), eq(ORGANIZATION_ID), any()))
+                .thenReturn(true);
+
+        statsService.registrationCreated(registration(RegistrationStatus.PENDING));
+
+        verify(statsRepository).adjustRegistrations(ORGANIZATION_ID, 1, 0, 0, 0, 0, NOW);
+    }
+
+    @Test
+    void registrationStatusChanged_shouldMoveTheCountAndDropAVolunteerWithoutOtherRegistrations() {
+        when(eventRegistrationRepository.existsOtherForOrganization(any(), any(), any(), any())).thenReturn(false);
+
+        statsService.registrationStatusChanged(registration(RegistrationStatus.CANCELLED), RegistrationStatus.PENDING);
+        statsService.registrationStatusChanged(registration(RegistrationStatus.CONFIRMED), RegistrationStatus.PENDING);
+
+        verify(statsRepository).adjustRegistrations(ORGANIZATION_ID, -1, 0, 1, 0, -1, NOW);
+        verify(statsRepository).adjustRegistrations(ORGANIZATION_ID, -1, 1, 0, 0, 0, NOW); // Still active: no lookup needed
+        verify(eventRegistrationRepository, times(1)).existsOtherForOrganization(any(), any(), any(), any());
+    }
+
+    @Test
+    void getStats_shouldComputeTheFillRateFromTheRow() {
+        when(statsRepository.findById(ORGANIZATION_ID)).thenReturn(Optional.of(OrganizationStats.builder()
+                .organizationId(ORGANIZATION_ID)
+                .eventsHosted(2)
+                .totalCapacity(40)
+                .pendingRegistrations(2)
+                .confirmedRegistrations(8)
+                .cancelledRegistrations(5)
+                .updatedAt(NOW)
+                .build()));
+
+        OrganizationStatsResponse stats = statsService.getStats(ORGANIZATION_ID);
+
+        assertEquals(0.25, stats.getAverageFillRate());
+        assertEquals(5L, stats.getRegistrationsByStatus().get(RegistrationStatus.CANCELLED));
+        assertEquals(0L, stats.getRegistrationsByStatus().get(RegistrationStatus.REJECTED));
+    }
+}
@@ -0,0 +1,139 @@
+package com.volunteerconnect.backend.service.recommendation;
+
+import com.volunteerconnect.backend.dto.recommendation.RecommendedEventResponse;
+import com.volunteerconnect.backend.model.Event;
+import com.volunteerconnect.backend.model.EventRegistration;
+import com.volunteerconnect.backend.model.RegistrationStatus;
+import com.volunteerconnect.backend.model.User;
+import com.volunteerconnect.backend.model.organization.Organization;
+import com.volunteerconnect.backend.repository.EventRegistrationRepository;
+import com.volunteerconnect.backend.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class RecommendationServiceImplTests {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-06-01T12:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+    private static final Long VOLUNTEER_ID = 7L;
+
+    private final EventRepository eventRepository = mock(EventRepository.class);
+    private final EventRegistrationRepository eventRegistrationRepository = mock(EventRegistrationRepository.class);
+    private final RecommendationService recommendationService = new RecommendationServiceImpl(eventRepository,
+            eventRegistrationRepository, CLOCK, 2, Duration.ofDays(30), 100, Duration.ofHours(6), Runnable::run);
+
+    @BeforeEach
+    void setUp() {
+        // Registered before: event 1 (first aid, organization 1)
+        List<EventRegistrationRepository.VolunteerHistoryRow> history = List.of(history(1L, "First aid", 1L));
+        when(eventRegistrationRepository.findHistoryOfVolunteer(VOLUNTEER_ID)).thenReturn(history);
+        List<EventRepository.CandidateRow> candidates = List.of(
+                candidate(1L, "First aid", 1L),            // Already registered
+                candidate(2L, "Driving", 2L),              // Nothing in common
+                candidate(3L, "first aid, Driving", 2L),   // Skill match
+                candidate(4L, "Cooking", 1L));             // Organization match
+        when(eventRepository.findRecommendationCandidates(NOW)).thenReturn(candidates);
+        recommendationService.refresh();
+    }
+
+    private static EventRegistrationRepository.VolunteerHistoryRow history(Long eventId, String skills, Long organizationId) {
+        EventRegistrationRepository.VolunteerHistoryRow row = mock(EventRegistrationRepository.VolunteerHistoryRow.class);
+        when(row.getEventId()).thenReturn(eventId);
+        when(row.getStatus()).thenReturn(RegistrationStatus.CONFIRMED);
+        when(row.getRequiredSkills()).thenReturn(skills);
+        when(row.getOrganizationId()).thenReturn(organizationId);
+        return row;
+    }
+
+    private static EventRepository.CandidateRow candidate(Long id, String skills, Long organizationId) {
+        EventRepository.CandidateRow row = mock(EventRepository.CandidateRow.class);
+        when(row.getId()).thenReturn(id);
+        when(row.getTitle()).thenReturn("Event " + id);
+        when(row.getEventDate()).thenReturn(NOW.plusDays(id));
+        when(row.getRequiredSkills()).thenReturn(skills);
+        when(row.getCreatedDate()).thenReturn(NOW.minusDays(1));
+        when(row.getOrganizationId()).thenReturn(organizationId);
+        return row;
+    }
+
+    private static Event event(Long id, String skills, boolean active, int daysCreatedAgo) {
+        return Event.builder()
+                .id(id)
+                .title("Event " + id)
+                .eventDate(NOW.plusDays(id))
+                .requiredSkills(skills)
+                .active(active)
+                .createdDate(NOW.minusDays(daysCreatedAgo))
+                .organization(Organization.builder().id(2L).name("Food bank").build())
+                .build();
+    }
+
+    private List<Long> feed() {
+        return recommendationService.getRecommendations(VOLUNTEER_ID, 10).stream().map(RecommendedEventResponse::getId).toList();
+    }
+
+    @Test
+    void getRecommendations_shouldRankBySkillsThenOrganizationAndLoadTheHistoryOnce() {
+        List<RecommendedEventResponse> feed = recommendationService.getRecommendations(VOLUNTEER_ID, 10);
+
+        assertEquals(List.of(3L, 4L), feed.stream().map(RecommendedEventResponse::getId).toList());
+        assertEquals(List.of("first aid"), feed.get(0).getMatchedSkills());
+        assertEquals(1, feed.get(1).getOrganizationHistory());
+        assertEquals(List.of(3L), recommendationService.getRecommendations(VOLUNTEER_ID, 1).stream()
+                .map(RecommendedEventResponse::getId).toList());
+        verify(eventRegistrationRepository, times(1)).findHistoryOfVolunteer(VOLUNTEER_ID);
+    }
+
+    @Test
+    void eventSaved_shouldUpdateHeldFeedsWithoutQueries() {
+        feed();
+
+        recommendationService.eventSaved(event(5L, "First aid", true, 0));
+        assertEquals(List.of(5L, 3L), feed()); // Same skill match as 3, but newer
+
+        recommendationService.eventSaved(event(5L, "First aid", false, 0));
+        assertEquals(List.of(3L, 4L), feed()); // Deactivated: the list is refilled from the candidates in memory
+
+        verify(eventRegistrationRepository, times(1)).findHistoryOfVolunteer(any());
+        verify(eventRepository, times(1)).findRecommendationCandidates(any()); // The refresh in setUp
+    }
+
+    @Test
+    void refresh_shouldRescoreHeldFeedsAgainstTheNewPoolWithoutReloadingThem() {
+        feed();
+        List<EventRepository.CandidateRow> reloaded = List.of(
+                candidate(2L, "Driving", 2L),
+                candidate(4L, "Cooking", 1L),
+                candidate(6L, "First aid", 3L));
+        when(eventRepository.findRecommendationCandidates(NOW)).thenReturn(reloaded);
+
+        recommendationService.refresh();
+
+        assertEquals(List.of(6L, 4L), feed()); // 3 is gone, 6 is new
+        verify(eventRegistrationRepository, times(1)).findHistoryOfVolunteer(VOLUNTEER_ID);
+    }
+
+    @Test
+    void registrationCreated_shouldDropTheEventAndLearnItsSkills() {
+        feed();
+
+        recommendationService.registrationCreated(EventRegistration.builder()
+                .event(event(3L, "first aid, Driving", true, 1))
+                .volunteer(User.builder().id(VOLUNTEER_ID).build())
+                .status(RegistrationStatus.PENDING)
+                .build());
+
+        assertEquals(List.of(2L, 4L), feed()); // Driving is now one of the volunteer's skills
+    }
+}
@@ -0,0 +1,84 @@
+package com.volunteerconnect.backend.service.stream;
+
+import com.volunteerconnect.backend.exception.BusinessRuleException;
+import com.volunteerconnect.backend.repository.EventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class EventStreamServiceTests {
+
+    private final EventRepository eventRepository = mock(EventRepository.class);
+    private final EventStreamService eventStreamService = new EventStreamService(eventRepository, Duration.ofMinutes(30),
+            2, 3, new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        eventStreamService.shutdown();
+    }
+
+    @Test
+    void flush_shouldCoalesceChangesIntoOneQueryForSubscribedEventsOnly() {
+        eventStreamService.subscribe(List.of(1L, 2L));
+        clearInvocations(eventRepository);
+
+        for (int i = 0; i < 50; i++) {
+            eventStreamService.eventChanged(1L);
+        }
+        eventStreamService.eventChanged(2L);
+        eventStreamService.eventChanged(9L); // Nobody follows it
+        eventStreamService.flush();
+
+        verify(eventRepository, times(1)).findLiveCounts(any());
+        verify(eventRepository).findLiveCounts(argThat(ids -> Set.copyOf(ids).equals(Set.of(1L, 2L))));
+        assertEquals(0, eventStreamService.flush()); // Nothing changed since
+        verifyNoMoreInteractions(eventRepository);
+    }
+
+    @Test
+    void subscribe_shouldLimitEventsPerStreamAndOpenStreams() {
+        assertThrows(BusinessRuleException.class,
+                () -> eventStreamService.subscribe(LongStream.rangeClosed(1, 4).boxed().toList()));
+        assertThrows(BusinessRuleException.class, () -> eventStreamService.subscribe(List.of()));
+
+        assertNotNull(eventStreamService.subscribe(List.of(1L)));
+        assertNotNull(eventStreamService.subscribe(List.of(1L)));
+        assertNull(eventStreamService.subscribe(List.of(1L))); // max-subscribers is 2
+        assertEquals(2, eventStreamService.getSubscriberCount());
+    }
+
+    @Test
+    void subscribe_shouldGiveTheSlotBackWhenTheSnapshotFails() {
+        when(eventRepository.findLiveCounts(any())).thenThrow(new IllegalStateException("pool exhausted"));
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(IllegalStateException.class, () -> eventStreamService.subscribe(List.of(1L)));
+        }
+        assertEquals(0, eventStreamService.getSubscriberCount());
+
+        eventStreamService.eventChanged(1L); // Nobody follows it any more
+        assertEquals(0, eventStreamService.flush());
+    }
+
+    @Test
+    void flush_shouldSendAnUpdateForEventsThatNoLongerExist() {
+        EventRepository.LiveCountRow row = mock(EventRepository.LiveCountRow.class);
+        when(row.getId()).thenReturn(1L);
+        eventStreamService.subscribe(List.of(1L, 2L));
+        when(eventRepository.findLiveCounts(any())).thenReturn(List.of(row)); // Event 2 was deleted
+
+        eventStreamService.eventChanged(1L);
+        eventStreamService.eventChanged(2L);
+
+        assertEquals(2, eventStreamService.flush());
+    }
+}